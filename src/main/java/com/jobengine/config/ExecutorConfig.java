@@ -1,13 +1,16 @@
 package com.jobengine.config;
 
+import com.jobengine.executor.timer.HierarchicalTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -19,6 +22,10 @@ import java.util.concurrent.TimeUnit;
  * <ul>
  *   <li><b>Platform Thread Pool:</b> A bounded ThreadPoolExecutor for THREAD_POOL mode</li>
  *   <li><b>Virtual Thread Executor:</b> An unbounded executor using virtual threads for ASYNC mode</li>
+ *   <li><b>Fork/Join Pool:</b> A dedicated work-stealing pool for FORK_JOIN mode</li>
+ *   <li><b>Hybrid CPU Stage:</b> A core-sized platform pool for the CPU stage of HYBRID mode</li>
+ *   <li><b>Reactive CPU Pool:</b> A core-sized platform pool for the CPU phase of REACTIVE mode</li>
+ *   <li><b>Job Timer:</b> A hierarchical timing wheel for delayed and scheduled work</li>
  * </ul>
  *
  * <h2>JVM Considerations</h2>
@@ -69,9 +76,14 @@ public class ExecutorConfig {
      *   <li>New tasks go to core threads (up to coreSize)</li>
      *   <li>If core threads are busy, tasks queue up (up to queueCapacity)</li>
      *   <li>If queue is full, new threads are created (up to maxSize)</li>
-     *   <li>If all threads are busy and queue is full, task is rejected</li>
+     *   <li>If all threads are busy and queue is full, task is rejected with
+     *       {@link java.util.concurrent.RejectedExecutionException} (AbortPolicy)</li>
      * </ol>
      *
+     * <p>Rejection is deliberate: with CallerRunsPolicy an overflowing job would run on
+     * the submitting thread - a Tomcat request thread - and stall the HTTP server.
+     * Overload is handled before the pool by admission control, which answers 429.</p>
+     *
      * @return configured ThreadPoolExecutor
      */
     @Bean(destroyMethod = "shutdown")
@@ -87,7 +99,7 @@ public class ExecutorConfig {
                 config.keepAliveSeconds(),
                 TimeUnit.SECONDS,
                 new LinkedBlockingQueue<>(config.queueCapacity()),
-                new ThreadPoolExecutor.CallerRunsPolicy()
+                new ThreadPoolExecutor.AbortPolicy()
         );
 
         // Allow core threads to timeout when idle
@@ -124,5 +136,112 @@ public class ExecutorConfig {
             return Executors.newCachedThreadPool();
         }
     }
-}
 
+    /**
+     * Creates the ForkJoinPool for the FORK_JOIN execution mode.
+     *
+     * <p>Dedicated rather than {@link ForkJoinPool#commonPool()}, so job CPU work neither
+     * competes with parallel streams elsewhere in the JVM nor inherits the common pool's
+     * sizing.</p>
+     *
+     * <h4>Key characteristics:</h4>
+     * <ul>
+     *   <li>One deque per worker; idle workers steal from the tail of busy ones</li>
+     *   <li>Split subtasks are pushed and popped LIFO by their owner, keeping data hot in cache</li>
+     *   <li>Workers are platform threads - appropriate for pure CPU work only</li>
+     * </ul>
+     *
+     * @return configured ForkJoinPool
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool forkJoinPool() {
+        var config = properties.getForkJoin();
+        int parallelism = config.parallelism() > 0
+                ? config.parallelism()
+                : Runtime.getRuntime().availableProcessors();
+
+        log.info("Creating ForkJoinPool: parallelism={}, splitThreshold={}",
+                parallelism, config.splitThreshold());
+
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Creates the CPU stage pool for the HYBRID execution mode.
+     *
+     * <p>Sized to the core count: the stage only runs CPU work, so more threads would
+     * add context switching without adding throughput. Its queue is unbounded - the
+     * bounded buffer of the pipeline is the hand-off to the I/O stage, owned by the
+     * executor.</p>
+     *
+     * @return configured ThreadPoolExecutor for the CPU stage
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor hybridCpuExecutor() {
+        var config = properties.getHybrid();
+        int threads = config.cpuThreads() > 0
+                ? config.cpuThreads()
+                : Runtime.getRuntime().availableProcessors();
+
+        log.info("Creating HYBRID CPU stage: threads={}, handoffCapacity={}, ioConcurrency={}",
+                threads, config.handoffCapacity(), config.ioConcurrency());
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("hybrid-cpu-", 0).factory()
+        );
+    }
+
+    /**
+     * Creates the CPU pool for the REACTIVE execution mode.
+     *
+     * <p>Sized to the core count like the HYBRID CPU stage. Its queue is unbounded: REACTIVE
+     * jobs hold no thread while they wait on I/O, so the only bound on in-flight jobs is
+     * admission control.</p>
+     *
+     * @return configured ThreadPoolExecutor for the CPU phase
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor reactiveCpuExecutor() {
+        var config = properties.getReactive();
+        int threads = config.cpuThreads() > 0
+                ? config.cpuThreads()
+                : Runtime.getRuntime().availableProcessors();
+
+        log.info("Creating REACTIVE CPU pool: threads={}", threads);
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("reactive-cpu-", 0).factory()
+        );
+    }
+
+    /**
+     * Creates the timer used for delayed and scheduled jobs.
+     *
+     * <p>Due tasks run on the {@link #virtualThreadExecutor() virtual thread executor}: they
+     * only hand a job to its executor, but SEQUENTIAL runs the job on the calling thread,
+     * which must not be the timer's clock. The same timer completes the simulated I/O of
+     * REACTIVE jobs.</p>
+     *
+     * @return started HierarchicalTimer
+     */
+    @Bean(destroyMethod = "shutdown")
+    public HierarchicalTimer jobTimer() {
+        var config = properties.getScheduler();
+
+        log.info("Creating job timer: tick={}ms, wheelSize={}, maxDelay={}s",
+                config.tickMs(), config.wheelSize(), config.maxDelaySeconds());
+
+        return new HierarchicalTimer("job-timer", Duration.ofMillis(config.tickMs()), config.wheelSize(),
+                virtualThreadExecutor());
+    }
+}
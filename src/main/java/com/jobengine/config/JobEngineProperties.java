@@ -3,6 +3,8 @@ package com.jobengine.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
@@ -22,13 +24,45 @@ public class JobEngineProperties {
     private final AsyncConfig async;
     private final CpuSimulationConfig cpuSimulation;
     private final IoSimulationConfig ioSimulation;
+    private final StorageConfig storage;
+    private final EventsConfig events;
+    private final IdConfig ids;
+    private final IngestConfig ingest;
+    private final ForkJoinConfig forkJoin;
+    private final HybridConfig hybrid;
+    private final AdmissionConfig admission;
+    private final PriorityConfig priority;
+    private final SchedulerConfig scheduler;
+    private final RecurringConfig recurring;
+    private final ReactiveConfig reactive;
+    private final RetryBudgetConfig retryBudget;
+    private final HedgeConfig hedge;
 
     public JobEngineProperties(ThreadPoolConfig threadPool, AsyncConfig async, 
-                               CpuSimulationConfig cpuSimulation, IoSimulationConfig ioSimulation) {
-        this.threadPool = threadPool != null ? threadPool : new ThreadPoolConfig(4, 16, 100, 60);
-        this.async = async != null ? async : new AsyncConfig(300, true);
-        this.cpuSimulation = cpuSimulation != null ? cpuSimulation : new CpuSimulationConfig(true, 10000, 100000);
+                               CpuSimulationConfig cpuSimulation, IoSimulationConfig ioSimulation,
+                               StorageConfig storage, EventsConfig events, IdConfig ids,
+                               IngestConfig ingest, ForkJoinConfig forkJoin, HybridConfig hybrid,
+                               AdmissionConfig admission, PriorityConfig priority,
+                               SchedulerConfig scheduler, RecurringConfig recurring,
+                               ReactiveConfig reactive, RetryBudgetConfig retryBudget,
+                               HedgeConfig hedge) {
+        this.threadPool = threadPool != null ? threadPool : new ThreadPoolConfig(4, 16, 100, 60, null);
+        this.async = async != null ? async : new AsyncConfig(300, true, null);
+        this.cpuSimulation = cpuSimulation != null ? cpuSimulation : new CpuSimulationConfig(true, 10000, 100000, PrimeAlgorithm.TRIAL_DIVISION);
         this.ioSimulation = ioSimulation != null ? ioSimulation : new IoSimulationConfig(50, 500, 0.0, 0.0, 5000);
+        this.storage = storage != null ? storage : new StorageConfig(100_000, 600);
+        this.events = events != null ? events : new EventsConfig(256, 300);
+        this.ids = ids != null ? ids : new IdConfig(IdScheme.UUID, 0);
+        this.ingest = ingest != null ? ingest : new IngestConfig(1000);
+        this.forkJoin = forkJoin != null ? forkJoin : new ForkJoinConfig(0, 100_000);
+        this.hybrid = hybrid != null ? hybrid : new HybridConfig(0, 256, 1000);
+        this.admission = admission != null ? admission : new AdmissionConfig(100_000, 60);
+        this.priority = priority != null ? priority : new PriorityConfig(2000);
+        this.scheduler = scheduler != null ? scheduler : new SchedulerConfig(10, 512, 604_800);
+        this.recurring = recurring != null ? recurring : new RecurringConfig(100_000, 100);
+        this.reactive = reactive != null ? reactive : new ReactiveConfig(0);
+        this.retryBudget = retryBudget != null ? retryBudget : new RetryBudgetConfig(true, 0.2, 100);
+        this.hedge = hedge != null ? hedge : new HedgeConfig(false, 0.95, 0.1, 50);
     }
 
     public ThreadPoolConfig getThreadPool() {
@@ -47,22 +81,96 @@ public class JobEngineProperties {
         return ioSimulation;
     }
 
+    public StorageConfig getStorage() {
+        return storage;
+    }
+
+    public EventsConfig getEvents() {
+        return events;
+    }
+
+    public IdConfig getIds() {
+        return ids;
+    }
+
+    public IngestConfig getIngest() {
+        return ingest;
+    }
+
+    public ForkJoinConfig getForkJoin() {
+        return forkJoin;
+    }
+
+    public HybridConfig getHybrid() {
+        return hybrid;
+    }
+
+    public AdmissionConfig getAdmission() {
+        return admission;
+    }
+
+    public PriorityConfig getPriority() {
+        return priority;
+    }
+
+    public SchedulerConfig getScheduler() {
+        return scheduler;
+    }
+
+    public RecurringConfig getRecurring() {
+        return recurring;
+    }
+
+    public ReactiveConfig getReactive() {
+        return reactive;
+    }
+
+    public RetryBudgetConfig getRetryBudget() {
+        return retryBudget;
+    }
+
+    public HedgeConfig getHedge() {
+        return hedge;
+    }
+
+    /**
+     * Algorithm used to count primes in the CPU simulation.
+     */
+    public enum PrimeAlgorithm {
+
+        /**
+         * Trial division of every candidate, O(n·√n). Reference workload the prime limits
+         * were calibrated against.
+         */
+        TRIAL_DIVISION,
+
+        /**
+         * Segmented, bit-packed, odd-only Sieve of Eratosthenes, O(n·log log n).
+         */
+        SIEVE
+    }
+
     /**
      * CPU simulation configuration for CPU-bound work.
      *
      * @param enabled       whether CPU simulation is enabled
      * @param minPrimeLimit minimum value for random prime calculation limit
      * @param maxPrimeLimit maximum value for random prime calculation limit
+     * @param algorithm     prime counting algorithm (default TRIAL_DIVISION)
      */
     public record CpuSimulationConfig(
             boolean enabled,
             @Min(100) int minPrimeLimit,
-            @Min(100) int maxPrimeLimit
+            @Min(100) int maxPrimeLimit,
+            PrimeAlgorithm algorithm
     ) {
         public CpuSimulationConfig {
             if (maxPrimeLimit < minPrimeLimit) {
                 throw new IllegalArgumentException("maxPrimeLimit must be >= minPrimeLimit");
             }
+            if (algorithm == null) {
+                algorithm = PrimeAlgorithm.TRIAL_DIVISION;
+            }
         }
     }
 
@@ -73,30 +181,132 @@ public class JobEngineProperties {
      * @param maxSize          maximum number of threads allowed
      * @param queueCapacity    size of the work queue
      * @param keepAliveSeconds time to keep idle threads alive
+     * @param limiter          concurrency limit for THREAD_POOL jobs (default: unlimited);
+     *                         capped at {@code maxSize + queueCapacity}
      */
     public record ThreadPoolConfig(
             @Min(1) @Max(100) int coreSize,
             @Min(1) @Max(500) int maxSize,
             @Min(1) @Max(10000) int queueCapacity,
-            @Positive int keepAliveSeconds
+            @Positive int keepAliveSeconds,
+            LimiterConfig limiter
     ) {
         public ThreadPoolConfig {
             if (maxSize < coreSize) {
                 throw new IllegalArgumentException("maxSize must be >= coreSize");
             }
+            if (limiter == null) {
+                limiter = LimiterConfig.unlimited();
+            }
         }
     }
 
     /**
      * Async execution configuration.
      *
-     * @param timeoutSeconds    maximum time to wait for job completion
+     * @param timeoutSeconds    default job deadline, counted from submission; enforced before
+     *                          the job starts and during its I/O phase
      * @param useVirtualThreads whether to use virtual threads (Java 21+)
+     * @param limiter           concurrency limit for ASYNC jobs (default: unlimited)
      */
     public record AsyncConfig(
             @Positive int timeoutSeconds,
-            boolean useVirtualThreads
-    ) {}
+            boolean useVirtualThreads,
+            LimiterConfig limiter
+    ) {
+        public AsyncConfig {
+            if (limiter == null) {
+                limiter = LimiterConfig.unlimited();
+            }
+        }
+    }
+
+    /**
+     * How an executor's concurrency limit is determined.
+     */
+    public enum LimitStrategy {
+
+        /**
+         * No limit - every submitted job starts immediately.
+         */
+        NONE,
+
+        /**
+         * Constant limit of {@code initialLimit} jobs in flight.
+         */
+        FIXED,
+
+        /**
+         * Additive increase, multiplicative decrease driven by I/O latency: +1 while the
+         * limit is in use, ×0.9 when a job's I/O exceeds {@code latencyThresholdMs}.
+         */
+        AIMD,
+
+        /**
+         * TCP Vegas: estimates the downstream queue from the minimum observed I/O latency
+         * and grows or shrinks the limit to keep it small.
+         */
+        VEGAS,
+
+        /**
+         * Netflix Gradient2: scales the limit by the ratio of long-term to short-term I/O
+         * latency, tolerating up to 1.5× drift before shrinking.
+         */
+        GRADIENT2
+    }
+
+    /**
+     * Concurrency limiter configuration.
+     *
+     * <p>Jobs over the limit wait in a FIFO queue, without a thread, until a running job
+     * of the same executor finishes.</p>
+     *
+     * @param strategy           how the limit is determined
+     * @param initialLimit       limit at startup (the constant limit for FIXED)
+     * @param minLimit           lower bound for adaptive strategies
+     * @param maxLimit           upper bound for adaptive strategies
+     * @param latencyThresholdMs I/O latency above which AIMD treats a job as an overload signal
+     *                           (VEGAS and GRADIENT2 derive their baseline from observed latency)
+     */
+    public record LimiterConfig(
+            LimitStrategy strategy,
+            @Min(1) int initialLimit,
+            @Min(1) int minLimit,
+            @Min(1) int maxLimit,
+            @Positive int latencyThresholdMs
+    ) {
+        public LimiterConfig {
+            if (strategy == null) {
+                strategy = LimitStrategy.NONE;
+            }
+            if (maxLimit < minLimit) {
+                throw new IllegalArgumentException("maxLimit must be >= minLimit");
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+            }
+        }
+
+        /**
+         * Returns a configuration with no concurrency limit.
+         *
+         * @return limiter configuration with strategy NONE
+         */
+        public static LimiterConfig unlimited() {
+            return new LimiterConfig(LimitStrategy.NONE, 1, 1, 1, 1000);
+        }
+
+        /**
+         * Returns this configuration with every limit lowered to at most {@code ceiling}.
+         *
+         * @param ceiling hard upper bound imposed by the executor
+         * @return the capped configuration
+         */
+        public LimiterConfig cappedAt(int ceiling) {
+            return new LimiterConfig(strategy, Math.min(initialLimit, ceiling), Math.min(minLimit, ceiling),
+                    Math.min(maxLimit, ceiling), latencyThresholdMs);
+        }
+    }
 
     /**
      * I/O simulation configuration for testing.
@@ -120,5 +330,185 @@ public class JobEngineProperties {
             }
         }
     }
-}
 
+    /**
+     * Job storage configuration.
+     *
+     * <p>Only terminal jobs (COMPLETED/FAILED/EXPIRED/TIMED_OUT) are subject to these limits;
+     * pending and running jobs are never evicted.</p>
+     *
+     * @param maxTerminalEntries maximum number of terminal jobs kept in memory
+     * @param terminalTtlSeconds time a terminal job is retained after completion
+     */
+    public record StorageConfig(
+            @Min(1) int maxTerminalEntries,
+            @Positive int terminalTtlSeconds
+    ) {}
+
+    /**
+     * Job event stream (SSE) configuration.
+     *
+     * @param bufferSize     events buffered per subscriber before new ones are dropped
+     * @param timeoutSeconds maximum lifetime of a subscription
+     */
+    public record EventsConfig(
+            @Min(1) @Max(100000) int bufferSize,
+            @Positive int timeoutSeconds
+    ) {}
+
+    /**
+     * Strategy for the job ids exposed through the API.
+     */
+    public enum IdScheme {
+
+        /**
+         * Random UUID strings (legacy format, 36 chars, generated with SecureRandom).
+         */
+        UUID,
+
+        /**
+         * Compact base-36 rendering of the time-ordered 64-bit job key.
+         */
+        SNOWFLAKE
+    }
+
+    /**
+     * Job id configuration.
+     *
+     * <p>Regardless of the scheme, jobs are stored and ordered by a Snowflake-like 64-bit key
+     * (timestamp, node, sequence); the scheme only controls the id shown to clients.</p>
+     *
+     * @param scheme id format exposed through the API
+     * @param nodeId node component of the key (0-1023), unique per engine instance
+     */
+    public record IdConfig(
+            IdScheme scheme,
+            @Min(0) @Max(1023) int nodeId
+    ) {
+        public IdConfig {
+            if (scheme == null) {
+                scheme = IdScheme.UUID;
+            }
+        }
+    }
+
+    /**
+     * Streaming (NDJSON) job ingestion configuration.
+     *
+     * @param maxInFlight jobs per ingestion stream that may be unfinished before reading
+     *                    from the client pauses
+     */
+    public record IngestConfig(
+            @Min(1) @Max(100000) int maxInFlight
+    ) {}
+
+    /**
+     * Fork/join configuration for FORK_JOIN execution mode.
+     *
+     * @param parallelism    worker threads of the dedicated ForkJoinPool (0 = available processors)
+     * @param splitThreshold largest prime range counted by a single task before it is split
+     */
+    public record ForkJoinConfig(
+            @Min(0) @Max(256) int parallelism,
+            @Min(1000) int splitThreshold
+    ) {}
+
+    /**
+     * Staged pipeline configuration for HYBRID execution mode.
+     *
+     * @param cpuThreads      platform threads of the CPU stage (0 = available processors)
+     * @param handoffCapacity jobs buffered between the CPU and I/O stages before the CPU stage blocks
+     * @param ioConcurrency   maximum jobs in the I/O stage at once (one virtual thread each)
+     */
+    public record HybridConfig(
+            @Min(0) @Max(256) int cpuThreads,
+            @Min(1) @Max(100000) int handoffCapacity,
+            @Min(1) @Max(100000) int ioConcurrency
+    ) {}
+
+    /**
+     * Admission control configuration, applied per execution mode.
+     *
+     * @param maxPendingPerMode    jobs a mode may hold admitted but unfinished (queued or
+     *                             running); submissions beyond it are rejected with 429
+     * @param maxRetryAfterSeconds upper bound for the {@code Retry-After} returned on rejection
+     */
+    public record AdmissionConfig(
+            @Min(1) int maxPendingPerMode,
+            @Min(1) @Max(3600) int maxRetryAfterSeconds
+    ) {}
+
+    /**
+     * Priority scheduling configuration for the limiter queues of THREAD_POOL and ASYNC.
+     *
+     * @param agingMs waiting time that makes up for one priority class: a job waiting this
+     *                much longer than a job one class above it is served first
+     */
+    public record PriorityConfig(
+            @Positive long agingMs
+    ) {}
+
+    /**
+     * Delayed job scheduling configuration (hierarchical timing wheel).
+     *
+     * @param tickMs          resolution of the finest wheel; jobs fire up to one tick late
+     * @param wheelSize       slots per wheel; each coarser wheel spans {@code tickMs × wheelSize}
+     *                        of the wheel below
+     * @param maxDelaySeconds furthest a job may be scheduled into the future
+     */
+    public record SchedulerConfig(
+            @Min(1) @Max(1000) long tickMs,
+            @Min(2) @Max(65536) int wheelSize,
+            @Positive long maxDelaySeconds
+    ) {}
+
+    /**
+     * Recurring job definitions configuration.
+     *
+     * @param maxDefinitions maximum number of active recurring definitions
+     * @param minFixedRateMs shortest fixed rate a definition may use
+     */
+    public record RecurringConfig(
+            @Min(1) int maxDefinitions,
+            @Min(1) long minFixedRateMs
+    ) {}
+
+    /**
+     * Event-driven configuration for REACTIVE execution mode.
+     *
+     * @param cpuThreads platform threads running the CPU phase (0 = available processors);
+     *                   the I/O phase holds no thread at all
+     */
+    public record ReactiveConfig(
+            @Min(0) @Max(256) int cpuThreads
+    ) {}
+
+    /**
+     * Token-bucket retry budget shared by every execution mode.
+     *
+     * @param enabled   whether retries are limited by the budget at all
+     * @param ratio     tokens earned per successful I/O call; each retry spends one, so in
+     *                  steady state retries stay below this fraction of successes
+     * @param maxTokens bucket capacity, the burst of retries allowed after a quiet period
+     */
+    public record RetryBudgetConfig(
+            boolean enabled,
+            @Min(0) @Max(1) double ratio,
+            @Min(1) int maxTokens
+    ) {}
+
+    /**
+     * Hedged I/O configuration, shared by every execution mode.
+     *
+     * @param enabled     whether slow I/O attempts are hedged
+     * @param percentile  running latency percentile after which a second attempt is launched
+     * @param budgetRatio hedges allowed per I/O call; each hedge spends one token
+     * @param maxTokens   hedge budget capacity, the burst of hedges allowed after a quiet period
+     */
+    public record HedgeConfig(
+            boolean enabled,
+            @DecimalMin("0.5") @DecimalMax("0.999") double percentile,
+            @Min(0) @Max(1) double budgetRatio,
+            @Min(1) int maxTokens
+    ) {}
+}
@@ -1,19 +1,32 @@
 package com.jobengine.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobengine.controller.dto.BatchResponse;
 import com.jobengine.controller.dto.BatchSubmitRequest;
+import com.jobengine.controller.dto.JobField;
 import com.jobengine.controller.dto.JobResponse;
 import com.jobengine.controller.dto.JobSubmitRequest;
 import com.jobengine.controller.dto.MetricsResponse;
+import com.jobengine.controller.dto.RecurringJobRequest;
+import com.jobengine.controller.dto.RecurringJobResponse;
+import com.jobengine.model.Batch;
 import com.jobengine.model.ExecutionMode;
 import com.jobengine.model.Job;
+import com.jobengine.model.JobPriority;
 import com.jobengine.model.JobResult;
 import com.jobengine.model.JobStatus;
+import com.jobengine.service.JobEventBroadcaster;
+import com.jobengine.service.JobIngestionService;
 import com.jobengine.service.JobService;
 import com.jobengine.service.MetricsService;
+import com.jobengine.service.RecurringJobService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,20 +36,31 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST controller for job management.
  *
  * <p>Provides endpoints for:</p>
  * <ul>
- *   <li>Submitting jobs for execution</li>
+ *   <li>Submitting jobs for execution, one per request or streamed as NDJSON</li>
  *   <li>Checking job status</li>
  *   <li>Retrieving job results</li>
- *   <li>Batch job submission for load testing</li>
+ *   <li>Streaming job status transitions (Server-Sent Events)</li>
+ *   <li>Batch job submission for load testing and batch progress tracking</li>
+ *   <li>Recurring job definitions (cron or fixed rate)</li>
  *   <li>Metrics comparison across execution modes</li>
  * </ul>
  *
@@ -48,12 +72,33 @@ public class JobController {
 
     private static final Logger log = LoggerFactory.getLogger(JobController.class);
 
+    /**
+     * Response header carrying the cursor of the next page of a job listing.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final long MAX_WAIT_MS = 60_000;
+
+    private static final long ASYNC_TIMEOUT_MARGIN_MS = 5_000;
+
     private final JobService jobService;
     private final MetricsService metricsService;
+    private final JobEventBroadcaster eventBroadcaster;
+    private final JobIngestionService ingestionService;
+    private final RecurringJobService recurringJobService;
+    private final ObjectMapper objectMapper;
 
-    public JobController(JobService jobService, MetricsService metricsService) {
+    public JobController(JobService jobService, MetricsService metricsService,
+                         JobEventBroadcaster eventBroadcaster, JobIngestionService ingestionService,
+                         RecurringJobService recurringJobService, ObjectMapper objectMapper) {
         this.jobService = jobService;
         this.metricsService = metricsService;
+        this.eventBroadcaster = eventBroadcaster;
+        this.ingestionService = ingestionService;
+        this.recurringJobService = recurringJobService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -64,15 +109,37 @@ public class JobController {
      */
     @PostMapping("/jobs")
     public ResponseEntity<JobResponse> submitJob(@Valid @RequestBody JobSubmitRequest request) {
-        log.info("Submitting job: name={}, mode={}", request.name(), request.executionMode());
+        log.info("Submitting job: name={}, mode={}, priority={}, deadlineMs={}, runAt={}, delayMs={}",
+                request.name(), request.executionMode(), request.priority(), request.deadlineMs(),
+                request.runAt(), request.delayMs());
 
-        Job job = jobService.submitJob(request.name(), request.payload(), request.executionMode());
+        Job job = jobService.submitJob(request.name(), request.payload(), request.executionMode(),
+                request.priority(), request.deadline(), request.scheduledAt());
 
         return ResponseEntity
                 .status(HttpStatus.ACCEPTED)
                 .body(JobResponse.from(job));
     }
 
+    /**
+     * Submits a stream of jobs, one {@link JobSubmitRequest} per NDJSON line.
+     *
+     * <p>Records are parsed and submitted as they arrive, and the id assigned to each one
+     * (or the reason it was rejected) is streamed back as NDJSON on the same connection.
+     * Reading pauses while too many of the stream's jobs are unfinished, see
+     * {@link JobIngestionService}.</p>
+     *
+     * @param body     the NDJSON request body
+     * @param response the response the outcomes are streamed to
+     * @throws IOException if the connection fails
+     */
+    @PostMapping(path = "/jobs", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void ingestJobs(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ingestionService.ingest(body, response.getOutputStream());
+    }
+
     /**
      * Retrieves a job by ID.
      *
@@ -113,6 +180,45 @@ public class JobController {
      */
     @GetMapping("/jobs/{id}/results")
     public ResponseEntity<JobResponse> getJobResult(@PathVariable String id) {
+        return resultResponse(id);
+    }
+
+    /**
+     * Waits for the result of a job (long-poll).
+     *
+     * <p>The request is parked on a {@link DeferredResult} until the job's result is stored
+     * or {@code waitMs} elapses; no servlet thread is held meanwhile. On timeout the response
+     * is the same as the non-waiting variant (202 with the current job state).</p>
+     *
+     * @param id     the job identifier
+     * @param waitMs maximum time to wait in milliseconds (0-60000)
+     * @return deferred job result
+     */
+    @GetMapping(path = "/jobs/{id}/results", params = "waitMs")
+    public DeferredResult<ResponseEntity<JobResponse>> awaitJobResult(@PathVariable String id,
+                                                                      @RequestParam long waitMs) {
+        if (waitMs < 0 || waitMs > MAX_WAIT_MS) {
+            throw new IllegalArgumentException("waitMs must be between 0 and " + MAX_WAIT_MS);
+        }
+
+        // The container checks async timeouts only about once per second, so the precise
+        // deadline comes from orTimeout on a copy; the container timeout is just a backstop
+        var deferred = new DeferredResult<ResponseEntity<JobResponse>>(waitMs + ASYNC_TIMEOUT_MARGIN_MS);
+        deferred.onTimeout(() -> deferred.setResult(resultResponse(id)));
+
+        var future = jobService.getResultFuture(id);
+        if (waitMs == 0 || future.isEmpty()) {
+            deferred.setResult(resultResponse(id));
+            return deferred;
+        }
+
+        future.get().copy()
+                .orTimeout(waitMs, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> deferred.setResult(resultResponse(id)));
+        return deferred;
+    }
+
+    private ResponseEntity<JobResponse> resultResponse(String id) {
         Optional<Job> job = jobService.getJob(id);
         Optional<JobResult> result = jobService.getJobResult(id);
 
@@ -130,69 +236,215 @@ public class JobController {
     }
 
     /**
-     * Lists all jobs.
+     * Streams job status transitions as Server-Sent Events.
+     *
+     * <p>Each event is named {@code status} and carries a {@link com.jobengine.model.JobEvent}.
+     * All filters are optional and combined with AND. When {@code jobId} is given (it may be
+     * repeated), the current status of each job is sent first and the stream ends once all
+     * of them are COMPLETED, FAILED, EXPIRED or TIMED_OUT. {@code batchId} follows the jobs
+     * of one batch.</p>
+     *
+     * @param jobId   only these jobs
+     * @param batchId only jobs of this batch
+     * @param mode    only jobs in this execution mode
+     * @param status  only transitions into these statuses
+     * @return the event stream
+     */
+    @GetMapping(path = "/jobs/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Set<String> jobId,
+            @RequestParam(required = false) String batchId,
+            @RequestParam(required = false) ExecutionMode mode,
+            @RequestParam(required = false) Set<JobStatus> status) {
+        return eventBroadcaster.subscribe(new JobEventBroadcaster.Filter(jobId, batchId, mode, status));
+    }
+
+    /**
+     * Lists jobs in creation order, one page at a time.
+     *
+     * <p>The response body is a JSON array streamed straight to the client; nothing
+     * beyond the page itself is materialized. When more jobs may follow, the cursor
+     * for the next page is returned in the {@value #NEXT_CURSOR_HEADER} header.</p>
      *
      * @param status optional filter by status
      * @param mode   optional filter by execution mode
-     * @return list of jobs
+     * @param cursor cursor from a previous page (omit for the first page)
+     * @param limit  page size (1-1000)
+     * @param fields optional comma-separated projection, e.g. {@code id,status}
+     * @return one page of jobs
      */
     @GetMapping("/jobs")
-    public ResponseEntity<List<JobResponse>> listJobs(
+    public ResponseEntity<StreamingResponseBody> listJobs(
             @RequestParam(required = false) JobStatus status,
-            @RequestParam(required = false) ExecutionMode mode) {
+            @RequestParam(required = false) ExecutionMode mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String fields) {
 
-        List<Job> jobs;
-        if (status != null) {
-            jobs = jobService.getJobsByStatus(status);
-        } else if (mode != null) {
-            jobs = jobService.getJobsByMode(mode);
-        } else {
-            jobs = List.copyOf(jobService.getAllJobs());
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
         }
 
-        List<JobResponse> responses = jobs.stream()
-                .map(job -> {
-                    Optional<JobResult> result = jobService.getJobResult(job.getId());
-                    return JobResponse.from(job, result.orElse(null));
-                })
-                .toList();
+        var afterKey = cursor != null ? decodeCursor(cursor) : null;
+        var projection = JobField.parse(fields);
+        List<Job> jobs = jobService.getJobsPage(status, mode, afterKey, limit);
+
+        var response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (jobs.size() == limit) {
+            response.header(NEXT_CURSOR_HEADER, Job.formatKey(jobs.getLast().getKey()));
+        }
 
-        return ResponseEntity.ok(responses);
+        return response.body(out -> writeJobs(out, jobs, projection));
+    }
+
+    private static long decodeCursor(String cursor) {
+        return Job.parseKey(cursor)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid cursor: " + cursor));
+    }
+
+    private void writeJobs(OutputStream out, List<Job> jobs, Set<JobField> fields) throws IOException {
+        try (JsonGenerator gen = objectMapper.createGenerator(out)) {
+            gen.writeStartArray();
+            for (Job job : jobs) {
+                gen.writeStartObject();
+                for (JobField field : fields) {
+                    gen.writeFieldName(field.jsonName());
+                    switch (field) {
+                        case ID -> gen.writeString(job.getId());
+                        case NAME -> gen.writeString(job.getName());
+                        case STATUS -> gen.writeObject(job.getStatus());
+                        case EXECUTION_MODE -> gen.writeObject(job.getExecutionMode());
+                        case PRIORITY -> gen.writeObject(job.getPriority());
+                        case DEADLINE -> gen.writeObject(job.getDeadline());
+                        case RUN_AT -> gen.writeObject(job.getRunAt());
+                        case ATTEMPTS -> gen.writeNumber(job.getAttempts());
+                        case CREATED_AT -> gen.writeObject(job.getCreatedAt());
+                        case STARTED_AT -> gen.writeObject(job.getStartedAt());
+                        case COMPLETED_AT -> gen.writeObject(job.getCompletedAt());
+                        case RESULT -> gen.writeObject(jobService.getJobResult(job.getId())
+                                .map(JobResponse.ResultDetails::from)
+                                .orElse(null));
+                    }
+                }
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
     }
 
     /**
      * Submits a batch of jobs for load testing.
      *
      * @param request batch parameters
-     * @return summary of created jobs
+     * @return handle of the created batch (one per mode when no mode is given)
      */
     @PostMapping("/jobs/batch")
     public ResponseEntity<Map<String, Object>> submitBatch(@Valid @RequestBody BatchSubmitRequest request) {
-        log.info("Submitting batch: count={}, mode={}", request.count(), request.executionMode());
+        log.info("Submitting batch: count={}, mode={}, priority={}",
+                request.count(), request.executionMode(), request.priority());
 
         if (request.executionMode() != null) {
-            List<Job> jobs = jobService.submitBatch(request.count(), request.executionMode());
+            Batch batch = jobService.submitBatch(request.count(), request.executionMode(), request.priority());
             return ResponseEntity
                     .status(HttpStatus.ACCEPTED)
                     .body(Map.of(
                             "message", "Batch submitted",
-                            "count", jobs.size(),
-                            "mode", request.executionMode(),
-                            "jobIds", jobs.stream().map(Job::getId).toList()
+                            "batchId", batch.getId(),
+                            "count", batch.getSize(),
+                            "mode", batch.getExecutionMode(),
+                            "priority", batch.getPriority()
                     ));
         } else {
-            Map<ExecutionMode, List<Job>> jobs = jobService.submitBatchAllModes(request.count());
+            Map<ExecutionMode, Batch> batches = jobService.submitBatchAllModes(request.count(), request.priority());
+            var batchIds = new EnumMap<ExecutionMode, String>(ExecutionMode.class);
+            var priorities = new EnumMap<ExecutionMode, JobPriority>(ExecutionMode.class);
+            batches.forEach((mode, batch) -> {
+                batchIds.put(mode, batch.getId());
+                priorities.put(mode, batch.getPriority());
+            });
             return ResponseEntity
                     .status(HttpStatus.ACCEPTED)
                     .body(Map.of(
                             "message", "Batch submitted for all modes",
                             "countPerMode", request.count(),
                             "totalJobs", request.count() * ExecutionMode.values().length,
-                            "modes", jobs.keySet()
+                            "batchIds", batchIds,
+                            "priorities", priorities
                     ));
         }
     }
 
+    /**
+     * Returns the aggregate progress of a batch.
+     *
+     * @param id the batch ID
+     * @return batch counters and execution time statistics
+     */
+    @GetMapping("/batches/{id}")
+    public ResponseEntity<BatchResponse> getBatch(@PathVariable String id) {
+        return jobService.getBatch(id)
+                .map(batch -> ResponseEntity.ok(BatchResponse.from(batch)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Creates a recurring job definition.
+     *
+     * @param request the definition parameters
+     * @return the created definition with its first fire time
+     */
+    @PostMapping("/recurring-jobs")
+    public ResponseEntity<RecurringJobResponse> createRecurringJob(@Valid @RequestBody RecurringJobRequest request) {
+        log.info("Creating recurring job: name={}, mode={}, cron={}, fixedRateMs={}, overlapPolicy={}",
+                request.name(), request.executionMode(), request.cron(), request.fixedRateMs(),
+                request.overlapPolicy());
+
+        var definition = recurringJobService.create(request.name(), request.payload(), request.executionMode(),
+                request.priority(), request.cron(), request.fixedRate(), request.overlapPolicy());
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(RecurringJobResponse.from(definition));
+    }
+
+    /**
+     * Lists all recurring job definitions.
+     *
+     * @return the definitions, oldest first
+     */
+    @GetMapping("/recurring-jobs")
+    public ResponseEntity<List<RecurringJobResponse>> listRecurringJobs() {
+        return ResponseEntity.ok(recurringJobService.list().stream()
+                .map(RecurringJobResponse::from)
+                .toList());
+    }
+
+    /**
+     * Returns a recurring job definition with its fire accounting.
+     *
+     * @param id the definition ID
+     * @return the definition
+     */
+    @GetMapping("/recurring-jobs/{id}")
+    public ResponseEntity<RecurringJobResponse> getRecurringJob(@PathVariable String id) {
+        return recurringJobService.get(id)
+                .map(definition -> ResponseEntity.ok(RecurringJobResponse.from(definition)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Deletes a recurring job definition. Jobs it already submitted keep running.
+     *
+     * @param id the definition ID
+     * @return the deleted definition
+     */
+    @DeleteMapping("/recurring-jobs/{id}")
+    public ResponseEntity<RecurringJobResponse> deleteRecurringJob(@PathVariable String id) {
+        return recurringJobService.delete(id)
+                .map(definition -> ResponseEntity.ok(RecurringJobResponse.from(definition)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Returns performance metrics comparison across execution modes.
      *
@@ -0,0 +1,87 @@
+package com.jobengine.controller.dto;
+
+import com.jobengine.model.Batch;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.JobPriority;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Response DTO for batch progress.
+ *
+ * @param id            unique batch identifier
+ * @param executionMode execution mode of the batch's jobs
+ * @param priority      priority of the batch's jobs
+ * @param size          number of jobs in the batch
+ * @param submitted     jobs handed off to the executor
+ * @param running       jobs currently running
+ * @param completed     jobs completed successfully
+ * @param failed        jobs that failed
+ * @param expired       jobs dropped before starting because their deadline was unreachable
+ * @param timedOut      jobs cut off by an I/O timeout or their deadline while running
+ * @param done          whether every job has finished
+ * @param createdAt     when the batch was created
+ * @param completedAt   when the last job finished (null if not done)
+ * @param executionTime execution time statistics over finished jobs (null if none finished)
+ */
+public record BatchResponse(
+        String id,
+        ExecutionMode executionMode,
+        JobPriority priority,
+        int size,
+        int submitted,
+        int running,
+        int completed,
+        int failed,
+        int expired,
+        int timedOut,
+        boolean done,
+        Instant createdAt,
+        Instant completedAt,
+        ExecutionTimeStats executionTime
+) {
+
+    /**
+     * Creates a response from a Batch entity.
+     *
+     * @param batch the batch entity
+     * @return batch response DTO
+     */
+    public static BatchResponse from(Batch batch) {
+        var min = batch.getMinExecutionTime();
+        var stats = min != null
+                ? new ExecutionTimeStats(millis(min), millis(batch.getMeanExecutionTime()),
+                        millis(batch.getMaxExecutionTime()))
+                : null;
+        return new BatchResponse(
+                batch.getId(),
+                batch.getExecutionMode(),
+                batch.getPriority(),
+                batch.getSize(),
+                batch.getSubmitted(),
+                batch.getRunning(),
+                batch.getCompleted(),
+                batch.getFailed(),
+                batch.getExpired(),
+                batch.getTimedOut(),
+                batch.isDone(),
+                batch.getCreatedAt(),
+                batch.getCompletedAt(),
+                stats
+        );
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    /**
+     * Execution time statistics in milliseconds.
+     *
+     * @param minMs  shortest job execution time
+     * @param meanMs mean job execution time
+     * @param maxMs  longest job execution time
+     */
+    public record ExecutionTimeStats(double minMs, double meanMs, double maxMs) {}
+}
@@ -1,21 +1,26 @@
 package com.jobengine.controller.dto;
 
 import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.JobPriority;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
 /**
  * Request DTO for submitting a batch of jobs.
  *
- * @param count         number of jobs to create (1-1000)
+ * @param count         number of jobs to create (1-1000000)
  * @param executionMode mode to use (null = all modes)
+ * @param priority      scheduling class of the jobs (default: LOW where the mode orders jobs by
+ *                      priority, NORMAL elsewhere)
  */
 public record BatchSubmitRequest(
         @Min(value = 1, message = "Count must be at least 1")
-        @Max(value = 1000, message = "Count must not exceed 1000")
+        @Max(value = 1_000_000, message = "Count must not exceed 1000000")
         int count,
 
-        ExecutionMode executionMode
+        ExecutionMode executionMode,
+
+        JobPriority priority
 ) {
     public BatchSubmitRequest {
         if (count <= 0) {
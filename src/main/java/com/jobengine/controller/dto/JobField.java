@@ -0,0 +1,75 @@
+package com.jobengine.controller.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of {@link JobResponse} that can be selected in a job listing projection.
+ *
+ * <p>Used by {@code GET /api/jobs?fields=id,status} to serialize only what the client
+ * needs. Skipping {@link #RESULT} also skips the result lookup entirely.</p>
+ *
+ * @author gsk
+ */
+public enum JobField {
+
+    ID("id"),
+    NAME("name"),
+    STATUS("status"),
+    EXECUTION_MODE("executionMode"),
+    PRIORITY("priority"),
+    DEADLINE("deadline"),
+    RUN_AT("runAt"),
+    ATTEMPTS("attempts"),
+    CREATED_AT("createdAt"),
+    STARTED_AT("startedAt"),
+    COMPLETED_AT("completedAt"),
+    RESULT("result");
+
+    private final String jsonName;
+
+    JobField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    /**
+     * Returns the JSON property name of this field.
+     *
+     * @return the property name as in {@link JobResponse}
+     */
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a comma-separated field list.
+     *
+     * @param fields comma-separated JSON property names (null or blank = all fields)
+     * @return the selected fields, in {@link JobResponse} order
+     * @throws IllegalArgumentException if a field name is unknown
+     */
+    public static Set<JobField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(JobField.class);
+        }
+
+        var selected = EnumSet.noneOf(JobField.class);
+        for (String name : fields.split(",")) {
+            var trimmed = name.trim();
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Unknown field '" + trimmed + "'. Valid fields: " + validNames())));
+        }
+        return selected;
+    }
+
+    private static String validNames() {
+        return Arrays.stream(values())
+                .map(JobField::jsonName)
+                .collect(Collectors.joining(", "));
+    }
+}
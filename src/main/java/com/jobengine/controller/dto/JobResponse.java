@@ -2,6 +2,7 @@ package com.jobengine.controller.dto;
 
 import com.jobengine.model.ExecutionMode;
 import com.jobengine.model.Job;
+import com.jobengine.model.JobPriority;
 import com.jobengine.model.JobResult;
 import com.jobengine.model.JobStatus;
 
@@ -14,6 +15,10 @@ import java.time.Instant;
  * @param name          job name
  * @param status        current job status
  * @param executionMode execution strategy used
+ * @param priority      scheduling class
+ * @param deadline      instant after which the job is dropped if not started (null if none)
+ * @param runAt         when a delayed job becomes due (null if it ran on submission)
+ * @param attempts      I/O attempts made, including retries
  * @param createdAt     when the job was created
  * @param startedAt     when execution started (null if pending)
  * @param completedAt   when execution completed (null if not finished)
@@ -24,6 +29,10 @@ public record JobResponse(
         String name,
         JobStatus status,
         ExecutionMode executionMode,
+        JobPriority priority,
+        Instant deadline,
+        Instant runAt,
+        int attempts,
         Instant createdAt,
         Instant startedAt,
         Instant completedAt,
@@ -42,6 +51,10 @@ public record JobResponse(
                 job.getName(),
                 job.getStatus(),
                 job.getExecutionMode(),
+                job.getPriority(),
+                job.getDeadline(),
+                job.getRunAt(),
+                job.getAttempts(),
                 job.getCreatedAt(),
                 job.getStartedAt(),
                 job.getCompletedAt(),
@@ -57,23 +70,16 @@ public record JobResponse(
      * @return job response DTO with result
      */
     public static JobResponse from(Job job, JobResult result) {
-        var details = (ResultDetails) null;
-        if (result != null) {
-            details = new ResultDetails(
-                    result.success(),
-                    result.output(),
-                    result.errorMessage(),
-                    result.executionTime().toMillis(),
-                    result.threadName(),
-                    result.threadId(),
-                    result.isVirtualThread()
-            );
-        }
+        var details = result != null ? ResultDetails.from(result) : null;
         return new JobResponse(
                 job.getId(),
                 job.getName(),
                 job.getStatus(),
                 job.getExecutionMode(),
+                job.getPriority(),
+                job.getDeadline(),
+                job.getRunAt(),
+                job.getAttempts(),
                 job.getCreatedAt(),
                 job.getStartedAt(),
                 job.getCompletedAt(),
@@ -100,6 +106,25 @@ public record JobResponse(
             String threadName,
             long threadId,
             boolean virtualThread
-    ) {}
+    ) {
+
+        /**
+         * Creates result details from a job result.
+         *
+         * @param result the job result
+         * @return result details DTO
+         */
+        public static ResultDetails from(JobResult result) {
+            return new ResultDetails(
+                    result.success(),
+                    result.output(),
+                    result.errorMessage(),
+                    result.executionTime().toMillis(),
+                    result.threadName(),
+                    result.threadId(),
+                    result.isVirtualThread()
+            );
+        }
+    }
 }
 
@@ -1,16 +1,29 @@
 package com.jobengine.controller.dto;
 
 import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.JobPriority;
+import jakarta.validation.constraints.AssertFalse;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 
+import java.time.Duration;
+import java.time.Instant;
+
 /**
  * Request DTO for submitting a new job.
  *
  * @param name          descriptive name for the job (required)
  * @param payload       data to be processed (required)
  * @param executionMode strategy for executing the job (required)
+ * @param priority      scheduling class (default: NORMAL; HIGH and LOW only in a mode that
+ *                      orders jobs by priority)
+ * @param deadlineMs    milliseconds after the job is due beyond which the result is useless
+ *                      (optional; ASYNC defaults to {@code job-engine.async.timeout-seconds})
+ * @param runAt         instant to run the job at (optional, exclusive with delayMs)
+ * @param delayMs       milliseconds to wait before running the job (optional, exclusive with runAt)
  */
 public record JobSubmitRequest(
         @NotBlank(message = "Job name is required")
@@ -22,6 +35,48 @@ public record JobSubmitRequest(
         String payload,
 
         @NotNull(message = "Execution mode is required")
-        ExecutionMode executionMode
-) {}
+        ExecutionMode executionMode,
+
+        JobPriority priority,
+
+        @Positive(message = "Deadline must be positive")
+        Long deadlineMs,
+
+        Instant runAt,
+
+        @PositiveOrZero(message = "Delay must not be negative")
+        Long delayMs
+) {
+    public JobSubmitRequest {
+        if (priority == null) {
+            priority = JobPriority.NORMAL;
+        }
+    }
+
+    /**
+     * Returns the requested deadline as a duration from submission.
+     *
+     * @return the deadline, or null if none was requested
+     */
+    public Duration deadline() {
+        return deadlineMs == null ? null : Duration.ofMillis(deadlineMs);
+    }
+
+    /**
+     * Returns when the job should run.
+     *
+     * @return the requested run time, or null to run on submission
+     */
+    public Instant scheduledAt() {
+        if (runAt != null) {
+            return runAt;
+        }
+        return delayMs == null ? null : Instant.now().plusMillis(delayMs);
+    }
+
+    @AssertFalse(message = "Specify either runAt or delayMs, not both")
+    boolean isScheduleAmbiguous() {
+        return runAt != null && delayMs != null;
+    }
+}
 
@@ -0,0 +1,69 @@
+package com.jobengine.controller.dto;
+
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.JobPriority;
+import com.jobengine.model.OverlapPolicy;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.Duration;
+
+/**
+ * Request DTO for creating a recurring job definition.
+ *
+ * @param name          base name of the materialized jobs (required)
+ * @param payload       payload of the materialized jobs (required)
+ * @param executionMode execution mode of the materialized jobs (required)
+ * @param priority      scheduling class of the materialized jobs (default: NORMAL; HIGH and
+ *                      LOW only in a mode that orders jobs by priority)
+ * @param cron          cron expression with seconds, evaluated in UTC (exclusive with fixedRateMs)
+ * @param fixedRateMs   milliseconds between fires (exclusive with cron)
+ * @param overlapPolicy what to do when the previous instance is still in flight (default: SKIP)
+ */
+public record RecurringJobRequest(
+        @NotBlank(message = "Job name is required")
+        @Size(max = 255, message = "Job name must not exceed 255 characters")
+        String name,
+
+        @NotBlank(message = "Payload is required")
+        @Size(max = 10000, message = "Payload must not exceed 10000 characters")
+        String payload,
+
+        @NotNull(message = "Execution mode is required")
+        ExecutionMode executionMode,
+
+        JobPriority priority,
+
+        String cron,
+
+        @Positive(message = "Fixed rate must be positive")
+        Long fixedRateMs,
+
+        OverlapPolicy overlapPolicy
+) {
+    public RecurringJobRequest {
+        if (priority == null) {
+            priority = JobPriority.NORMAL;
+        }
+        if (overlapPolicy == null) {
+            overlapPolicy = OverlapPolicy.SKIP;
+        }
+    }
+
+    /**
+     * Returns the fixed rate as a duration.
+     *
+     * @return the fixed rate, or null for a cron schedule
+     */
+    public Duration fixedRate() {
+        return fixedRateMs == null ? null : Duration.ofMillis(fixedRateMs);
+    }
+
+    @AssertTrue(message = "Specify exactly one of cron or fixedRateMs")
+    boolean isScheduleDefined() {
+        return (cron == null) != (fixedRateMs == null);
+    }
+}
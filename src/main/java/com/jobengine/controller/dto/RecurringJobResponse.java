@@ -0,0 +1,75 @@
+package com.jobengine.controller.dto;
+
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.JobPriority;
+import com.jobengine.model.OverlapPolicy;
+import com.jobengine.model.RecurringJob;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for a recurring job definition.
+ *
+ * @param id            unique definition identifier
+ * @param name          base name of the materialized jobs
+ * @param executionMode execution mode of the materialized jobs
+ * @param priority      scheduling class of the materialized jobs
+ * @param cron          cron expression (null for a fixed rate)
+ * @param fixedRateMs   milliseconds between fires (null for a cron schedule)
+ * @param overlapPolicy what a fire does when the previous instance is still in flight
+ * @param createdAt     when the definition was created
+ * @param nextFireAt    next armed fire time (null if the schedule has ended)
+ * @param lastFireAt    when the last job was submitted (null if none yet)
+ * @param lastJobId     id of the last submitted job (null if none yet)
+ * @param fires         fire accounting
+ */
+public record RecurringJobResponse(
+        String id,
+        String name,
+        ExecutionMode executionMode,
+        JobPriority priority,
+        String cron,
+        Long fixedRateMs,
+        OverlapPolicy overlapPolicy,
+        Instant createdAt,
+        Instant nextFireAt,
+        Instant lastFireAt,
+        String lastJobId,
+        FireStats fires
+) {
+
+    /**
+     * Creates a response from a RecurringJob entity.
+     *
+     * @param definition the recurring job definition
+     * @return recurring job response DTO
+     */
+    public static RecurringJobResponse from(RecurringJob definition) {
+        var fixedRate = definition.getFixedRate();
+        return new RecurringJobResponse(
+                definition.getId(),
+                definition.getName(),
+                definition.getExecutionMode(),
+                definition.getPriority(),
+                definition.getCron(),
+                fixedRate == null ? null : fixedRate.toMillis(),
+                definition.getOverlapPolicy(),
+                definition.getCreatedAt(),
+                definition.getNextFireAt(),
+                definition.getLastFireAt(),
+                definition.getLastJobId(),
+                new FireStats(definition.getSubmitted(), definition.getSkipped(),
+                        definition.getCoalesced(), definition.getRejected())
+        );
+    }
+
+    /**
+     * Fire time counters of a definition.
+     *
+     * @param submitted fires that created a job
+     * @param skipped   fires skipped because the previous instance was in flight
+     * @param coalesced missed fire times merged into a later fire
+     * @param rejected  fires refused by admission control
+     */
+    public record FireStats(long submitted, long skipped, long coalesced, long rejected) {}
+}
@@ -0,0 +1,23 @@
+package com.jobengine.exception;
+
+/**
+ * Exception thrown when an I/O call is not attempted because the circuit breaker is open.
+ *
+ * <p>The {@code ioSimulator} circuit breaker opens once too many recent I/O attempts failed,
+ * and while half-open it only lets a few probe calls through. A job refused by it fails at
+ * once, without being retried: a retry would hit the same open circuit.</p>
+ *
+ * @author gsk
+ */
+public final class CircuitOpenException extends IOSimulationException {
+
+    /**
+     * Creates a new CircuitOpenException with the specified message and cause.
+     *
+     * @param message the error message describing the refused call
+     * @param cause   the underlying exception (the circuit breaker's own refusal)
+     */
+    public CircuitOpenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,6 +2,7 @@ package com.jobengine.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -56,7 +57,9 @@ public class GlobalExceptionHandler {
         
         // Extract more specific error for enum mismatches
         if (ex.getMessage() != null && ex.getMessage().contains("ExecutionMode")) {
-            message = "Invalid execution mode. Valid values: SEQUENTIAL, THREAD_POOL, ASYNC";
+            message = "Invalid execution mode. Valid values: SEQUENTIAL, THREAD_POOL, ASYNC, FORK_JOIN, HYBRID, REACTIVE";
+        } else if (ex.getMessage() != null && ex.getMessage().contains("JobPriority")) {
+            message = "Invalid priority. Valid values: HIGH, NORMAL, LOW";
         }
 
         log.warn("Request parsing failed: {}", ex.getMessage());
@@ -87,6 +90,27 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    /**
+     * Handles jobs refused by admission control.
+     *
+     * @param ex the rejection
+     * @return 429 response with a {@code Retry-After} header
+     */
+    @ExceptionHandler(JobRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleJobRejected(JobRejectedException ex) {
+        log.debug("Job rejected: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(Map.of(
+                        "error", ex.getMessage(),
+                        "mode", ex.getMode(),
+                        "retryAfterSeconds", ex.getRetryAfterSeconds(),
+                        "timestamp", Instant.now()
+                ));
+    }
+
     /**
      * Handles job engine domain exceptions.
      *
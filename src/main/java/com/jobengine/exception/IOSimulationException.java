@@ -8,7 +8,7 @@ package com.jobengine.exception;
  *
  * @author gsk
  */
-public final class IOSimulationException extends JobEngineException {
+public sealed class IOSimulationException extends JobEngineException permits IOTimeoutException, CircuitOpenException {
 
     /**
      * Creates a new IOSimulationException with the specified message and cause.
@@ -0,0 +1,24 @@
+package com.jobengine.exception;
+
+/**
+ * Exception thrown when an I/O call is cut off by a timeout.
+ *
+ * <p>Either a single attempt exceeded the {@code ioSimulator} time limit, or the job ran
+ * out of time before its deadline. Being an {@link IOSimulationException}, a timed-out
+ * attempt is retried like any other I/O failure; a job whose last failure is a timeout
+ * ends as {@link com.jobengine.model.JobStatus#TIMED_OUT}.</p>
+ *
+ * @author gsk
+ */
+public final class IOTimeoutException extends IOSimulationException {
+
+    /**
+     * Creates a new IOTimeoutException with the specified message and cause.
+     *
+     * @param message the error message describing which limit was hit
+     * @param cause   the underlying exception (typically a {@link java.util.concurrent.TimeoutException})
+     */
+    public IOTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
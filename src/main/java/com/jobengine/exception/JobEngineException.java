@@ -10,7 +10,7 @@ package com.jobengine.exception;
  * @author gsk
  */
 public sealed class JobEngineException extends RuntimeException
-        permits InvalidJobException, JobExecutionException, IOSimulationException {
+        permits InvalidJobException, JobExecutionException, IOSimulationException, JobRejectedException {
 
     /**
      * Creates a new JobEngineException with the specified message.
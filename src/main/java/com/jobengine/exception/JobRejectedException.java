@@ -0,0 +1,48 @@
+package com.jobengine.exception;
+
+import com.jobengine.model.ExecutionMode;
+
+/**
+ * Exception thrown when a job is refused because its executor is overloaded.
+ *
+ * <p>This exception is part of the sealed {@link JobEngineException} hierarchy. It is
+ * mapped to {@code 429 Too Many Requests} with a {@code Retry-After} header carrying
+ * {@link #getRetryAfterSeconds()}.</p>
+ *
+ * @author gsk
+ */
+public final class JobRejectedException extends JobEngineException {
+
+    private final ExecutionMode mode;
+    private final long retryAfterSeconds;
+
+    /**
+     * Creates a new JobRejectedException.
+     *
+     * @param mode              the overloaded execution mode
+     * @param retryAfterSeconds estimated time until the executor has room again
+     */
+    public JobRejectedException(ExecutionMode mode, long retryAfterSeconds) {
+        super("Execution mode " + mode + " is overloaded, retry after " + retryAfterSeconds + "s");
+        this.mode = mode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Returns the overloaded execution mode.
+     *
+     * @return the execution mode
+     */
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the suggested delay before retrying.
+     *
+     * @return delay in seconds
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,5 +1,9 @@
 package com.jobengine.executor;
 
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.config.JobEngineProperties.LimitStrategy;
+import com.jobengine.executor.limit.ConcurrencyLimiter;
+import com.jobengine.executor.limit.LimitAlgorithm;
 import com.jobengine.model.ExecutionMode;
 import com.jobengine.model.Job;
 import com.jobengine.model.JobResult;
@@ -7,6 +11,7 @@ import com.jobengine.model.JobStatus;
 import com.jobengine.service.CPUSimulator;
 import com.jobengine.service.IOSimulator;
 import com.jobengine.service.MetricsService;
+import com.jobengine.service.RetryScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -17,6 +22,7 @@ import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import com.jobengine.exception.InvalidJobException;
 
@@ -95,6 +101,30 @@ import com.jobengine.exception.InvalidJobException;
  *   </tr>
  * </table>
  *
+ * <h2>Concurrency Limit</h2>
+ * <p>Spawning a virtual thread per job is cheap, but the service the I/O phase talks
+ * to is not unlimited. With {@code job-engine.async.limiter.strategy} set to a strategy other
+ * than NONE, jobs pass through a {@link ConcurrencyLimiter}: at most {@code limit} run at
+ * once and the rest wait, without a thread of their own, in a queue ordered by
+ * {@link com.jobengine.model.JobPriority} with aging. AIMD, VEGAS and
+ * GRADIENT2 adapt the limit to the observed I/O latency. With NONE every job starts
+ * immediately and only NORMAL priority is accepted.</p>
+ *
+ * <h2>Deadlines</h2>
+ * <p>A job without an explicit deadline gets one {@code job-engine.async.timeout-seconds} after
+ * it was due - its creation, or its run time if it was delayed - like an explicit one.
+ * The limiter queue serves the earliest deadline first, and a job whose deadline can no
+ * longer be met at the median service time of recent jobs is marked
+ * {@link JobStatus#EXPIRED} instead of being started. Once started, the deadline also bounds
+ * the I/O phase: an attempt still running when it passes is interrupted and the job ends
+ * {@link JobStatus#TIMED_OUT}.</p>
+ *
+ * <h2>Retries</h2>
+ * <p>A virtual thread sleeping through a backoff is cheap, but its limiter permit is not:
+ * it would count against the concurrency limit while doing nothing. Failed I/O attempts
+ * are therefore retried through the {@link RetryScheduler} - the permit is released during
+ * the backoff and the retry queues behind the limiter like a new job.</p>
+ *
  * <h2>Pinning Warning</h2>
  * <p>Virtual threads can get "pinned" to their carrier thread in certain situations:</p>
  * <ul>
@@ -117,6 +147,10 @@ public class AsyncJobExecutor implements JobExecutor {
     private final CPUSimulator cpuSimulator;
     private final IOSimulator ioSimulator;
     private final MetricsService metricsService;
+    private final RetryScheduler retryScheduler;
+    private final ConcurrencyLimiter limiter;
+    private final Duration defaultDeadline;
+    private final JobOutcomes outcomes;
     private final AtomicInteger activeCount = new AtomicInteger(0);
 
     /**
@@ -126,15 +160,36 @@ public class AsyncJobExecutor implements JobExecutor {
      * @param cpuSimulator          simulator for CPU-bound operations
      * @param ioSimulator           simulator for I/O operations
      * @param metricsService        service for recording metrics
+     * @param retryScheduler        scheduler for I/O retries
+     * @param properties            the job engine configuration properties
      */
     public AsyncJobExecutor(@Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor,
                             CPUSimulator cpuSimulator,
                             IOSimulator ioSimulator,
-                            MetricsService metricsService) {
+                            MetricsService metricsService,
+                            RetryScheduler retryScheduler,
+                            JobEngineProperties properties) {
         this.virtualThreadExecutor = virtualThreadExecutor;
         this.cpuSimulator = cpuSimulator;
         this.ioSimulator = ioSimulator;
         this.metricsService = metricsService;
+        this.retryScheduler = retryScheduler;
+        this.outcomes = new JobOutcomes(ExecutionMode.ASYNC, "Async", metricsService, log);
+        this.defaultDeadline = Duration.ofSeconds(properties.getAsync().timeoutSeconds());
+
+        var limiterConfig = properties.getAsync().limiter();
+        if (limiterConfig.strategy() == LimitStrategy.NONE) {
+            this.limiter = null;
+        } else {
+            this.limiter = new ConcurrencyLimiter(ExecutionMode.ASYNC.name(),
+                    LimitAlgorithm.of(limiterConfig), virtualThreadExecutor, properties.getPriority().agingMs(),
+                    (priority, wait) -> metricsService.recordQueueWait(ExecutionMode.ASYNC, priority, wait));
+            metricsService.registerLimiterGauges(ExecutionMode.ASYNC, limiter,
+                    ConcurrencyLimiter::getLimit, ConcurrencyLimiter::getInFlight, ConcurrencyLimiter::getQueueSize);
+            log.info("ASYNC concurrency limiter enabled: strategy={}, initialLimit={}, range=[{}, {}]",
+                    limiterConfig.strategy(), limiterConfig.initialLimit(),
+                    limiterConfig.minLimit(), limiterConfig.maxLimit());
+        }
     }
 
     @Override
@@ -147,11 +202,43 @@ public class AsyncJobExecutor implements JobExecutor {
                 job.getId(), job.getName());
 
         job.setStatus(JobStatus.PENDING);
+        if (job.getDeadline() == null) {
+            // Counted from when the job was due, so time spent in admission counts too
+            var dueAt = job.getRunAt() != null ? job.getRunAt() : job.getCreatedAt();
+            job.setDeadline(dueAt.plus(defaultDeadline));
+        }
+
+        if (limiter == null) {
+            return CompletableFuture.supplyAsync(() -> executeJob(job), virtualThreadExecutor)
+                    .thenCompose(Function.identity());
+        }
 
-        return CompletableFuture.supplyAsync(() -> executeJob(job), virtualThreadExecutor);
+        var future = new CompletableFuture<JobResult>();
+        limiter.submit(job.getPriority(), job.getDeadline(), () -> {
+            try {
+                executeJob(job).whenComplete((result, error) -> {
+                    if (error == null) {
+                        future.complete(result);
+                    } else {
+                        future.completeExceptionally(error);
+                    }
+                });
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
     }
 
-    private JobResult executeJob(Job job) {
+    private CompletableFuture<JobResult> executeJob(Job job) {
+        var expired = outcomes.expireIfUnreachable(job);
+        if (expired != null) {
+            if (limiter != null) {
+                limiter.release(-1);
+            }
+            return CompletableFuture.completedFuture(expired);
+        }
+
         activeCount.incrementAndGet();
         metricsService.incrementActive(ExecutionMode.ASYNC);
         var startTime = Instant.now();
@@ -164,43 +251,62 @@ public class AsyncJobExecutor implements JobExecutor {
 
         // Generate random limit ONCE (reused across retries)
         var primeLimit = cpuSimulator.generateRandomLimit();
+        long ioNanos = -1;
+        CompletableFuture<String> io;
 
         try {
             // CPU-bound work: calculate primes
             var primesFound = cpuSimulator.countPrimesUpTo(primeLimit);
             
-            // I/O-bound work - virtual threads excel at this
-            var result = ioSimulator.simulateWork(job.getPayload() + " [primes=" + primesFound + "]");
-
-            var executionTime = Duration.between(startTime, Instant.now());
-            job.setStatus(JobStatus.COMPLETED);
-            job.setCompletedAt(Instant.now());
-
-            var jobResult = JobResult.success(job, result, executionTime);
-            metricsService.recordJobCompletion(ExecutionMode.ASYNC, executionTime, true);
-
-            log.info("Async execution completed: jobId={}, thread={}, isVirtual={}, duration={}ms",
-                    job.getId(), currentThread.getName(), currentThread.isVirtual(), executionTime.toMillis());
-
-            return jobResult;
+            // I/O-bound work - virtual threads excel at this; retries wait without a permit
+            var payload = job.getPayload() + " [primes=" + primesFound + "]";
+            var ioStart = System.nanoTime();
+            try {
+                io = retryScheduler.callBlocking(job, attempt -> resubmit(job, attempt),
+                        () -> ioSimulator.simulateWork(payload));
+            } finally {
+                ioNanos = System.nanoTime() - ioStart;
+            }
 
         } catch (Exception e) {
-            var executionTime = Duration.between(startTime, Instant.now());
-            job.setStatus(JobStatus.FAILED);
-            job.setCompletedAt(Instant.now());
-
-            var jobResult = JobResult.failure(job, e.getMessage(), executionTime);
-            metricsService.recordJobCompletion(ExecutionMode.ASYNC, executionTime, false);
-
-            log.error("Async execution failed: jobId={}, thread={}, error={}",
-                    job.getId(), currentThread.getName(), e.getMessage());
-
-            return jobResult;
-
+            io = CompletableFuture.failedFuture(e);
         } finally {
+            if (limiter != null) {
+                // I/O latency is the congestion signal for the adaptive strategies
+                limiter.release(ioNanos);
+            }
+        }
+
+        return io.handle((result, error) -> {
             activeCount.decrementAndGet();
             metricsService.decrementActive(ExecutionMode.ASYNC);
+            return outcomes.finish(job, startTime, result, error);
+        });
+    }
+
+    /**
+     * Starts a retry attempt once its backoff has expired. It holds a limiter permit only
+     * while it runs.
+     */
+    private void resubmit(Job job, Runnable attempt) {
+        if (limiter == null) {
+            virtualThreadExecutor.execute(attempt);
+            return;
         }
+        limiter.submit(job.getPriority(), job.getDeadline(), () -> {
+            var start = System.nanoTime();
+            try {
+                attempt.run();
+            } finally {
+                limiter.release(System.nanoTime() - start);
+            }
+        });
+    }
+
+    @Override
+    public boolean ordersByPriority() {
+        // Only the limiter queue is ordered; without a limiter jobs wait in FIFO order
+        return limiter != null;
     }
 
     @Override
@@ -0,0 +1,204 @@
+package com.jobengine.executor;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobResult;
+import com.jobengine.model.JobStatus;
+import com.jobengine.service.CPUSimulator;
+import com.jobengine.service.IOSimulator;
+import com.jobengine.service.MetricsService;
+import com.jobengine.service.RetryScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.jobengine.exception.InvalidJobException;
+
+/**
+ * Fork/join job executor - splits each job's CPU work across cores.
+ *
+ * <h2>How It Works</h2>
+ * <p>The other modes run a job's prime counting on a single thread, so one large job
+ * never uses more than one core. Here each job is coordinated by a virtual thread that:</p>
+ * <ol>
+ *   <li>Submits a {@link RecursiveTask} covering {@code [2, limit]} to a dedicated
+ *       {@link ForkJoinPool} and waits for it (the virtual thread unmounts while waiting)</li>
+ *   <li>Runs the I/O phase itself, so pool workers never block on I/O; a retry after a
+ *       failed attempt starts on a fresh virtual thread once its backoff expires</li>
+ * </ol>
+ *
+ * <h3>Divide and Conquer</h3>
+ * <p>A task larger than {@code job-engine.fork-join.split-threshold} numbers splits in two:
+ * it forks the left half onto its own deque, computes the right half directly and then
+ * joins the left. Idle workers steal forked halves from the tail of busy workers' deques,
+ * which also evens out the uneven cost of ranges (higher numbers are costlier to test
+ * with trial division).</p>
+ *
+ * <h2>Deadlines</h2>
+ * <p>As in THREAD_POOL, a job whose deadline can no longer be met at the median service
+ * time of recent jobs is marked {@link JobStatus#EXPIRED} before its CPU phase.</p>
+ *
+ * <h2>Performance Characteristics</h2>
+ * <ul>
+ *   <li><b>Latency:</b> CPU phase of a single job approaches {@code 1/parallelism} of the
+ *       sequential time when the pool is otherwise idle.</li>
+ *   <li><b>Throughput:</b> No better than THREAD_POOL under saturation - the same cores
+ *       do the same work, plus splitting overhead.</li>
+ *   <li><b>Resource Usage:</b> One platform thread per pool worker; task objects are small
+ *       and short-lived.</li>
+ * </ul>
+ *
+ * <h2>When to Use</h2>
+ * <ul>
+ *   <li>Few, large CPU-bound jobs where individual job latency matters</li>
+ *   <li>Not for many small jobs - task splitting then costs more than it saves</li>
+ * </ul>
+ *
+ * @author gsk
+ * @see java.util.concurrent.ForkJoinPool
+ */
+@Component
+public class ForkJoinJobExecutor implements JobExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ForkJoinJobExecutor.class);
+
+    private final ForkJoinPool forkJoinPool;
+    private final ExecutorService virtualThreadExecutor;
+    private final CPUSimulator cpuSimulator;
+    private final IOSimulator ioSimulator;
+    private final MetricsService metricsService;
+    private final RetryScheduler retryScheduler;
+    private final int splitThreshold;
+    private final JobOutcomes outcomes;
+    private final AtomicInteger activeCount = new AtomicInteger(0);
+
+    /**
+     * Constructs a ForkJoinJobExecutor with the required dependencies.
+     *
+     * @param forkJoinPool          pool running the split CPU work
+     * @param virtualThreadExecutor executor coordinating each job and running its I/O phase
+     * @param cpuSimulator          simulator for CPU-bound operations
+     * @param ioSimulator           simulator for I/O operations
+     * @param metricsService        service for recording metrics
+     * @param retryScheduler        scheduler for I/O retries
+     * @param properties            the job engine configuration properties
+     */
+    public ForkJoinJobExecutor(ForkJoinPool forkJoinPool,
+                               @Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor,
+                               CPUSimulator cpuSimulator,
+                               IOSimulator ioSimulator,
+                               MetricsService metricsService,
+                               RetryScheduler retryScheduler,
+                               JobEngineProperties properties) {
+        this.forkJoinPool = forkJoinPool;
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.cpuSimulator = cpuSimulator;
+        this.ioSimulator = ioSimulator;
+        this.metricsService = metricsService;
+        this.retryScheduler = retryScheduler;
+        this.splitThreshold = properties.getForkJoin().splitThreshold();
+        this.outcomes = new JobOutcomes(ExecutionMode.FORK_JOIN, "Fork/join", metricsService, log);
+
+        metricsService.registerForkJoinGauges(forkJoinPool);
+    }
+
+    @Override
+    public CompletableFuture<JobResult> execute(Job job) {
+        if (job == null) {
+            throw new InvalidJobException("Job must not be null");
+        }
+
+        log.debug("Submitting to fork/join executor: jobId={}, jobName={}, parallelism={}",
+                job.getId(), job.getName(), forkJoinPool.getParallelism());
+
+        job.setStatus(JobStatus.PENDING);
+
+        return CompletableFuture.supplyAsync(() -> executeJob(job), virtualThreadExecutor)
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<JobResult> executeJob(Job job) {
+        var expired = outcomes.expireIfUnreachable(job);
+        if (expired != null) {
+            return CompletableFuture.completedFuture(expired);
+        }
+
+        activeCount.incrementAndGet();
+        metricsService.incrementActive(ExecutionMode.FORK_JOIN);
+        var startTime = Instant.now();
+        job.setStatus(JobStatus.RUNNING);
+        job.setStartedAt(startTime);
+
+        // Generate random limit ONCE (reused across retries)
+        var primeLimit = cpuSimulator.generateRandomLimit();
+        CompletableFuture<String> io;
+
+        try {
+            // CPU-bound work: split across the pool, this thread waits unmounted
+            var cpuStart = System.nanoTime();
+            var primesFound = forkJoinPool.invoke(new PrimeRangeTask(2, primeLimit));
+            log.debug("Fork/join CPU phase completed: jobId={}, limit={}, duration={}ms",
+                    job.getId(), primeLimit, (System.nanoTime() - cpuStart) / 1_000_000);
+
+            // I/O-bound work stays on the virtual thread
+            var payload = job.getPayload() + " [primes=" + primesFound + "]";
+            io = retryScheduler.callBlocking(job, virtualThreadExecutor, () -> ioSimulator.simulateWork(payload));
+
+        } catch (Exception e) {
+            io = CompletableFuture.failedFuture(e);
+        }
+
+        return io.handle((result, error) -> {
+            activeCount.decrementAndGet();
+            metricsService.decrementActive(ExecutionMode.FORK_JOIN);
+            return outcomes.finish(job, startTime, result, error);
+        });
+    }
+
+    @Override
+    public ExecutionMode getMode() {
+        return ExecutionMode.FORK_JOIN;
+    }
+
+    @Override
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * Counts the primes in {@code [from, to]}, splitting in halves above the threshold.
+     */
+    private final class PrimeRangeTask extends RecursiveTask<Long> {
+
+        private final int from;
+        private final int to;
+
+        private PrimeRangeTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from < splitThreshold) {
+                return cpuSimulator.countPrimesInRange(from, to);
+            }
+
+            int mid = from + (to - from) / 2;
+            var left = new PrimeRangeTask(from, mid);
+            left.fork();
+            long right = new PrimeRangeTask(mid + 1, to).compute();
+            return right + left.join();
+        }
+    }
+}
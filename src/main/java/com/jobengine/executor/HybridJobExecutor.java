@@ -0,0 +1,309 @@
+package com.jobengine.executor;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobPhase;
+import com.jobengine.model.JobResult;
+import com.jobengine.model.JobStatus;
+import com.jobengine.service.CPUSimulator;
+import com.jobengine.service.IOSimulator;
+import com.jobengine.service.MetricsService;
+import com.jobengine.service.RetryScheduler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jobengine.exception.InvalidJobException;
+
+/**
+ * Hybrid job executor - pipelines each job across a CPU stage and an I/O stage.
+ *
+ * <h2>How It Works</h2>
+ * <p>The other executors run the CPU phase and the I/O phase back-to-back on the same
+ * thread: THREAD_POOL parks platform threads in I/O sleeps, ASYNC lets prime counting
+ * occupy carrier threads. HYBRID gives each phase the kind of thread it is suited for:</p>
+ * <pre>
+ *   submit ──▶ [CPU stage]  ──▶ hand-off queue ──▶ [I/O stage]
+ *              platform pool    (bounded)          virtual threads
+ *              (= cores)                           (ioConcurrency)
+ * </pre>
+ * <ol>
+ *   <li>The CPU stage pool counts primes and puts the job on the hand-off queue</li>
+ *   <li>A dispatcher takes jobs off the queue and starts one virtual thread per job for
+ *       the I/O call, up to {@code ioConcurrency} at once</li>
+ * </ol>
+ *
+ * <h3>Backpressure</h3>
+ * <p>When the I/O stage is at its concurrency limit the dispatcher stops taking jobs, the
+ * hand-off queue fills and CPU workers block on {@code put} - the CPU stage slows to the
+ * pace of the I/O stage instead of piling up finished CPU work in memory. Under steady
+ * load both the cores and the I/O concurrency saturate at the same time.</p>
+ *
+ * <h3>Retries</h3>
+ * <p>A failed I/O attempt gives its slot back during the backoff. When the backoff expires
+ * the retry takes an I/O permit again, on a new virtual thread, alongside jobs coming
+ * from the hand-off queue.</p>
+ *
+ * <h3>Deadlines</h3>
+ * <p>As in THREAD_POOL, a job whose deadline can no longer be met at the median service
+ * time of recent jobs is marked {@link JobStatus#EXPIRED} when it reaches the CPU stage,
+ * so neither stage spends anything on it.</p>
+ *
+ * <h2>Metrics</h2>
+ * <p>Per stage: queue wait and service time ({@code job.stage.wait}, {@code job.stage.time})
+ * and backlog and occupancy gauges ({@code job.stage.queue_size}, {@code job.stage.active}).
+ * The slower stage is the one whose queue grows.</p>
+ *
+ * <h2>Trade-offs</h2>
+ * <table border="1">
+ *   <caption>Hybrid Executor Pros and Cons</caption>
+ *   <tr><th>Pros</th><th>Cons</th></tr>
+ *   <tr>
+ *     <td>No platform thread ever sleeps in I/O</td>
+ *     <td>One extra thread hand-off per job</td>
+ *   </tr>
+ *   <tr>
+ *     <td>CPU work bounded to core count</td>
+ *     <td>Two pools and a queue to size</td>
+ *   </tr>
+ *   <tr>
+ *     <td>Bottleneck visible per stage</td>
+ *     <td>Job latency includes time in both queues</td>
+ *   </tr>
+ * </table>
+ *
+ * @author gsk
+ */
+@Component
+public class HybridJobExecutor implements JobExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(HybridJobExecutor.class);
+
+    private final ThreadPoolExecutor cpuStage;
+    private final ExecutorService virtualThreadExecutor;
+    private final CPUSimulator cpuSimulator;
+    private final IOSimulator ioSimulator;
+    private final MetricsService metricsService;
+    private final RetryScheduler retryScheduler;
+    private final BlockingQueue<IoWork> handoff;
+    private final Semaphore ioPermits;
+    private final JobOutcomes outcomes;
+    private final AtomicInteger ioActive = new AtomicInteger(0);
+    private final AtomicInteger activeCount = new AtomicInteger(0);
+    private Thread dispatcher;
+
+    /**
+     * Constructs a HybridJobExecutor. The I/O stage dispatcher is started by {@link #start()}.
+     *
+     * @param cpuStage              platform pool running the CPU stage
+     * @param virtualThreadExecutor executor running the I/O stage
+     * @param cpuSimulator          simulator for CPU-bound operations
+     * @param ioSimulator           simulator for I/O operations
+     * @param metricsService        service for recording metrics
+     * @param retryScheduler        scheduler for I/O retries
+     * @param properties            the job engine configuration properties
+     */
+    public HybridJobExecutor(@Qualifier("hybridCpuExecutor") ThreadPoolExecutor cpuStage,
+                             @Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor,
+                             CPUSimulator cpuSimulator,
+                             IOSimulator ioSimulator,
+                             MetricsService metricsService,
+                             RetryScheduler retryScheduler,
+                             JobEngineProperties properties) {
+        var config = properties.getHybrid();
+        this.cpuStage = cpuStage;
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.cpuSimulator = cpuSimulator;
+        this.ioSimulator = ioSimulator;
+        this.metricsService = metricsService;
+        this.retryScheduler = retryScheduler;
+        this.outcomes = new JobOutcomes(ExecutionMode.HYBRID, "Hybrid", metricsService, log);
+        this.handoff = new ArrayBlockingQueue<>(config.handoffCapacity());
+        this.ioPermits = new Semaphore(config.ioConcurrency());
+
+        metricsService.registerStageGauges(JobPhase.CPU, cpuStage,
+                pool -> pool.getQueue().size(), ThreadPoolExecutor::getActiveCount);
+    }
+
+    /**
+     * Registers the I/O stage gauges and starts its dispatcher once fully constructed.
+     */
+    @PostConstruct
+    public void start() {
+        metricsService.registerStageGauges(JobPhase.IO, this,
+                executor -> executor.handoff.size(), executor -> executor.ioActive.get());
+
+        dispatcher = Thread.ofVirtual().name("hybrid-io-dispatcher").start(this::dispatchIo);
+    }
+
+    @Override
+    public CompletableFuture<JobResult> execute(Job job) {
+        if (job == null) {
+            throw new InvalidJobException("Job must not be null");
+        }
+
+        log.debug("Submitting to hybrid pipeline: jobId={}, jobName={}, cpuQueue={}, handoff={}",
+                job.getId(), job.getName(), cpuStage.getQueue().size(), handoff.size());
+
+        job.setStatus(JobStatus.PENDING);
+
+        var future = new CompletableFuture<JobResult>();
+        var submittedAt = System.nanoTime();
+        cpuStage.execute(() -> runCpuStage(job, future, submittedAt));
+        return future;
+    }
+
+    private void runCpuStage(Job job, CompletableFuture<JobResult> future, long submittedAt) {
+        var expired = outcomes.expireIfUnreachable(job);
+        if (expired != null) {
+            future.complete(expired);
+            return;
+        }
+
+        activeCount.incrementAndGet();
+        metricsService.incrementActive(ExecutionMode.HYBRID);
+        var startTime = Instant.now();
+        job.setStatus(JobStatus.RUNNING);
+        job.setStartedAt(startTime);
+
+        var cpuStart = System.nanoTime();
+        try {
+            // Generate random limit ONCE (reused across retries)
+            var primeLimit = cpuSimulator.generateRandomLimit();
+            var primesFound = cpuSimulator.countPrimesUpTo(primeLimit);
+
+            var handedOffAt = System.nanoTime();
+            metricsService.recordStage(JobPhase.CPU,
+                    Duration.ofNanos(cpuStart - submittedAt), Duration.ofNanos(handedOffAt - cpuStart));
+
+            // Blocks while the I/O stage is saturated - backpressure on the CPU stage
+            handoff.put(new IoWork(job, future, primesFound, startTime, handedOffAt));
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(future, outcomes.failed(job, startTime, new IllegalStateException("Hybrid pipeline interrupted", e)));
+        } catch (Exception e) {
+            finish(future, outcomes.failed(job, startTime, e));
+        }
+    }
+
+    private void dispatchIo() {
+        try {
+            while (true) {
+                ioPermits.acquire();
+                IoWork work;
+                try {
+                    work = handoff.take();
+                } catch (InterruptedException e) {
+                    ioPermits.release();
+                    throw e;
+                }
+                virtualThreadExecutor.execute(() -> {
+                    try {
+                        runIoStage(work);
+                    } finally {
+                        ioPermits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("Hybrid I/O dispatcher stopped");
+        }
+    }
+
+    private void runIoStage(IoWork work) {
+        var job = work.job();
+        ioActive.incrementAndGet();
+        var ioStart = System.nanoTime();
+        CompletableFuture<String> io;
+        try {
+            io = retryScheduler.callBlocking(job, this::resubmitIo,
+                    () -> ioSimulator.simulateWork(job.getPayload() + " [primes=" + work.primesFound() + "]"));
+        } finally {
+            metricsService.recordStage(JobPhase.IO,
+                    Duration.ofNanos(ioStart - work.handedOffAt()), Duration.ofNanos(System.nanoTime() - ioStart));
+            ioActive.decrementAndGet();
+        }
+
+        io.whenComplete((result, error) ->
+                finish(work.future(), outcomes.finish(job, work.startTime(), result, error)));
+    }
+
+    /**
+     * Runs a retry attempt whose backoff has expired, within the I/O stage's concurrency.
+     */
+    private void resubmitIo(Runnable attempt) {
+        virtualThreadExecutor.execute(() -> {
+            ioPermits.acquireUninterruptibly();
+            ioActive.incrementAndGet();
+            try {
+                attempt.run();
+            } finally {
+                ioActive.decrementAndGet();
+                ioPermits.release();
+            }
+        });
+    }
+
+    private void finish(CompletableFuture<JobResult> future, JobResult jobResult) {
+        activeCount.decrementAndGet();
+        metricsService.decrementActive(ExecutionMode.HYBRID);
+        future.complete(jobResult);
+    }
+
+    /**
+     * Stops the I/O stage dispatcher on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    @Override
+    public ExecutionMode getMode() {
+        return ExecutionMode.HYBRID;
+    }
+
+    @Override
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * Returns the number of jobs waiting between the CPU and I/O stages.
+     *
+     * @return hand-off queue size
+     */
+    public int getHandoffSize() {
+        return handoff.size();
+    }
+
+    /**
+     * A job whose CPU stage is done, waiting for the I/O stage.
+     *
+     * @param job          the job
+     * @param future       future completed when the job finishes
+     * @param primesFound  result of the CPU stage
+     * @param startTime    when the job started its CPU stage
+     * @param handedOffAt  {@link System#nanoTime()} when it entered the hand-off queue
+     */
+    private record IoWork(Job job, CompletableFuture<JobResult> future, long primesFound,
+                          Instant startTime, long handedOffAt) {}
+}
@@ -2,8 +2,10 @@ package com.jobengine.executor;
 
 import com.jobengine.model.ExecutionMode;
 import com.jobengine.model.Job;
+import com.jobengine.model.JobPriority;
 import com.jobengine.model.JobResult;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -40,6 +42,40 @@ public interface JobExecutor {
      */
     CompletableFuture<JobResult> execute(Job job);
 
+    /**
+     * Executes a group of jobs handed off together.
+     *
+     * <p>The default implementation calls {@link #execute(Job)} for each job. Executors
+     * with a per-task hand-off cost (e.g. a shared work queue) can override this to
+     * enqueue the group in fewer, larger tasks.</p>
+     *
+     * @param jobs the jobs to execute
+     * @return one future per job, in the same order as {@code jobs}
+     */
+    default List<CompletableFuture<JobResult>> executeAll(List<Job> jobs) {
+        return jobs.stream().map(this::execute).toList();
+    }
+
+    /**
+     * Tells whether {@link #execute(Job)} runs the job on the calling thread and returns
+     * only once it is done, instead of handing it off.
+     *
+     * @return true if the caller is held up for the job's whole duration
+     */
+    default boolean runsOnCaller() {
+        return false;
+    }
+
+    /**
+     * Tells whether jobs waiting for this executor are ordered by {@link JobPriority}. Where
+     * they are not, a priority other than NORMAL would have no effect.
+     *
+     * @return true if a higher priority job starts before the lower priority jobs queued
+     */
+    default boolean ordersByPriority() {
+        return false;
+    }
+
     /**
      * Returns the execution mode this executor handles.
      *
@@ -0,0 +1,137 @@
+package com.jobengine.executor;
+
+import com.jobengine.exception.IOTimeoutException;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobResult;
+import com.jobengine.model.JobStatus;
+import com.jobengine.service.MetricsService;
+import com.jobengine.service.RetryScheduler;
+import com.jobengine.service.RollingPercentile;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How a job ends in one execution mode: expired before it starts, completed or failed.
+ *
+ * <p>Every executor keeps one instance. It tracks the mode's recent service times, uses
+ * their median to drop jobs whose deadline can no longer be met, and sets the final
+ * status, metrics and log line of the jobs that did run. Executors keep only what is
+ * specific to them, such as their active counts or limiter permits.</p>
+ *
+ * @author gsk
+ */
+final class JobOutcomes {
+
+    private static final int SERVICE_TIME_WINDOW = 1024;
+    private static final int SERVICE_TIME_MIN_SAMPLES = 20;
+
+    private final ExecutionMode mode;
+    private final String label;
+    private final MetricsService metricsService;
+    private final Logger log;
+    private final RollingPercentile serviceTime = new RollingPercentile(SERVICE_TIME_WINDOW, SERVICE_TIME_MIN_SAMPLES);
+
+    /**
+     * Creates the outcomes of one mode.
+     *
+     * @param mode           the execution mode
+     * @param label          the mode's name in log lines, e.g. "Thread pool"
+     * @param metricsService service for recording metrics
+     * @param log            the executor's logger
+     */
+    JobOutcomes(ExecutionMode mode, String label, MetricsService metricsService, Logger log) {
+        this.mode = mode;
+        this.label = label;
+        this.metricsService = metricsService;
+        this.log = log;
+    }
+
+    /**
+     * Expires a job that would finish past its deadline at the median service time, without
+     * spending any CPU or I/O on it.
+     *
+     * @param job the job about to start
+     * @return the {@link JobStatus#EXPIRED} result, or {@code null} if the job should run
+     */
+    JobResult expireIfUnreachable(Job job) {
+        var expectedNanos = serviceTime.percentile(0.5);
+        if (job.getDeadline() == null || !Instant.now().plusNanos(expectedNanos).isAfter(job.getDeadline())) {
+            return null;
+        }
+
+        job.setStatus(JobStatus.EXPIRED);
+        job.setCompletedAt(Instant.now());
+        metricsService.recordJobExpired(mode);
+
+        log.debug("{} job expired before start: jobId={}, deadline={}, p50ServiceTime={}ms",
+                label, job.getId(), job.getDeadline(), TimeUnit.NANOSECONDS.toMillis(expectedNanos));
+
+        return JobResult.failure(job, "Expired: deadline unreachable", Duration.ZERO);
+    }
+
+    /**
+     * Completes a job that ran since {@code startTime}, successfully if {@code error} is null.
+     *
+     * @param job       the job that ran
+     * @param startTime when it started running
+     * @param output    its output, if it succeeded
+     * @param error     why it failed, or {@code null}
+     * @return the job result
+     */
+    JobResult finish(Job job, Instant startTime, String output, Throwable error) {
+        return error == null ? succeeded(job, startTime, output) : failed(job, startTime, error);
+    }
+
+    /**
+     * Marks a job that ran since {@code startTime} as {@link JobStatus#COMPLETED}.
+     *
+     * @param job       the job that ran
+     * @param startTime when it started running
+     * @param output    its output
+     * @return the success result
+     */
+    JobResult succeeded(Job job, Instant startTime, String output) {
+        var executionTime = Duration.between(startTime, Instant.now());
+        serviceTime.record(executionTime.toNanos());
+        job.setStatus(JobStatus.COMPLETED);
+        job.setCompletedAt(Instant.now());
+        metricsService.recordJobCompletion(mode, executionTime, true);
+
+        log.info("{} execution completed: jobId={}, attempts={}, duration={}ms",
+                label, job.getId(), job.getAttempts(), executionTime.toMillis());
+
+        return JobResult.success(job, output, executionTime);
+    }
+
+    /**
+     * Marks a job that ran since {@code startTime} as {@link JobStatus#TIMED_OUT} if its I/O
+     * ran out of time, or {@link JobStatus#FAILED} otherwise.
+     *
+     * @param job       the job that ran
+     * @param startTime when it started running
+     * @param error     why it failed, possibly wrapped by a future
+     * @return the failure result
+     */
+    JobResult failed(Job job, Instant startTime, Throwable error) {
+        var cause = RetryScheduler.unwrap(error);
+        var timedOut = cause instanceof IOTimeoutException;
+        var executionTime = Duration.between(startTime, Instant.now());
+        serviceTime.record(executionTime.toNanos());
+        job.setStatus(timedOut ? JobStatus.TIMED_OUT : JobStatus.FAILED);
+        job.setCompletedAt(Instant.now());
+        if (timedOut) {
+            metricsService.recordJobTimedOut(mode, executionTime);
+        } else {
+            metricsService.recordJobCompletion(mode, executionTime, false);
+        }
+
+        log.error("{} execution {}: jobId={}, attempts={}, error={}",
+                label, timedOut ? "timed out" : "failed", job.getId(), job.getAttempts(), cause.getMessage());
+
+        return JobResult.failure(job, cause.getMessage(), executionTime);
+    }
+}
@@ -0,0 +1,174 @@
+package com.jobengine.executor;
+
+import com.jobengine.exception.InvalidJobException;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobResult;
+import com.jobengine.model.JobStatus;
+import com.jobengine.service.CPUSimulator;
+import com.jobengine.service.IOSimulator;
+import com.jobengine.service.MetricsService;
+import com.jobengine.service.RetryScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Reactive job executor - composes the CPU phase and a non-blocking I/O phase.
+ *
+ * <h2>How It Works</h2>
+ * <p>Every other executor spends a thread on the I/O wait: a platform thread in
+ * THREAD_POOL, a virtual thread in ASYNC, FORK_JOIN and HYBRID. REACTIVE spends none:</p>
+ * <pre>
+ *   submit ──▶ [CPU phase] ──▶ simulateWorkAsync ──▶ timing wheel ──▶ [completion]
+ *              platform pool   (returns at once)     (one node per     timer task
+ *              (= cores)                              in-flight job)    executor
+ * </pre>
+ * <ol>
+ *   <li>A core-sized pool counts primes</li>
+ *   <li>{@link IOSimulator#simulateWorkAsync} arms a timer and returns a future; the CPU
+ *       thread moves on to the next job</li>
+ *   <li>When the timer fires, the continuation records the result and completes the
+ *       job's future</li>
+ * </ol>
+ *
+ * <h3>Memory per In-Flight Job</h3>
+ * <p>A job waiting on I/O is a timer node plus a chain of two futures - a few hundred bytes,
+ * against a few KB of continuation for a parked virtual thread. This is the mode to compare
+ * against ASYNC at hundreds of thousands to millions of in-flight jobs; raise
+ * {@code job-engine.admission.max-pending-per-mode} to get there.</p>
+ *
+ * <h2>Deadlines</h2>
+ * <p>As in THREAD_POOL and ASYNC, a job whose deadline can no longer be met at the median
+ * service time of recent jobs is marked {@link JobStatus#EXPIRED} before its CPU phase.</p>
+ *
+ * <h2>Retries</h2>
+ * <p>A failed I/O attempt is retried through the {@link RetryScheduler}: the backoff is one
+ * more timer node and the retry starts straight from the timer task, still without a
+ * thread waiting for it.</p>
+ *
+ * <h2>Trade-offs</h2>
+ * <table border="1">
+ *   <caption>Reactive Executor Pros and Cons</caption>
+ *   <tr><th>Pros</th><th>Cons</th></tr>
+ *   <tr>
+ *     <td>No thread held while waiting on I/O</td>
+ *     <td>Code split into callbacks instead of straight-line blocking calls</td>
+ *   </tr>
+ *   <tr>
+ *     <td>In-flight jobs bounded by heap, not threads</td>
+ *     <td>Stack traces end at the timer, not at the submitter</td>
+ *   </tr>
+ *   <tr>
+ *     <td>CPU work bounded to core count</td>
+ *     <td>Nothing may block inside a continuation</td>
+ *   </tr>
+ * </table>
+ *
+ * @author gsk
+ */
+@Component
+public class ReactiveJobExecutor implements JobExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveJobExecutor.class);
+
+    private final ThreadPoolExecutor cpuPool;
+    private final CPUSimulator cpuSimulator;
+    private final IOSimulator ioSimulator;
+    private final MetricsService metricsService;
+    private final RetryScheduler retryScheduler;
+    private final JobOutcomes outcomes;
+    private final AtomicInteger activeCount = new AtomicInteger(0);
+
+    /**
+     * Constructs a ReactiveJobExecutor.
+     *
+     * @param cpuPool        platform pool running the CPU phase
+     * @param cpuSimulator   simulator for CPU-bound operations
+     * @param ioSimulator    simulator for I/O operations
+     * @param metricsService service for recording metrics
+     * @param retryScheduler scheduler for I/O retries
+     */
+    public ReactiveJobExecutor(@Qualifier("reactiveCpuExecutor") ThreadPoolExecutor cpuPool,
+                               CPUSimulator cpuSimulator,
+                               IOSimulator ioSimulator,
+                               MetricsService metricsService,
+                               RetryScheduler retryScheduler) {
+        this.cpuPool = cpuPool;
+        this.cpuSimulator = cpuSimulator;
+        this.ioSimulator = ioSimulator;
+        this.metricsService = metricsService;
+        this.retryScheduler = retryScheduler;
+        this.outcomes = new JobOutcomes(ExecutionMode.REACTIVE, "Reactive", metricsService, log);
+    }
+
+    @Override
+    public CompletableFuture<JobResult> execute(Job job) {
+        if (job == null) {
+            throw new InvalidJobException("Job must not be null");
+        }
+
+        log.debug("Submitting to reactive executor: jobId={}, jobName={}, cpuQueue={}",
+                job.getId(), job.getName(), cpuPool.getQueue().size());
+
+        job.setStatus(JobStatus.PENDING);
+
+        return CompletableFuture.supplyAsync(() -> start(job), cpuPool)
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Runs the CPU phase on the calling pool thread and chains the I/O phase without
+     * waiting for it.
+     */
+    private CompletableFuture<JobResult> start(Job job) {
+        var expired = outcomes.expireIfUnreachable(job);
+        if (expired != null) {
+            return CompletableFuture.completedFuture(expired);
+        }
+
+        activeCount.incrementAndGet();
+        metricsService.incrementActive(ExecutionMode.REACTIVE);
+        var startTime = Instant.now();
+        job.setStatus(JobStatus.RUNNING);
+        job.setStartedAt(startTime);
+
+        long primesFound;
+        try {
+            var primeLimit = cpuSimulator.generateRandomLimit();
+            primesFound = cpuSimulator.countPrimesUpTo(primeLimit);
+        } catch (Exception e) {
+            finish();
+            return CompletableFuture.completedFuture(outcomes.failed(job, startTime, e));
+        }
+
+        var payload = job.getPayload() + " [primes=" + primesFound + "]";
+        return retryScheduler.call(job, Runnable::run, () -> ioSimulator.simulateWorkAsync(payload))
+                .handle((result, error) -> {
+                    finish();
+                    return outcomes.finish(job, startTime, result, error);
+                });
+    }
+
+    private void finish() {
+        activeCount.decrementAndGet();
+        metricsService.decrementActive(ExecutionMode.REACTIVE);
+    }
+
+    @Override
+    public ExecutionMode getMode() {
+        return ExecutionMode.REACTIVE;
+    }
+
+    @Override
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+}
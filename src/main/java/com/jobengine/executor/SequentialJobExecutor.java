@@ -7,11 +7,11 @@ import com.jobengine.model.JobStatus;
 import com.jobengine.service.CPUSimulator;
 import com.jobengine.service.IOSimulator;
 import com.jobengine.service.MetricsService;
+import com.jobengine.service.RetryScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,6 +26,15 @@ import com.jobengine.exception.InvalidJobException;
  * {@link #execute(Job)}, the job runs immediately in the current thread, blocking
  * until completion. The returned CompletableFuture is already completed.</p>
  *
+ * <p>That includes I/O retries: the backoff is armed on the {@link RetryScheduler}'s timer
+ * like in the other modes, but the calling thread waits for the outcome, so the next job
+ * never starts before this one is done.</p>
+ *
+ * <h2>Deadlines</h2>
+ * <p>Jobs queue behind each other on the caller, so a deadline can pass before a job gets
+ * its turn. As in THREAD_POOL, a job whose deadline can no longer be met at the median
+ * service time of recent jobs is marked {@link JobStatus#EXPIRED} instead of being run.</p>
+ *
  * <h2>JVM Internals</h2>
  * <ul>
  *   <li><b>Stack:</b> Uses the caller's stack frame. Each method call adds a frame
@@ -83,6 +92,8 @@ public class SequentialJobExecutor implements JobExecutor {
     private final CPUSimulator cpuSimulator;
     private final IOSimulator ioSimulator;
     private final MetricsService metricsService;
+    private final RetryScheduler retryScheduler;
+    private final JobOutcomes outcomes;
     private final AtomicInteger activeCount = new AtomicInteger(0);
 
     /**
@@ -91,11 +102,15 @@ public class SequentialJobExecutor implements JobExecutor {
      * @param cpuSimulator   simulator for CPU-bound operations
      * @param ioSimulator    simulator for I/O operations
      * @param metricsService service for recording metrics
+     * @param retryScheduler scheduler for I/O retries
      */
-    public SequentialJobExecutor(CPUSimulator cpuSimulator, IOSimulator ioSimulator, MetricsService metricsService) {
+    public SequentialJobExecutor(CPUSimulator cpuSimulator, IOSimulator ioSimulator, MetricsService metricsService,
+                                 RetryScheduler retryScheduler) {
         this.cpuSimulator = cpuSimulator;
         this.ioSimulator = ioSimulator;
         this.metricsService = metricsService;
+        this.retryScheduler = retryScheduler;
+        this.outcomes = new JobOutcomes(ExecutionMode.SEQUENTIAL, "Sequential", metricsService, log);
     }
 
     @Override
@@ -104,6 +119,11 @@ public class SequentialJobExecutor implements JobExecutor {
             throw new InvalidJobException("Job must not be null");
         }
 
+        var expired = outcomes.expireIfUnreachable(job);
+        if (expired != null) {
+            return CompletableFuture.completedFuture(expired);
+        }
+
         log.debug("Starting sequential execution: jobId={}, jobName={}", job.getId(), job.getName());
         
         activeCount.incrementAndGet();
@@ -119,32 +139,15 @@ public class SequentialJobExecutor implements JobExecutor {
             // CPU-bound work: calculate primes
             var primesFound = cpuSimulator.countPrimesUpTo(primeLimit);
             
-            // I/O-bound work: simulate network/database call
-            var result = ioSimulator.simulateWork(job.getPayload() + " [primes=" + primesFound + "]");
+            // I/O-bound work: simulate network/database call, waiting out any retries
+            var payload = job.getPayload() + " [primes=" + primesFound + "]";
+            var result = retryScheduler.callBlocking(job, Runnable::run, () -> ioSimulator.simulateWork(payload))
+                    .join();
             
-            var executionTime = Duration.between(startTime, Instant.now());
-            job.setStatus(JobStatus.COMPLETED);
-            job.setCompletedAt(Instant.now());
-
-            var jobResult = JobResult.success(job, result, executionTime);
-            metricsService.recordJobCompletion(ExecutionMode.SEQUENTIAL, executionTime, true);
-
-            log.info("Sequential execution completed: jobId={}, duration={}ms", 
-                    job.getId(), executionTime.toMillis());
-
-            return CompletableFuture.completedFuture(jobResult);
+            return CompletableFuture.completedFuture(outcomes.succeeded(job, startTime, result));
 
         } catch (Exception e) {
-            var executionTime = Duration.between(startTime, Instant.now());
-            job.setStatus(JobStatus.FAILED);
-            job.setCompletedAt(Instant.now());
-
-            var jobResult = JobResult.failure(job, e.getMessage(), executionTime);
-            metricsService.recordJobCompletion(ExecutionMode.SEQUENTIAL, executionTime, false);
-
-            log.error("Sequential execution failed: jobId={}, error={}", job.getId(), e.getMessage());
-
-            return CompletableFuture.completedFuture(jobResult);
+            return CompletableFuture.completedFuture(outcomes.failed(job, startTime, e));
 
         } finally {
             activeCount.decrementAndGet();
@@ -152,6 +155,11 @@ public class SequentialJobExecutor implements JobExecutor {
         }
     }
 
+    @Override
+    public boolean runsOnCaller() {
+        return true;
+    }
+
     @Override
     public ExecutionMode getMode() {
         return ExecutionMode.SEQUENTIAL;
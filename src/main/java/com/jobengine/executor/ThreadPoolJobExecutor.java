@@ -1,5 +1,9 @@
 package com.jobengine.executor;
 
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.config.JobEngineProperties.LimitStrategy;
+import com.jobengine.executor.limit.ConcurrencyLimiter;
+import com.jobengine.executor.limit.LimitAlgorithm;
 import com.jobengine.model.ExecutionMode;
 import com.jobengine.model.Job;
 import com.jobengine.model.JobResult;
@@ -7,14 +11,19 @@ import com.jobengine.model.JobStatus;
 import com.jobengine.service.CPUSimulator;
 import com.jobengine.service.IOSimulator;
 import com.jobengine.service.MetricsService;
+import com.jobengine.service.RetryScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import com.jobengine.exception.InvalidJobException;
 
@@ -32,9 +41,37 @@ import com.jobengine.exception.InvalidJobException;
  *   <li>If a core thread is available, it picks up the job immediately</li>
  *   <li>If all core threads are busy, job goes to the work queue</li>
  *   <li>If queue is full, new threads are created up to maxSize</li>
- *   <li>If at max capacity, rejection policy kicks in (CallerRunsPolicy)</li>
+ *   <li>If at max capacity, the job is rejected (AbortPolicy) and shed by the caller</li>
  * </ol>
  *
+ * <h3>Bulk Hand-off</h3>
+ * <p>{@link #executeAll(List)} does not enqueue one task per job. It submits at most
+ * {@code maxPoolSize} drainer tasks that claim jobs from the group through a shared
+ * index, so a large group costs a handful of queue insertions and load still
+ * balances across workers.</p>
+ *
+ * <h3>Adaptive Concurrency</h3>
+ * <p>With {@code job-engine.thread-pool.limiter.strategy} set, jobs pass through a
+ * {@link ConcurrencyLimiter} before reaching the pool. VEGAS and GRADIENT2 move the number
+ * of admitted jobs with the observed I/O latency, so the effective concurrency follows
+ * the downstream's capacity instead of the static pool sizes. The limit is capped at
+ * {@code maxSize + queueCapacity}, which keeps the rejection policy out of the picture;
+ * group hand-off falls back to per-job submission so every job goes through the limiter.
+ * Jobs waiting in the limiter are served by {@link com.jobengine.model.JobPriority} with
+ * aging, or earlier if their deadline requires it; without a limiter the pool queue is
+ * plain FIFO and only NORMAL priority is accepted.</p>
+ *
+ * <h3>Deadlines</h3>
+ * <p>Before a job starts, its deadline (if any) is checked against the median service time
+ * of recent jobs. A job that would finish too late is marked {@link JobStatus#EXPIRED}
+ * without burning a CPU + I/O cycle on a result nobody will read.</p>
+ *
+ * <h3>Retries</h3>
+ * <p>A failed I/O attempt does not sleep its worker through the backoff. The
+ * {@link RetryScheduler} arms the retry on a timer and the worker (and its limiter permit)
+ * is released; when the backoff expires, only the I/O phase is enqueued again - behind the
+ * limiter if there is one, otherwise on the pool, where a full queue fails the job.</p>
+ *
  * <h2>JVM Internals</h2>
  * <ul>
  *   <li><b>Stack:</b> Each platform thread has its own stack (~1MB by default on Linux).
@@ -106,6 +143,9 @@ public class ThreadPoolJobExecutor implements JobExecutor {
     private final CPUSimulator cpuSimulator;
     private final IOSimulator ioSimulator;
     private final MetricsService metricsService;
+    private final RetryScheduler retryScheduler;
+    private final ConcurrencyLimiter limiter;
+    private final JobOutcomes outcomes;
 
     /**
      * Constructs a ThreadPoolJobExecutor with the required dependencies.
@@ -114,15 +154,36 @@ public class ThreadPoolJobExecutor implements JobExecutor {
      * @param cpuSimulator       simulator for CPU-bound operations
      * @param ioSimulator        simulator for I/O operations
      * @param metricsService     service for recording metrics
+     * @param retryScheduler     scheduler for I/O retries
+     * @param properties         the job engine configuration properties
      */
-    public ThreadPoolJobExecutor(ThreadPoolExecutor threadPoolExecutor,
+    public ThreadPoolJobExecutor(@Qualifier("threadPoolExecutor") ThreadPoolExecutor threadPoolExecutor,
                                   CPUSimulator cpuSimulator,
                                   IOSimulator ioSimulator,
-                                  MetricsService metricsService) {
+                                  MetricsService metricsService,
+                                  RetryScheduler retryScheduler,
+                                  JobEngineProperties properties) {
         this.threadPoolExecutor = threadPoolExecutor;
         this.cpuSimulator = cpuSimulator;
         this.ioSimulator = ioSimulator;
         this.metricsService = metricsService;
+        this.retryScheduler = retryScheduler;
+        this.outcomes = new JobOutcomes(ExecutionMode.THREAD_POOL, "Thread pool", metricsService, log);
+
+        var config = properties.getThreadPool();
+        if (config.limiter().strategy() == LimitStrategy.NONE) {
+            this.limiter = null;
+        } else {
+            var limiterConfig = config.limiter().cappedAt(config.maxSize() + config.queueCapacity());
+            this.limiter = new ConcurrencyLimiter(ExecutionMode.THREAD_POOL.name(),
+                    LimitAlgorithm.of(limiterConfig), threadPoolExecutor, properties.getPriority().agingMs(),
+                    (priority, wait) -> metricsService.recordQueueWait(ExecutionMode.THREAD_POOL, priority, wait));
+            metricsService.registerLimiterGauges(ExecutionMode.THREAD_POOL, limiter,
+                    ConcurrencyLimiter::getLimit, ConcurrencyLimiter::getInFlight, ConcurrencyLimiter::getQueueSize);
+            log.info("THREAD_POOL concurrency limiter enabled: strategy={}, initialLimit={}, range=[{}, {}]",
+                    limiterConfig.strategy(), limiterConfig.initialLimit(),
+                    limiterConfig.minLimit(), limiterConfig.maxLimit());
+        }
     }
 
     @Override
@@ -139,10 +200,74 @@ public class ThreadPoolJobExecutor implements JobExecutor {
 
         job.setStatus(JobStatus.PENDING);
 
-        return CompletableFuture.supplyAsync(() -> executeJob(job), threadPoolExecutor);
+        if (limiter == null) {
+            return CompletableFuture.supplyAsync(() -> executeJob(job), threadPoolExecutor)
+                    .thenCompose(Function.identity());
+        }
+
+        var future = new CompletableFuture<JobResult>();
+        limiter.submit(job.getPriority(), job.getDeadline(), () -> {
+            try {
+                completeFrom(future, executeJob(job));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public List<CompletableFuture<JobResult>> executeAll(List<Job> jobs) {
+        if (jobs.contains(null)) {
+            throw new InvalidJobException("Job must not be null");
+        }
+        if (limiter != null) {
+            return JobExecutor.super.executeAll(jobs);
+        }
+
+        var futures = jobs.stream().map(job -> new CompletableFuture<JobResult>()).toList();
+        jobs.forEach(job -> job.setStatus(JobStatus.PENDING));
+
+        var next = new AtomicInteger();
+        Runnable drainer = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < jobs.size()) {
+                try {
+                    completeFrom(futures.get(i), executeJob(jobs.get(i)));
+                } catch (RuntimeException | Error e) {
+                    futures.get(i).completeExceptionally(e);
+                }
+            }
+        };
+
+        int drainers = Math.min(jobs.size(), threadPoolExecutor.getMaximumPoolSize());
+        log.debug("Submitting group to thread pool: jobs={}, drainers={}, queueSize={}",
+                jobs.size(), drainers, threadPoolExecutor.getQueue().size());
+        for (int d = 0; d < drainers; d++) {
+            try {
+                threadPoolExecutor.execute(drainer);
+            } catch (RejectedExecutionException e) {
+                if (d == 0) {
+                    throw e;
+                }
+                // The drainers already queued will work through the whole group
+                log.debug("Thread pool full, group handed to {} drainers", d);
+                break;
+            }
+        }
+
+        return futures;
     }
 
-    private JobResult executeJob(Job job) {
+    private CompletableFuture<JobResult> executeJob(Job job) {
+        var expired = outcomes.expireIfUnreachable(job);
+        if (expired != null) {
+            if (limiter != null) {
+                limiter.release(-1);
+            }
+            return CompletableFuture.completedFuture(expired);
+        }
+
         metricsService.incrementActive(ExecutionMode.THREAD_POOL);
         var startTime = Instant.now();
         job.setStatus(JobStatus.RUNNING);
@@ -153,41 +278,70 @@ public class ThreadPoolJobExecutor implements JobExecutor {
 
         // Generate random limit ONCE (reused across retries)
         var primeLimit = cpuSimulator.generateRandomLimit();
+        long ioNanos = -1;
+        CompletableFuture<String> io;
 
         try {
             // CPU-bound work: calculate primes
             var primesFound = cpuSimulator.countPrimesUpTo(primeLimit);
             
-            // I/O-bound work: simulate network/database call
-            var result = ioSimulator.simulateWork(job.getPayload() + " [primes=" + primesFound + "]");
-
-            var executionTime = Duration.between(startTime, Instant.now());
-            job.setStatus(JobStatus.COMPLETED);
-            job.setCompletedAt(Instant.now());
-
-            var jobResult = JobResult.success(job, result, executionTime);
-            metricsService.recordJobCompletion(ExecutionMode.THREAD_POOL, executionTime, true);
-
-            log.info("Thread pool execution completed: jobId={}, thread={}, duration={}ms",
-                    job.getId(), Thread.currentThread().getName(), executionTime.toMillis());
-
-            return jobResult;
+            // I/O-bound work: the first attempt runs here, retries are re-enqueued after their backoff
+            var payload = job.getPayload() + " [primes=" + primesFound + "]";
+            var ioStart = System.nanoTime();
+            try {
+                io = retryScheduler.callBlocking(job, attempt -> resubmit(job, attempt),
+                        () -> ioSimulator.simulateWork(payload));
+            } finally {
+                ioNanos = System.nanoTime() - ioStart;
+            }
 
         } catch (Exception e) {
-            var executionTime = Duration.between(startTime, Instant.now());
-            job.setStatus(JobStatus.FAILED);
-            job.setCompletedAt(Instant.now());
-
-            var jobResult = JobResult.failure(job, e.getMessage(), executionTime);
-            metricsService.recordJobCompletion(ExecutionMode.THREAD_POOL, executionTime, false);
-
-            log.error("Thread pool execution failed: jobId={}, thread={}, error={}",
-                    job.getId(), Thread.currentThread().getName(), e.getMessage());
-
-            return jobResult;
+            io = CompletableFuture.failedFuture(e);
         } finally {
+            if (limiter != null) {
+                limiter.release(ioNanos);
+            }
+        }
+
+        return io.handle((result, error) -> {
             metricsService.decrementActive(ExecutionMode.THREAD_POOL);
+            return outcomes.finish(job, startTime, result, error);
+        });
+    }
+
+    /**
+     * Enqueues a retry attempt once its backoff has expired. It holds a limiter permit only
+     * while it runs.
+     */
+    private void resubmit(Job job, Runnable attempt) {
+        if (limiter == null) {
+            threadPoolExecutor.execute(attempt);
+            return;
         }
+        limiter.submit(job.getPriority(), job.getDeadline(), () -> {
+            var start = System.nanoTime();
+            try {
+                attempt.run();
+            } finally {
+                limiter.release(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static void completeFrom(CompletableFuture<JobResult> target, CompletableFuture<JobResult> source) {
+        source.whenComplete((result, error) -> {
+            if (error == null) {
+                target.complete(result);
+            } else {
+                target.completeExceptionally(error);
+            }
+        });
+    }
+
+    @Override
+    public boolean ordersByPriority() {
+        // Only the limiter queue is ordered; without a limiter jobs wait in FIFO order
+        return limiter != null;
     }
 
     @Override
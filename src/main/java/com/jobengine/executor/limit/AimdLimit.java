@@ -0,0 +1,58 @@
+package com.jobengine.executor.limit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive-increase / multiplicative-decrease limit, as in TCP congestion control.
+ *
+ * <ul>
+ *   <li><b>Increase:</b> +1 per sample when at least half of the limit is in use - the
+ *       limit only grows while it is actually being exercised.</li>
+ *   <li><b>Decrease:</b> ×{@value #BACKOFF_RATIO} when a job's I/O latency exceeds the
+ *       threshold, the signal that the downstream is saturated.</li>
+ * </ul>
+ *
+ * <p>Reacts quickly to overload but needs a threshold chosen from the expected latency;
+ * it cannot tell a slower downstream from a congested one.</p>
+ *
+ * @author gsk
+ */
+public class AimdLimit implements LimitAlgorithm {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long thresholdNanos;
+    private int limit;
+
+    /**
+     * Creates an AIMD limit.
+     *
+     * @param initialLimit       limit at startup
+     * @param minLimit           lower bound
+     * @param maxLimit           upper bound
+     * @param latencyThresholdMs I/O latency above which a sample counts as overload
+     */
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, int latencyThresholdMs) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int onSample(long rttNanos, int inFlight) {
+        if (rttNanos > thresholdNanos) {
+            limit = Math.max(minLimit, (int) (limit * BACKOFF_RATIO));
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        return limit;
+    }
+}
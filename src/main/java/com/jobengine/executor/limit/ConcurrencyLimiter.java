@@ -0,0 +1,181 @@
+package com.jobengine.executor.limit;
+
+import com.jobengine.model.JobPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Caps the number of jobs an executor runs at once.
+ *
+ * <h2>How It Works</h2>
+ * <ul>
+ *   <li>{@link #submit(JobPriority, Instant, Runnable)} never blocks and never creates a thread for
+ *       a job that cannot start yet: the task is added to a lock-free
+ *       {@link PriorityTaskQueue}.</li>
+ *   <li>Tasks are started on the underlying executor only while fewer than
+ *       {@link #getLimit() limit} are in flight - earliest deadline first, where a class
+ *       without an explicit deadline gets a virtual one from its priority and aging, so
+ *       lower classes are not starved.</li>
+ *   <li>Each task must call {@link #release(long)} exactly once when done, with its
+ *       I/O latency. The sample goes to the {@link LimitAlgorithm}, which may move the
+ *       limit, and the freed slot is handed to the next queued task.</li>
+ * </ul>
+ *
+ * <p>A slot is reserved with a CAS on the in-flight counter before a task is polled, so
+ * concurrent submitters and releasers never start more than {@code limit} tasks. A
+ * releaser that finds the queue empty re-checks it after giving its slot back, so a task
+ * queued in between is never stranded. If the underlying executor refuses a task, it goes
+ * back to the head of its class and is retried on the next release, or after
+ * {@value #REDRAIN_DELAY_MS}ms if no task is left in flight to release.</p>
+ *
+ * <p>The time each task spent queued is reported to a listener when it is started.</p>
+ *
+ * @author gsk
+ */
+public class ConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    private static final long REDRAIN_DELAY_MS = 10;
+    private static final Executor REDRAIN_TIMER =
+            CompletableFuture.delayedExecutor(REDRAIN_DELAY_MS, TimeUnit.MILLISECONDS);
+
+    private final String name;
+    private final LimitAlgorithm algorithm;
+    private final Executor executor;
+    private final PriorityTaskQueue waiting;
+    private final BiConsumer<JobPriority, Duration> queueWaitListener;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean redrainPending = new AtomicBoolean();
+    private final ReentrantLock algorithmLock = new ReentrantLock();
+    private volatile int limit;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param name              name used in logs (e.g. the execution mode)
+     * @param algorithm         policy deciding the limit
+     * @param executor          executor admitted tasks run on
+     * @param agingMs           waiting time that makes up for one priority class
+     * @param queueWaitListener receives the priority and queue wait of each started task
+     */
+    public ConcurrencyLimiter(String name, LimitAlgorithm algorithm, Executor executor,
+                              long agingMs, BiConsumer<JobPriority, Duration> queueWaitListener) {
+        this.name = name;
+        this.algorithm = algorithm;
+        this.executor = executor;
+        this.waiting = new PriorityTaskQueue(agingMs);
+        this.queueWaitListener = queueWaitListener;
+        this.limit = algorithm.getLimit();
+    }
+
+    /**
+     * Submits a task, starting it now if under the limit or queueing it otherwise.
+     *
+     * @param priority scheduling class of the task
+     * @param deadline instant after which the task is useless, or null if it has none
+     * @param task     the task; it must call {@link #release(long)} when done
+     */
+    public void submit(JobPriority priority, Instant deadline, Runnable task) {
+        waiting.offer(priority, deadline, task);
+        drain();
+    }
+
+    /**
+     * Releases the slot of a finished task and records its latency.
+     *
+     * @param rttNanos I/O latency of the task in nanoseconds, or a negative value if none
+     *                 was measured (e.g. it failed before reaching I/O)
+     */
+    public void release(long rttNanos) {
+        if (rttNanos >= 0) {
+            algorithmLock.lock();
+            try {
+                var previous = limit;
+                limit = algorithm.onSample(rttNanos, inFlight.get());
+                if (limit != previous) {
+                    log.debug("Concurrency limit changed: limiter={}, limit={} -> {}", name, previous, limit);
+                }
+            } finally {
+                algorithmLock.unlock();
+            }
+        }
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+
+            var entry = waiting.poll();
+            if (entry == null) {
+                inFlight.decrementAndGet();
+                if (waiting.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+
+            try {
+                executor.execute(entry.task());
+                queueWaitListener.accept(entry.priority(), Duration.ofNanos(System.nanoTime() - entry.enqueuedAt()));
+            } catch (RejectedExecutionException e) {
+                waiting.requeue(entry);
+                if (inFlight.decrementAndGet() == 0 && redrainPending.compareAndSet(false, true)) {
+                    // No release is coming to drain the queue again
+                    REDRAIN_TIMER.execute(() -> {
+                        redrainPending.set(false);
+                        drain();
+                    });
+                }
+                log.debug("Executor refused task, requeued: limiter={}", name);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return maximum number of tasks allowed in flight
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of tasks currently running.
+     *
+     * @return tasks in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of tasks waiting for a slot.
+     *
+     * @return queue depth
+     */
+    public int getQueueSize() {
+        return waiting.size();
+    }
+}
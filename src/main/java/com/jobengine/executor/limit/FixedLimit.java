@@ -0,0 +1,30 @@
+package com.jobengine.executor.limit;
+
+/**
+ * Constant concurrency limit - a plain bulkhead.
+ *
+ * @author gsk
+ */
+public class FixedLimit implements LimitAlgorithm {
+
+    private final int limit;
+
+    /**
+     * Creates a fixed limit.
+     *
+     * @param limit maximum number of jobs in flight
+     */
+    public FixedLimit(int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int onSample(long rttNanos, int inFlight) {
+        return limit;
+    }
+}
@@ -0,0 +1,86 @@
+package com.jobengine.executor.limit;
+
+/**
+ * Latency-gradient limit modeled on Netflix's Gradient2.
+ *
+ * <p>Compares the short-term RTT (one sample window) with a long-term exponential
+ * average of past windows:</p>
+ * <pre>
+ *   gradient = clamp(TOLERANCE × longRtt / shortRtt, 0.5, 1.0)
+ *   newLimit = limit × gradient + √limit
+ * </pre>
+ * <ul>
+ *   <li>While latency stays within {@value #TOLERANCE}× of its long-term level the gradient
+ *       is 1 and the limit grows by {@code √limit} per window.</li>
+ *   <li>When latency rises the limit shrinks proportionally, at most halving per window.</li>
+ *   <li>The new limit is blended in with weight {@value #SMOOTHING} to damp oscillation.</li>
+ * </ul>
+ *
+ * <p>Unlike {@link VegasLimit} it needs no minimum-RTT probing: the long-term average
+ * follows a changed latency profile by itself, and is pulled down faster when the
+ * short-term RTT drops below half of it (load went away).</p>
+ *
+ * @author gsk
+ */
+public class Gradient2Limit implements LimitAlgorithm {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int LONG_WINDOW = 600;
+    private static final double LONG_WEIGHT = 2.0 / (LONG_WINDOW + 1);
+    private static final double RECOVERY_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final SampleWindow window = new SampleWindow();
+    private double longRtt;
+    private double limit;
+
+    /**
+     * Creates a Gradient2 limit.
+     *
+     * @param initialLimit limit at startup
+     * @param minLimit     lower bound
+     * @param maxLimit     upper bound
+     */
+    public Gradient2Limit(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int onSample(long rttNanos, int inFlight) {
+        if (!window.add(rttNanos, inFlight)) {
+            return getLimit();
+        }
+        double shortRtt = window.averageRtt();
+        int maxInFlight = window.maxInFlight();
+        window.reset();
+
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+            return getLimit();
+        }
+        longRtt += (shortRtt - longRtt) * LONG_WEIGHT;
+        if (longRtt / shortRtt > 2) {
+            longRtt *= RECOVERY_DECAY;
+        }
+
+        if (maxInFlight < limit / 2) {
+            return getLimit();
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        return getLimit();
+    }
+}
@@ -0,0 +1,48 @@
+package com.jobengine.executor.limit;
+
+import com.jobengine.config.JobEngineProperties.LimiterConfig;
+
+/**
+ * Policy deciding how many jobs a {@link ConcurrencyLimiter} lets run at once.
+ *
+ * <p>Implementations receive one latency sample per finished job and may adjust the
+ * limit in response. Calls are serialized by the limiter, so implementations need not
+ * be thread-safe.</p>
+ *
+ * @author gsk
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * Returns the current limit.
+     *
+     * @return maximum number of jobs allowed in flight
+     */
+    int getLimit();
+
+    /**
+     * Feeds the latency of a finished job.
+     *
+     * @param rttNanos I/O latency of the job in nanoseconds
+     * @param inFlight jobs in flight when the job finished (including it)
+     * @return the new limit
+     */
+    int onSample(long rttNanos, int inFlight);
+
+    /**
+     * Creates the algorithm for a limiter configuration.
+     *
+     * @param config the limiter configuration (strategy other than NONE)
+     * @return the matching algorithm
+     */
+    static LimitAlgorithm of(LimiterConfig config) {
+        return switch (config.strategy()) {
+            case FIXED -> new FixedLimit(config.initialLimit());
+            case AIMD -> new AimdLimit(config.initialLimit(), config.minLimit(), config.maxLimit(),
+                    config.latencyThresholdMs());
+            case VEGAS -> new VegasLimit(config.initialLimit(), config.minLimit(), config.maxLimit());
+            case GRADIENT2 -> new Gradient2Limit(config.initialLimit(), config.minLimit(), config.maxLimit());
+            case NONE -> throw new IllegalArgumentException("Strategy NONE has no limit algorithm");
+        };
+    }
+}
@@ -0,0 +1,174 @@
+package com.jobengine.executor.limit;
+
+import com.jobengine.model.JobPriority;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free multi-level queue of tasks waiting for a {@link ConcurrencyLimiter} slot.
+ *
+ * <h2>Structure</h2>
+ * <p>One {@link ConcurrentLinkedDeque} per {@link JobPriority}: offers and polls are CAS
+ * operations on the deque of one class, so there is no global lock and producers of
+ * different classes do not even touch the same nodes. Within a class the order is FIFO.</p>
+ *
+ * <h2>Aging</h2>
+ * <p>Each entry gets a virtual deadline {@code enqueuedAt + ordinal × aging}: HIGH entries
+ * are due when queued, NORMAL ones {@code aging} later, LOW ones {@code 2 × aging} later.
+ * {@link #poll()} serves the class whose head has the earliest deadline. HIGH therefore
+ * wins over a NORMAL entry queued at the same time, but a NORMAL entry that has waited
+ * {@code aging} longer than the oldest HIGH one is served first - no class starves.
+ * Because heads are the oldest entries of their class, comparing the heads only costs
+ * one peek per class.</p>
+ *
+ * <h2>Earliest Deadline First</h2>
+ * <p>Entries whose job carries a real deadline go to a {@link ConcurrentSkipListMap}
+ * instead, keyed by the earlier of that deadline and their virtual one. Its first element
+ * competes with the class heads under the same rule, so a job that must start soon
+ * overtakes everything due later, while a far deadline never makes a job wait longer
+ * than its class alone would. Ties are broken by arrival sequence.</p>
+ *
+ * @author gsk
+ */
+public class PriorityTaskQueue {
+
+    private final long agingNanos;
+    private final Map<JobPriority, Deque<Entry>> queues = new EnumMap<>(JobPriority.class);
+    private final ConcurrentNavigableMap<Entry, Boolean> byDeadline = new ConcurrentSkipListMap<>((a, b) -> {
+        var order = Long.signum(a.deadline() - b.deadline());
+        return order != 0 ? order : Long.compare(a.sequence(), b.sequence());
+    });
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates an empty queue.
+     *
+     * @param agingMs waiting time that makes up for one priority class
+     */
+    public PriorityTaskQueue(long agingMs) {
+        this.agingNanos = TimeUnit.MILLISECONDS.toNanos(agingMs);
+        for (JobPriority priority : JobPriority.values()) {
+            queues.put(priority, new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    /**
+     * Queues a task, at the tail of its class or by deadline if it has one.
+     *
+     * @param priority class of the task
+     * @param deadline instant after which the task is useless, or null if it has none
+     * @param task     the task
+     */
+    public void offer(JobPriority priority, Instant deadline, Runnable task) {
+        var now = System.nanoTime();
+        var virtualDeadline = now + priority.ordinal() * agingNanos;
+        if (deadline == null) {
+            queues.get(priority).offerLast(new Entry(priority, task, now, virtualDeadline, false, 0));
+        } else {
+            var realDeadline = now + Duration.between(Instant.now(), deadline).toNanos();
+            var key = realDeadline - virtualDeadline < 0 ? realDeadline : virtualDeadline;
+            byDeadline.put(new Entry(priority, task, now, key, true, sequence.getAndIncrement()), Boolean.TRUE);
+        }
+        size.incrementAndGet();
+    }
+
+    /**
+     * Puts a previously polled entry back where it was taken from.
+     *
+     * @param entry the entry
+     */
+    public void requeue(Entry entry) {
+        if (entry.timed()) {
+            byDeadline.put(entry, Boolean.TRUE);
+        } else {
+            queues.get(entry.priority()).offerFirst(entry);
+        }
+        size.incrementAndGet();
+    }
+
+    /**
+     * Removes the entry with the earliest deadline.
+     *
+     * @return the entry, or null if the queue is empty
+     */
+    public Entry poll() {
+        while (true) {
+            Deque<Entry> earliest = null;
+            long earliestDeadline = 0;
+            for (var queue : queues.values()) {
+                var head = queue.peekFirst();
+                if (head != null && (earliest == null || head.deadline() - earliestDeadline < 0)) {
+                    earliest = queue;
+                    earliestDeadline = head.deadline();
+                }
+            }
+
+            Entry entry;
+            var timedHead = byDeadline.firstEntry();
+            if (timedHead != null && (earliest == null || timedHead.getKey().deadline() - earliestDeadline < 0)) {
+                var polled = byDeadline.pollFirstEntry();
+                entry = polled == null ? null : polled.getKey();
+            } else if (earliest != null) {
+                entry = earliest.pollFirst();
+            } else {
+                return null;
+            }
+
+            if (entry != null) {
+                size.decrementAndGet();
+                return entry;
+            }
+            // Head taken by a concurrent poll - look again
+        }
+    }
+
+    /**
+     * Returns whether no task is waiting.
+     *
+     * @return {@code true} if every class is empty
+     */
+    public boolean isEmpty() {
+        if (!byDeadline.isEmpty()) {
+            return false;
+        }
+        for (var queue : queues.values()) {
+            if (!queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of waiting tasks.
+     *
+     * @return queue depth over all classes
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * A waiting task.
+     *
+     * @param priority   class of the task
+     * @param task       the task
+     * @param enqueuedAt {@link System#nanoTime()} when it was first queued
+     * @param deadline   deadline used for ordering (virtual, or the job's own if earlier)
+     * @param timed      whether the entry is ordered by a real deadline
+     * @param sequence   arrival order among timed entries
+     */
+    public record Entry(JobPriority priority, Runnable task, long enqueuedAt, long deadline,
+                        boolean timed, long sequence) {}
+}
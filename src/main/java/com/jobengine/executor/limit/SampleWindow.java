@@ -0,0 +1,69 @@
+package com.jobengine.executor.limit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregates latency samples into windows for the latency-gradient algorithms.
+ *
+ * <p>Single I/O samples are too noisy to compare against each other - a downstream
+ * with 200-400ms jitter would look congested on every slow call. A window closes once it
+ * holds at least {@value #MIN_SAMPLES} samples and has been open for
+ * {@value #MIN_DURATION_MS}ms; its average RTT is then one measurement.</p>
+ *
+ * <p>Not thread-safe; {@link ConcurrencyLimiter} serializes calls.</p>
+ *
+ * @author gsk
+ */
+final class SampleWindow {
+
+    private static final int MIN_SAMPLES = 10;
+    private static final long MIN_DURATION_MS = 1000;
+    private static final long MIN_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(MIN_DURATION_MS);
+
+    private long startedAt = System.nanoTime();
+    private long rttSum;
+    private int samples;
+    private int maxInFlight;
+
+    /**
+     * Adds a sample and reports whether the window is complete.
+     *
+     * @param rttNanos latency of the sample
+     * @param inFlight jobs in flight when the sample was taken
+     * @return {@code true} if the window can be consumed
+     */
+    boolean add(long rttNanos, int inFlight) {
+        rttSum += rttNanos;
+        samples++;
+        maxInFlight = Math.max(maxInFlight, inFlight);
+        return samples >= MIN_SAMPLES && System.nanoTime() - startedAt >= MIN_DURATION_NANOS;
+    }
+
+    /**
+     * Returns the average RTT of the window.
+     *
+     * @return average latency in nanoseconds
+     */
+    long averageRtt() {
+        return rttSum / samples;
+    }
+
+    /**
+     * Returns the highest in-flight count seen in the window.
+     *
+     * @return peak concurrency
+     */
+    int maxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Starts a new window.
+     */
+    void reset() {
+        startedAt = System.nanoTime();
+        rttSum = 0;
+        samples = 0;
+        maxInFlight = 0;
+    }
+}
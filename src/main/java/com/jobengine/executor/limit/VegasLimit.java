@@ -0,0 +1,92 @@
+package com.jobengine.executor.limit;
+
+/**
+ * Delay-based limit modeled on TCP Vegas.
+ *
+ * <p>The lowest windowed RTT seen is taken as the no-load latency {@code rttNoLoad}. For
+ * a window with average RTT {@code rtt}, the number of jobs queued somewhere downstream
+ * is estimated as</p>
+ * <pre>
+ *   queue = limit × (1 − rttNoLoad / rtt)
+ * </pre>
+ * <p>and the limit moves to keep that queue small, with steps scaled by
+ * {@code log10(limit)}:</p>
+ * <ul>
+ *   <li>{@code queue ≤ log}: far from saturation, +{@code 6·log}</li>
+ *   <li>{@code queue < 3·log}: +{@code log}</li>
+ *   <li>{@code queue > 6·log}: downstream is queueing, −{@code log}</li>
+ * </ul>
+ *
+ * <p>Every {@value #PROBE_INTERVAL} windows {@code rttNoLoad} is re-measured from scratch,
+ * so a permanent change of the latency profile becomes the new baseline instead of
+ * being read as congestion forever. The limit never grows while less than half of it is
+ * used.</p>
+ *
+ * @author gsk
+ */
+public class VegasLimit implements LimitAlgorithm {
+
+    private static final int PROBE_INTERVAL = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final SampleWindow window = new SampleWindow();
+    private long rttNoLoad;
+    private int windowsUntilProbe = PROBE_INTERVAL;
+    private int limit;
+
+    /**
+     * Creates a Vegas limit.
+     *
+     * @param initialLimit limit at startup
+     * @param minLimit     lower bound
+     * @param maxLimit     upper bound
+     */
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int onSample(long rttNanos, int inFlight) {
+        if (!window.add(rttNanos, inFlight)) {
+            return limit;
+        }
+        long rtt = window.averageRtt();
+        int maxInFlight = window.maxInFlight();
+        window.reset();
+
+        if (--windowsUntilProbe <= 0) {
+            windowsUntilProbe = PROBE_INTERVAL;
+            rttNoLoad = rtt;
+            return limit;
+        }
+        if (rttNoLoad == 0 || rtt < rttNoLoad) {
+            rttNoLoad = rtt;
+            return limit;
+        }
+
+        int log = Math.max(1, (int) Math.log10(limit));
+        int queue = (int) Math.ceil(limit * (1 - (double) rttNoLoad / rtt));
+
+        int newLimit = limit;
+        if (queue > 6 * log) {
+            newLimit = limit - log;
+        } else if (maxInFlight * 2 < limit) {
+            return limit;
+        } else if (queue <= log) {
+            newLimit = limit + 6 * log;
+        } else if (queue < 3 * log) {
+            newLimit = limit + log;
+        }
+
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        return limit;
+    }
+}
@@ -0,0 +1,174 @@
+package com.jobengine.executor.timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Timer for very large numbers of pending tasks, built on a hierarchical timing wheel.
+ *
+ * <h2>Why Not a ScheduledThreadPoolExecutor</h2>
+ * <p>{@link java.util.concurrent.ScheduledThreadPoolExecutor} keeps every task in a binary
+ * heap: O(log n) insert, O(log n) cancel (or a tombstone left until its deadline), and one
+ * shared lock. With millions of pending jobs both the lock and the heap depth show up. Here
+ * a task is linked into the bucket of its tick in O(1) and unlinked in O(1) when
+ * cancelled.</p>
+ *
+ * <h2>How It Works</h2>
+ * <ul>
+ *   <li><b>Wheels:</b> the finest {@link TimingWheel} has {@code wheelSize} slots of
+ *       {@code tick}; delays beyond it go to coarser overflow wheels, created on demand.</li>
+ *   <li><b>Clock:</b> only non-empty buckets enter a {@link DelayQueue}. A single driver
+ *       thread sleeps until the earliest one is due, advances the wheels to it and
+ *       re-inserts its tasks: those now due fire, the others drop to a finer wheel. Idle
+ *       ticks cost nothing.</li>
+ *   <li><b>Firing:</b> due tasks are handed to an executor so a slow task never delays the
+ *       clock. A task never fires early and at most about one tick late.</li>
+ * </ul>
+ *
+ * <p>Scheduling takes a shared read lock and only the clock takes the write lock, so
+ * producers never block each other.</p>
+ *
+ * @author gsk
+ */
+public class HierarchicalTimer {
+
+    private static final Logger log = LoggerFactory.getLogger(HierarchicalTimer.class);
+
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final String name;
+    private final long tickMs;
+    private final Executor taskExecutor;
+    private final DelayQueue<TimerBucket> queue = new DelayQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final TimingWheel wheel;
+    private final ReentrantReadWriteLock clockLock = new ReentrantReadWriteLock();
+    private final Thread driver;
+    private volatile boolean running = true;
+
+    /**
+     * Creates and starts a timer.
+     *
+     * @param name         name of the driver thread
+     * @param tick         resolution of the finest wheel
+     * @param wheelSize    number of slots per wheel
+     * @param taskExecutor executor due tasks run on
+     */
+    public HierarchicalTimer(String name, Duration tick, int wheelSize, Executor taskExecutor) {
+        this.name = name;
+        this.taskExecutor = taskExecutor;
+        this.tickMs = Math.max(1, tick.toMillis());
+        this.wheel = new TimingWheel(tickMs, wheelSize, nowMs(), pendingCount, queue);
+        this.driver = Thread.ofPlatform().name(name).daemon().start(this::drive);
+    }
+
+    /**
+     * Schedules a task to run once after a delay.
+     *
+     * @param delay time from now; zero or negative runs the task right away
+     * @param task  the task
+     * @return handle to cancel the task
+     */
+    public Timeout schedule(Duration delay, Runnable task) {
+        // Rounded up to a tick: a bucket fires at the start of its tick, so a task never runs early
+        var expiration = nowMs() + Math.max(0, delay.plusNanos(999_999).toMillis());
+        var timeout = new Timeout(expiration + Math.floorMod(-expiration, tickMs), task);
+        clockLock.readLock().lock();
+        try {
+            insert(timeout);
+        } finally {
+            clockLock.readLock().unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the number of tasks waiting to fire.
+     *
+     * @return pending task count
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Returns the number of buckets holding at least one task.
+     *
+     * @return occupied bucket count over all wheels
+     */
+    public int getOccupiedBuckets() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of wheel levels created so far.
+     *
+     * @return wheel count, from the finest one up
+     */
+    public int getLevels() {
+        return wheel.levels();
+    }
+
+    /**
+     * Stops the clock. Pending tasks are dropped.
+     */
+    public void shutdown() {
+        running = false;
+        driver.interrupt();
+        log.info("Timer stopped: name={}, droppedTasks={}", name, pendingCount.get());
+    }
+
+    static long nowMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private void insert(Timeout timeout) {
+        if (!wheel.add(timeout) && timeout.markFired()) {
+            try {
+                taskExecutor.execute(timeout.task());
+            } catch (RejectedExecutionException e) {
+                log.warn("Timer task rejected: name={}", name);
+            }
+        }
+    }
+
+    private void drive() {
+        while (running) {
+            try {
+                advance();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Timer clock failed to advance: name={}", name, e);
+            }
+        }
+    }
+
+    private void advance() throws InterruptedException {
+        var bucket = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return;
+        }
+        clockLock.writeLock().lock();
+        try {
+            while (bucket != null) {
+                wheel.advanceClock(bucket.getExpiration());
+                for (var timeout : bucket.flush()) {
+                    insert(timeout);
+                }
+                bucket = queue.poll();
+            }
+        } finally {
+            clockLock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobengine.executor.timer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handle of a task scheduled on a {@link HierarchicalTimer}.
+ *
+ * <p>The handle is also the node of the bucket list it waits in, so cancelling it is an
+ * O(1) unlink that frees the slot right away instead of leaving a tombstone for the
+ * clock to skip. A timeout fires at most once and is either fired or cancelled, never
+ * both: the two outcomes race on a single CAS.</p>
+ *
+ * @author gsk
+ */
+public final class Timeout {
+
+    private static final int PENDING = 0;
+    private static final int FIRED = 1;
+    private static final int CANCELLED = 2;
+
+    private final long expirationMs;
+    private final Runnable task;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+
+    // Guarded by the lock of the bucket the timeout is linked into
+    volatile TimerBucket bucket;
+    Timeout prev;
+    Timeout next;
+
+    Timeout(long expirationMs, Runnable task) {
+        this.expirationMs = expirationMs;
+        this.task = task;
+    }
+
+    /**
+     * Cancels the task if it has not fired yet.
+     *
+     * @return true if this call prevented the task from running
+     */
+    public boolean cancel() {
+        if (!state.compareAndSet(PENDING, CANCELLED)) {
+            return false;
+        }
+        for (var current = bucket; current != null; current = bucket) {
+            current.remove(this);
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the task was cancelled.
+     *
+     * @return true once {@link #cancel()} succeeded
+     */
+    public boolean isCancelled() {
+        return state.get() == CANCELLED;
+    }
+
+    long expirationMs() {
+        return expirationMs;
+    }
+
+    Runnable task() {
+        return task;
+    }
+
+    boolean markFired() {
+        return state.compareAndSet(PENDING, FIRED);
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobengine.executor.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One slot of a {@link TimingWheel}: a doubly linked list of timeouts sharing the same
+ * tick, and the unit the timer's delay queue is ordered by.
+ *
+ * <p>Only buckets, never individual timeouts, enter the delay queue, so its size is
+ * bounded by the number of slots in use rather than by the number of pending tasks.</p>
+ *
+ * @author gsk
+ */
+final class TimerBucket implements Delayed {
+
+    private final AtomicInteger pendingCount;
+    private final AtomicLong expirationMs = new AtomicLong(-1);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Timeout root = new Timeout(-1, null);
+
+    TimerBucket(AtomicInteger pendingCount) {
+        this.pendingCount = pendingCount;
+        root.next = root;
+        root.prev = root;
+    }
+
+    void add(Timeout timeout) {
+        // A timeout moving down from a coarser wheel is unlinked from its old bucket first
+        for (var current = timeout.bucket; current != null; current = timeout.bucket) {
+            current.remove(timeout);
+        }
+
+        lock.lock();
+        try {
+            var tail = root.prev;
+            timeout.next = root;
+            timeout.prev = tail;
+            tail.next = timeout;
+            root.prev = timeout;
+            timeout.bucket = this;
+            pendingCount.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Timeout timeout) {
+        lock.lock();
+        try {
+            if (timeout.bucket == this) {
+                timeout.next.prev = timeout.prev;
+                timeout.prev.next = timeout.next;
+                timeout.next = null;
+                timeout.prev = null;
+                timeout.bucket = null;
+                pendingCount.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Empties the bucket and returns what it held; the bucket can then be reused for a
+     * later round of its wheel.
+     */
+    List<Timeout> flush() {
+        var flushed = new ArrayList<Timeout>();
+        lock.lock();
+        try {
+            for (var timeout = root.next; timeout != root; timeout = root.next) {
+                remove(timeout);
+                flushed.add(timeout);
+            }
+            expirationMs.set(-1);
+        } finally {
+            lock.unlock();
+        }
+        return flushed;
+    }
+
+    /**
+     * Sets the tick this bucket stands for.
+     *
+     * @return true if it changed, i.e. the bucket must be (re)queued
+     */
+    boolean setExpiration(long expiration) {
+        return expirationMs.getAndSet(expiration) != expiration;
+    }
+
+    long getExpiration() {
+        return expirationMs.get();
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(expirationMs.get() - HierarchicalTimer.nowMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(expirationMs.get(), ((TimerBucket) other).expirationMs.get());
+    }
+}
@@ -0,0 +1,106 @@
+package com.jobengine.executor.timer;
+
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One level of a hierarchical timing wheel.
+ *
+ * <p>The wheel has {@code wheelSize} buckets of {@code tickMs} each and covers
+ * {@code interval = tickMs × wheelSize} from its current time. A timeout beyond that goes
+ * to an overflow wheel whose tick is this wheel's whole interval, created on first need.
+ * As the clock advances, buckets of a coarser wheel expire and their timeouts are
+ * re-inserted, landing in ever finer wheels until they fire.</p>
+ *
+ * <p>Insertion is O(1) per level and the number of levels grows with the logarithm of the
+ * longest delay, e.g. with 10ms × 512 the levels cover 5s, 43min and 15 days.</p>
+ *
+ * @author gsk
+ */
+final class TimingWheel {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final AtomicInteger pendingCount;
+    private final DelayQueue<TimerBucket> queue;
+    private final TimerBucket[] buckets;
+    private final ReentrantLock overflowLock = new ReentrantLock();
+    private volatile TimingWheel overflowWheel;
+    private volatile long currentTimeMs;
+
+    TimingWheel(long tickMs, int wheelSize, long startMs, AtomicInteger pendingCount, DelayQueue<TimerBucket> queue) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.pendingCount = pendingCount;
+        this.queue = queue;
+        this.buckets = new TimerBucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new TimerBucket(pendingCount);
+        }
+        this.currentTimeMs = startMs - Math.floorMod(startMs, tickMs);
+    }
+
+    /**
+     * Adds a timeout to the bucket of its tick.
+     *
+     * @return false if the timeout is already due (or cancelled) and was not added
+     */
+    boolean add(Timeout timeout) {
+        var expiration = timeout.expirationMs();
+        if (timeout.isCancelled() || expiration < currentTimeMs + tickMs) {
+            return false;
+        }
+        if (expiration < currentTimeMs + interval) {
+            var virtualId = Math.floorDiv(expiration, tickMs);
+            var bucket = buckets[(int) Math.floorMod(virtualId, (long) wheelSize)];
+            bucket.add(timeout);
+            if (bucket.setExpiration(virtualId * tickMs)) {
+                // A bucket gets a new expiration only after it was flushed, so it is not queued yet
+                queue.offer(bucket);
+            }
+            return true;
+        }
+        return overflowWheel().add(timeout);
+    }
+
+    /**
+     * Moves the current time forward to the tick containing {@code timeMs}.
+     */
+    void advanceClock(long timeMs) {
+        if (timeMs >= currentTimeMs + tickMs) {
+            currentTimeMs = timeMs - Math.floorMod(timeMs, tickMs);
+            var overflow = overflowWheel;
+            if (overflow != null) {
+                overflow.advanceClock(currentTimeMs);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of levels from this wheel up.
+     */
+    int levels() {
+        var overflow = overflowWheel;
+        return overflow == null ? 1 : 1 + overflow.levels();
+    }
+
+    private TimingWheel overflowWheel() {
+        var overflow = overflowWheel;
+        if (overflow == null) {
+            overflowLock.lock();
+            try {
+                overflow = overflowWheel;
+                if (overflow == null) {
+                    overflow = new TimingWheel(interval, wheelSize, currentTimeMs, pendingCount, queue);
+                    overflowWheel = overflow;
+                }
+            } finally {
+                overflowLock.unlock();
+            }
+        }
+        return overflow;
+    }
+}
@@ -0,0 +1,230 @@
+package com.jobengine.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A group of jobs submitted together through the bulk submission path.
+ *
+ * <p>The batch is returned to the client as a compact handle instead of the list of
+ * every job id, so the response size does not grow with the batch size.</p>
+ *
+ * <h2>Progress Tracking</h2>
+ * <p>The batch keeps its own aggregate view of its jobs, updated as they move through
+ * the executors:</p>
+ * <ul>
+ *   <li><b>Counters:</b> submitted (handed to the executor), running, completed,
+ *       failed, expired and timed out - atomics updated without locking from the executor
+ *       threads.</li>
+ *   <li><b>Execution time:</b> min, max and sum over jobs that ran, for the mean.</li>
+ *   <li><b>Completion:</b> a single future completed once every job result is stored.</li>
+ * </ul>
+ *
+ * <p>Reading progress is O(1) regardless of the batch size. Counters are read
+ * individually, so a snapshot taken mid-flight may be off by the jobs transitioning
+ * at that instant.</p>
+ *
+ * @author gsk
+ */
+public class Batch {
+
+    private final String id;
+    private final ExecutionMode executionMode;
+    private final JobPriority priority;
+    private final int size;
+    private final Instant createdAt;
+    private volatile Instant completedAt;
+
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger expired = new AtomicInteger();
+    private final AtomicInteger timedOut = new AtomicInteger();
+
+    private final LongAdder totalExecutionNanos = new LongAdder();
+    private final AtomicLong minExecutionNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+    private final CompletableFuture<Batch> completion = new CompletableFuture<>();
+
+    /**
+     * Creates a new batch.
+     *
+     * @param id            unique batch identifier
+     * @param executionMode execution mode shared by all jobs in the batch
+     * @param priority      priority shared by all jobs in the batch
+     * @param size          number of jobs in the batch
+     */
+    public Batch(String id, ExecutionMode executionMode, JobPriority priority, int size) {
+        this.id = id;
+        this.executionMode = executionMode;
+        this.priority = priority;
+        this.size = size;
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Records jobs handed off to the executor.
+     *
+     * @param count number of jobs handed off
+     */
+    public void recordSubmitted(int count) {
+        submitted.addAndGet(count);
+    }
+
+    /**
+     * Tracks a status transition of one of this batch's jobs.
+     *
+     * @param previous status before the transition (null on submission)
+     * @param current  status after the transition
+     */
+    public void onStatusChange(JobStatus previous, JobStatus current) {
+        if (current == JobStatus.RUNNING) {
+            running.incrementAndGet();
+        }
+        if (previous == JobStatus.RUNNING) {
+            running.decrementAndGet();
+        }
+    }
+
+    /**
+     * Records the result of one of this batch's jobs.
+     *
+     * @param result the stored job result
+     */
+    public void recordResult(JobResult result) {
+        if (result.job().getStatus() == JobStatus.EXPIRED) {
+            // Never ran: kept out of the execution time statistics
+            expired.incrementAndGet();
+            return;
+        }
+
+        var nanos = result.executionTime().toNanos();
+        totalExecutionNanos.add(nanos);
+        minExecutionNanos.accumulateAndGet(nanos, Math::min);
+        maxExecutionNanos.accumulateAndGet(nanos, Math::max);
+
+        if (result.success()) {
+            completed.incrementAndGet();
+        } else {
+            (result.job().getStatus() == JobStatus.TIMED_OUT ? timedOut : failed).incrementAndGet();
+        }
+    }
+
+    /**
+     * Marks the batch as finished, completing its {@link #getCompletion() future}.
+     */
+    public void markCompleted() {
+        completedAt = Instant.now();
+        completion.complete(this);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public JobPriority getPriority() {
+        return priority;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public int getSubmitted() {
+        return submitted.get();
+    }
+
+    public int getRunning() {
+        return running.get();
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public int getExpired() {
+        return expired.get();
+    }
+
+    public int getTimedOut() {
+        return timedOut.get();
+    }
+
+    /**
+     * Returns whether every job of the batch has finished.
+     *
+     * @return true once the completion future is done
+     */
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    /**
+     * Returns a future completed once every job result of the batch is stored.
+     *
+     * @return completion future yielding this batch
+     */
+    public CompletableFuture<Batch> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Returns the shortest job execution time so far.
+     *
+     * @return minimum execution time, or null if no job finished yet
+     */
+    public Duration getMinExecutionTime() {
+        var min = minExecutionNanos.get();
+        return min == Long.MAX_VALUE ? null : Duration.ofNanos(min);
+    }
+
+    /**
+     * Returns the mean job execution time so far.
+     *
+     * @return mean execution time, or null if no job finished yet
+     */
+    public Duration getMeanExecutionTime() {
+        var finished = completed.get() + failed.get() + timedOut.get();
+        return finished == 0 ? null : Duration.ofNanos(totalExecutionNanos.sum() / finished);
+    }
+
+    /**
+     * Returns the longest job execution time so far.
+     *
+     * @return maximum execution time, or null if no job finished yet
+     */
+    public Duration getMaxExecutionTime() {
+        return getMinExecutionTime() == null ? null : Duration.ofNanos(maxExecutionNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "Batch{" +
+                "id='" + id + '\'' +
+                ", executionMode=" + executionMode +
+                ", size=" + size +
+                '}';
+    }
+}
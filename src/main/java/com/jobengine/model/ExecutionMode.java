@@ -30,6 +30,33 @@ package com.jobengine.model;
  *   <li><b>Trade-offs:</b> Less efficient for CPU-bound work, requires understanding of async patterns</li>
  * </ul>
  *
+ * <h2>FORK_JOIN</h2>
+ * <ul>
+ *   <li><b>How it works:</b> A job's CPU phase is split into range tasks on a dedicated ForkJoinPool;
+ *       the I/O phase runs on a virtual thread</li>
+ *   <li><b>JVM Impact:</b> One deque per worker, work stealing between workers, small task objects on heap</li>
+ *   <li><b>Best for:</b> Individual CPU-heavy jobs that must finish fast (intra-job parallelism)</li>
+ *   <li><b>Trade-offs:</b> Splitting overhead on small jobs, concurrent jobs share the same cores</li>
+ * </ul>
+ *
+ * <h2>HYBRID</h2>
+ * <ul>
+ *   <li><b>How it works:</b> Two-stage pipeline - CPU phase on a core-sized platform pool, I/O phase
+ *       on virtual threads, connected by a bounded hand-off queue</li>
+ *   <li><b>JVM Impact:</b> Few platform threads (= cores), many cheap virtual threads for waiting</li>
+ *   <li><b>Best for:</b> Mixed CPU + I/O workloads where both cores and I/O concurrency should saturate</li>
+ *   <li><b>Trade-offs:</b> Extra hand-off between threads per job, more moving parts to tune</li>
+ * </ul>
+ *
+ * <h2>REACTIVE</h2>
+ * <ul>
+ *   <li><b>How it works:</b> CPU phase on a core-sized platform pool, then a non-blocking I/O call
+ *       whose future a timer completes - composed with CompletableFuture, no thread waits</li>
+ *   <li><b>JVM Impact:</b> Few platform threads (= cores); an in-flight job is a timer node and two futures</li>
+ *   <li><b>Best for:</b> Very high numbers of jobs waiting on I/O at once (event-driven model)</li>
+ *   <li><b>Trade-offs:</b> Callback-style code, nothing may block inside a continuation</li>
+ * </ul>
+ *
  * @author gsk
  */
 public enum ExecutionMode {
@@ -47,6 +74,21 @@ public enum ExecutionMode {
     /**
      * Asynchronous execution - non-blocking with virtual threads.
      */
-    ASYNC
+    ASYNC,
+
+    /**
+     * Fork/join execution - one job's CPU work split across cores by work stealing.
+     */
+    FORK_JOIN,
+
+    /**
+     * Hybrid execution - CPU stage on platform threads, I/O stage on virtual threads.
+     */
+    HYBRID,
+
+    /**
+     * Reactive execution - CPU on platform threads, I/O completed by a timer without a thread.
+     */
+    REACTIVE
 }
 
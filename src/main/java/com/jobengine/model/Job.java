@@ -1,7 +1,9 @@
 package com.jobengine.model;
 
 import java.time.Instant;
-import java.util.UUID;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Represents a unit of work to be processed by the job engine.
@@ -12,15 +14,37 @@ import java.util.UUID;
  *   <li>Descriptive name for logging/monitoring</li>
  *   <li>Payload data to process</li>
  *   <li>Execution mode determining the processing strategy</li>
+ *   <li>Priority class and optional deadline used where the job waits for an executor</li>
+ *   <li>Optional run time for delayed jobs</li>
+ *   <li>Number of I/O attempts made, including retries</li>
  *   <li>Current status in the job lifecycle</li>
  *   <li>Timestamps for auditing and metrics</li>
  * </ul>
  *
+ * <h2>Identity</h2>
+ * <p>Every job has a 64-bit {@link #getKey() key}, monotonic and time-ordered, used
+ * internally for storage and ordering. The string {@link #getId() id} exposed by the API
+ * is either an external id assigned at creation (e.g. a UUID) or, by default, a compact
+ * base-36 rendering of the key produced lazily on first use.</p>
+ *
+ * <p>Status transitions are atomic and reported to an optional {@link JobStatusListener},
+ * which lets storage keep secondary indexes in sync without scanning.</p>
+ *
  * @author gsk
  */
 public class Job {
 
-    private final String id;
+    private static final AtomicReferenceFieldUpdater<Job, JobStatus> STATUS =
+            AtomicReferenceFieldUpdater.newUpdater(Job.class, JobStatus.class, "status");
+
+    private static final AtomicIntegerFieldUpdater<Job> ATTEMPTS =
+            AtomicIntegerFieldUpdater.newUpdater(Job.class, "attempts");
+
+    private static final int KEY_RADIX = 36;
+
+    private final long key;
+    private final String externalId;
+    private String compactId;
     private final String name;
     private final String payload;
     private final ExecutionMode executionMode;
@@ -28,16 +52,37 @@ public class Job {
     private final Instant createdAt;
     private volatile Instant startedAt;
     private volatile Instant completedAt;
+    private volatile JobStatusListener statusListener;
+    private volatile String batchId;
+    private volatile JobPriority priority = JobPriority.NORMAL;
+    private volatile Instant deadline;
+    private volatile Instant runAt;
+    private volatile int attempts;
+
+    /**
+     * Creates a new job whose id is the compact rendering of its key.
+     *
+     * @param key           unique, time-ordered job key
+     * @param name          descriptive name for the job
+     * @param payload       data to be processed
+     * @param executionMode strategy for executing this job
+     */
+    public Job(long key, String name, String payload, ExecutionMode executionMode) {
+        this(key, null, name, payload, executionMode);
+    }
 
     /**
-     * Creates a new job with the specified parameters.
+     * Creates a new job with an externally assigned id.
      *
+     * @param key           unique, time-ordered job key
+     * @param externalId    id exposed through the API (null = compact rendering of the key)
      * @param name          descriptive name for the job
      * @param payload       data to be processed
      * @param executionMode strategy for executing this job
      */
-    public Job(String name, String payload, ExecutionMode executionMode) {
-        this.id = UUID.randomUUID().toString();
+    public Job(long key, String externalId, String name, String payload, ExecutionMode executionMode) {
+        this.key = key;
+        this.externalId = externalId;
         this.name = name;
         this.payload = payload;
         this.executionMode = executionMode;
@@ -45,10 +90,66 @@ public class Job {
         this.createdAt = Instant.now();
     }
 
+    /**
+     * Returns the internal 64-bit key (unique, ordered by creation time).
+     *
+     * @return the job key
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the id exposed through the API.
+     *
+     * @return the external id, or the compact rendering of the key
+     */
     public String getId() {
+        if (externalId != null) {
+            return externalId;
+        }
+        // Benign race: concurrent callers render the same immutable string
+        var id = compactId;
+        if (id == null) {
+            id = formatKey(key);
+            compactId = id;
+        }
         return id;
     }
 
+    /**
+     * Returns whether this job's id was assigned externally rather than derived from its key.
+     *
+     * @return true if {@link #getId()} is not the compact rendering of the key
+     */
+    public boolean hasExternalId() {
+        return externalId != null;
+    }
+
+    /**
+     * Renders a job key in its compact string form.
+     *
+     * @param key the job key
+     * @return base-36 representation of the key
+     */
+    public static String formatKey(long key) {
+        return Long.toString(key, KEY_RADIX);
+    }
+
+    /**
+     * Parses a compact job id back into its key.
+     *
+     * @param id the compact id
+     * @return the key, or empty if the id is not a compact key
+     */
+    public static OptionalLong parseKey(String id) {
+        try {
+            return OptionalLong.of(Long.parseLong(id, KEY_RADIX));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
     public String getName() {
         return name;
     }
@@ -65,8 +166,93 @@ public class Job {
         return status;
     }
 
+    /**
+     * Updates the job status and notifies the status listener, if any.
+     *
+     * <p>Setting the status it already has is a no-op for the listener.</p>
+     *
+     * @param status the new status
+     */
     public void setStatus(JobStatus status) {
-        this.status = status;
+        var previous = STATUS.getAndSet(this, status);
+        var listener = statusListener;
+        if (listener != null && previous != status) {
+            listener.onStatusChange(this, previous, status);
+        }
+    }
+
+    /**
+     * Registers the listener notified on every status transition.
+     *
+     * @param statusListener the listener, or null to remove it
+     */
+    public void setStatusListener(JobStatusListener statusListener) {
+        this.statusListener = statusListener;
+    }
+
+    /**
+     * Returns the id of the batch this job was submitted with.
+     *
+     * @return the batch id, or null for individually submitted jobs
+     */
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+
+    public JobPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(JobPriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Returns the instant after which nobody needs the job's result.
+     *
+     * @return the deadline, or null if the job has none
+     */
+    public Instant getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Instant deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns the instant a delayed job becomes due.
+     *
+     * @return the run time, or null if the job ran on submission
+     */
+    public Instant getRunAt() {
+        return runAt;
+    }
+
+    public void setRunAt(Instant runAt) {
+        this.runAt = runAt;
+    }
+
+    /**
+     * Returns the number of I/O attempts made so far, including retries.
+     *
+     * @return attempts made (0 until the I/O phase starts)
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Counts the start of an I/O attempt.
+     *
+     * @return the number of this attempt, starting at 1
+     */
+    public int recordAttempt() {
+        return ATTEMPTS.incrementAndGet(this);
     }
 
     public Instant getCreatedAt() {
@@ -92,7 +278,7 @@ public class Job {
     @Override
     public String toString() {
         return "Job{" +
-                "id='" + id + '\'' +
+                "id='" + getId() + '\'' +
                 ", name='" + name + '\'' +
                 ", executionMode=" + executionMode +
                 ", status=" + status +
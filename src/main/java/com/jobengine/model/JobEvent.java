@@ -0,0 +1,37 @@
+package com.jobengine.model;
+
+import java.time.Instant;
+
+/**
+ * A job status transition, as pushed to event stream subscribers.
+ *
+ * @param jobId          the job identifier
+ * @param name           the job name
+ * @param executionMode  the job's execution mode
+ * @param previousStatus status before the transition (null for submission or snapshot events)
+ * @param status         status after the transition
+ * @param timestamp      when the transition was observed
+ *
+ * @author gsk
+ */
+public record JobEvent(
+        String jobId,
+        String name,
+        ExecutionMode executionMode,
+        JobStatus previousStatus,
+        JobStatus status,
+        Instant timestamp
+) {
+
+    /**
+     * Creates an event for a transition of the given job.
+     *
+     * @param job      the job that changed
+     * @param previous status before the transition (may be null)
+     * @param current  status after the transition
+     * @return the event
+     */
+    public static JobEvent of(Job job, JobStatus previous, JobStatus current) {
+        return new JobEvent(job.getId(), job.getName(), job.getExecutionMode(), previous, current, Instant.now());
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobengine.model;
+
+/**
+ * The two phases every job goes through.
+ *
+ * <p>Executors run them back-to-back on one thread, except HYBRID which runs each
+ * phase as a separate pipeline stage on a different kind of thread.</p>
+ *
+ * @author gsk
+ */
+public enum JobPhase {
+
+    /**
+     * CPU-bound prime counting.
+     */
+    CPU,
+
+    /**
+     * Simulated I/O call (blocking latency, chaos failures, retries).
+     */
+    IO
+}
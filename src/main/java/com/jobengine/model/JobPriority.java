@@ -0,0 +1,28 @@
+package com.jobengine.model;
+
+/**
+ * Scheduling class of a job.
+ *
+ * <p>Where jobs wait for an executor (the concurrency limiter queue of THREAD_POOL and
+ * ASYNC), higher classes are served first. Aging bounds how long a lower class can be
+ * passed over: each class step counts as {@code job-engine.priority.aging-ms} of waiting.</p>
+ *
+ * @author gsk
+ */
+public enum JobPriority {
+
+    /**
+     * Interactive jobs a user is waiting on.
+     */
+    HIGH,
+
+    /**
+     * Default for individually submitted jobs.
+     */
+    NORMAL,
+
+    /**
+     * Bulk work, default for batches.
+     */
+    LOW
+}
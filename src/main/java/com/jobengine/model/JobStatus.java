@@ -186,13 +186,20 @@ BUILD FAILED in 2s
  *
  * <p>Jobs transition through these states:</p>
  * <pre>
- * PENDING → RUNNING → COMPLETED
- *                  ↘ FAILED
+ * [SCHEDULED →] PENDING → RUNNING → COMPLETED
+ *                 │             ├→ FAILED
+ *                 │             └→ TIMED_OUT (I/O cut off by a timeout)
+ *                 └→ EXPIRED  (deadline no longer reachable, never started)
  * </pre>
  *
  * @author gsk
  */
 public enum JobStatus {
+
+    /**
+     * Job was submitted with a future run time and waits on the scheduler's timer.
+     */
+    SCHEDULED,
     
     /**
      * Job has been submitted but not yet started.
@@ -212,6 +219,26 @@ public enum JobStatus {
     /**
      * Job failed during execution.
      */
-    FAILED
+    FAILED,
+
+    /**
+     * Job was dropped before starting because its deadline could no longer be met.
+     */
+    EXPIRED,
+
+    /**
+     * Job was started but cut off by a timeout: its last I/O attempt exceeded the per-attempt
+     * time limit, or the job ran past its deadline.
+     */
+    TIMED_OUT;
+
+    /**
+     * Returns whether this status is final (no further transitions).
+     *
+     * @return true for COMPLETED, FAILED, EXPIRED and TIMED_OUT
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED || this == EXPIRED || this == TIMED_OUT;
+    }
 }
 
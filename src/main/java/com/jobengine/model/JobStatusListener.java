@@ -0,0 +1,23 @@
+package com.jobengine.model;
+
+/**
+ * Callback invoked whenever a {@link Job} changes status.
+ *
+ * <p>Listeners run synchronously on the thread performing the transition
+ * (typically an executor worker), so implementations must be thread-safe
+ * and cheap - anything slow here delays the job itself.</p>
+ *
+ * @author gsk
+ */
+@FunctionalInterface
+public interface JobStatusListener {
+
+    /**
+     * Called after the job's status has been updated.
+     *
+     * @param job      the job that changed
+     * @param previous the status before the transition, or null when the job was just submitted
+     * @param current  the status after the transition
+     */
+    void onStatusChange(Job job, JobStatus previous, JobStatus current);
+}
@@ -0,0 +1,19 @@
+package com.jobengine.model;
+
+/**
+ * What a recurring job does when it is due while its previous instance has not finished.
+ *
+ * @author gsk
+ */
+public enum OverlapPolicy {
+
+    /**
+     * Skip this fire; the next one is armed as usual. At most one instance is in flight.
+     */
+    SKIP,
+
+    /**
+     * Submit a new instance anyway; instances may run concurrently.
+     */
+    ALLOW
+}
@@ -0,0 +1,229 @@
+package com.jobengine.model;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Definition of a job submitted again and again on a schedule.
+ *
+ * <p>The schedule is either a cron expression (Spring syntax with seconds, evaluated in
+ * UTC) or a fixed rate. Each fire materializes an ordinary {@link Job} named
+ * {@code <name>#<n>}.</p>
+ *
+ * <h2>Fire Accounting</h2>
+ * <ul>
+ *   <li><b>submitted:</b> fires that created a job</li>
+ *   <li><b>skipped:</b> fires dropped by {@link OverlapPolicy#SKIP} because the previous
+ *       instance was still in flight</li>
+ *   <li><b>coalesced:</b> fire times that passed while the scheduler was late and were
+ *       merged into a single fire instead of being replayed</li>
+ *   <li><b>rejected:</b> fires refused by admission control</li>
+ * </ul>
+ *
+ * @author gsk
+ */
+public class RecurringJob {
+
+    /**
+     * Outcome of a fire time, as counted in the fire accounting.
+     */
+    public enum FireOutcome {
+        SUBMITTED,
+        SKIPPED,
+        COALESCED,
+        REJECTED
+    }
+
+    private final String id;
+    private final String name;
+    private final String payload;
+    private final ExecutionMode executionMode;
+    private final JobPriority priority;
+    private final CronExpression cron;
+    private final Duration fixedRate;
+    private final OverlapPolicy overlapPolicy;
+    private final Instant createdAt;
+
+    private volatile Instant nextFireAt;
+    private volatile Instant lastFireAt;
+    private volatile Job lastJob;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Creates a recurring job definition.
+     *
+     * @param id            unique definition identifier
+     * @param name          base name of the materialized jobs
+     * @param payload       payload of the materialized jobs
+     * @param executionMode execution mode of the materialized jobs
+     * @param priority      priority of the materialized jobs
+     * @param cron          cron schedule, or null for a fixed rate
+     * @param fixedRate     interval between fires, or null for a cron schedule
+     * @param overlapPolicy behaviour when a fire finds the previous instance in flight
+     */
+    public RecurringJob(String id, String name, String payload, ExecutionMode executionMode, JobPriority priority,
+                        CronExpression cron, Duration fixedRate, OverlapPolicy overlapPolicy) {
+        if ((cron == null) == (fixedRate == null)) {
+            throw new IllegalArgumentException("Exactly one of cron or fixedRate is required");
+        }
+        this.id = id;
+        this.name = name;
+        this.payload = payload;
+        this.executionMode = executionMode;
+        this.priority = priority;
+        this.cron = cron;
+        this.fixedRate = fixedRate;
+        this.overlapPolicy = overlapPolicy;
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Returns the first fire time strictly after an instant.
+     *
+     * @param after the reference instant
+     * @return the next fire time, or null if the cron expression never matches again
+     */
+    public Instant nextFireAfter(Instant after) {
+        if (cron == null) {
+            return after.plus(fixedRate);
+        }
+        var next = cron.next(after.atZone(ZoneOffset.UTC));
+        return next == null ? null : next.toInstant();
+    }
+
+    /**
+     * Returns whether the previous instance has not reached a terminal status yet.
+     *
+     * @return true if a job of this definition is scheduled, pending or running
+     */
+    public boolean isInstanceInFlight() {
+        var job = lastJob;
+        return job != null && !job.getStatus().isTerminal();
+    }
+
+    /**
+     * Records a fire that created a job.
+     *
+     * @param job     the materialized job
+     * @param firedAt when the fire happened
+     */
+    public void recordSubmitted(Job job, Instant firedAt) {
+        lastJob = job;
+        lastFireAt = firedAt;
+        submitted.incrementAndGet();
+    }
+
+    public void recordSkipped() {
+        skipped.incrementAndGet();
+    }
+
+    public void recordCoalesced(long fires) {
+        coalesced.addAndGet(fires);
+    }
+
+    public void recordRejected() {
+        rejected.incrementAndGet();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public JobPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the cron expression as given.
+     *
+     * @return the cron expression, or null for a fixed rate
+     */
+    public String getCron() {
+        return cron == null ? null : cron.toString();
+    }
+
+    /**
+     * Returns the fixed rate.
+     *
+     * @return the interval between fires, or null for a cron schedule
+     */
+    public Duration getFixedRate() {
+        return fixedRate;
+    }
+
+    public OverlapPolicy getOverlapPolicy() {
+        return overlapPolicy;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getNextFireAt() {
+        return nextFireAt;
+    }
+
+    public void setNextFireAt(Instant nextFireAt) {
+        this.nextFireAt = nextFireAt;
+    }
+
+    public Instant getLastFireAt() {
+        return lastFireAt;
+    }
+
+    /**
+     * Returns the id of the most recently materialized job.
+     *
+     * @return the job id, or null if none was submitted yet
+     */
+    public String getLastJobId() {
+        var job = lastJob;
+        return job == null ? null : job.getId();
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RecurringJob{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", schedule=" + (cron != null ? "cron:" + cron : "every " + fixedRate) +
+                ", overlapPolicy=" + overlapPolicy +
+                '}';
+    }
+}
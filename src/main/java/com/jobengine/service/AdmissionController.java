@@ -0,0 +1,205 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.exception.JobRejectedException;
+import com.jobengine.model.ExecutionMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control in front of the executors.
+ *
+ * <p>Each execution mode may hold at most {@code job-engine.admission.max-pending-per-mode}
+ * jobs that were admitted but have not finished, wherever they wait (limiter queue, pool
+ * queue, hand-off queue) or run. A submission that does not fit is refused immediately
+ * with {@link JobRejectedException} instead of queueing without bound or running on the
+ * caller's thread; nothing is stored for it.</p>
+ *
+ * <h2>Retry-After</h2>
+ * <p>The drain rate of every mode (jobs finished per second) is sampled about once a
+ * second and smoothed. A rejected client is told to come back after the time the mode
+ * needs to drain the excess at that rate, between 1s and
+ * {@code max-retry-after-seconds}.</p>
+ *
+ * <h2>Metrics</h2>
+ * <ul>
+ *   <li><b>job.admission.pending:</b> admitted, unfinished jobs by mode</li>
+ *   <li><b>job.admission.rejected:</b> jobs refused at admission by mode</li>
+ *   <li><b>job.admission.shed:</b> admitted jobs an executor refused and that were failed
+ *       without running</li>
+ * </ul>
+ *
+ * @author gsk
+ */
+@Component
+public class AdmissionController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionController.class);
+
+    private static final long RATE_SAMPLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double RATE_SMOOTHING = 0.5;
+
+    private final MetricsService metricsService;
+    private final int maxPending;
+    private final int maxRetryAfterSeconds;
+    private final Map<ExecutionMode, AtomicInteger> pending = new EnumMap<>(ExecutionMode.class);
+    private final Map<ExecutionMode, DrainRate> drainRates = new EnumMap<>(ExecutionMode.class);
+
+    /**
+     * Constructs an AdmissionController.
+     *
+     * @param metricsService service for recording metrics
+     * @param properties     the job engine configuration properties
+     */
+    public AdmissionController(MetricsService metricsService, JobEngineProperties properties) {
+        var config = properties.getAdmission();
+        this.metricsService = metricsService;
+        this.maxPending = config.maxPendingPerMode();
+        this.maxRetryAfterSeconds = config.maxRetryAfterSeconds();
+
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            var counter = new AtomicInteger();
+            pending.put(mode, counter);
+            drainRates.put(mode, new DrainRate());
+            metricsService.registerAdmissionGauge(mode, counter, AtomicInteger::get);
+        }
+
+        log.info("AdmissionController initialized: maxPendingPerMode={}, maxRetryAfter={}s",
+                maxPending, maxRetryAfterSeconds);
+    }
+
+    /**
+     * Admits {@code count} jobs of a mode, all or none.
+     *
+     * @param mode  the execution mode
+     * @param count number of jobs
+     * @throws JobRejectedException     if the mode has no room for them right now
+     * @throws IllegalArgumentException if {@code count} exceeds the capacity of a mode
+     */
+    public void admit(ExecutionMode mode, int count) {
+        if (count > maxPending) {
+            throw new IllegalArgumentException("Cannot admit " + count + " jobs at once: "
+                    + "admission capacity per mode is " + maxPending);
+        }
+
+        var counter = pending.get(mode);
+        int current;
+        do {
+            current = counter.get();
+            if (current + count > maxPending) {
+                metricsService.recordAdmissionRejected(mode, count);
+                var retryAfter = retryAfterSeconds(mode, current + count - maxPending);
+                log.debug("Admission rejected: mode={}, count={}, pending={}, retryAfter={}s",
+                        mode, count, current, retryAfter);
+                throw new JobRejectedException(mode, retryAfter);
+            }
+        } while (!counter.compareAndSet(current, current + count));
+    }
+
+    /**
+     * Admits {@code count} jobs for every mode, all or none.
+     *
+     * @param count number of jobs per mode
+     * @throws JobRejectedException     if any mode has no room for them right now
+     * @throws IllegalArgumentException if {@code count} exceeds the capacity of a mode
+     */
+    public void admitAllModes(int count) {
+        var admitted = new EnumMap<ExecutionMode, Integer>(ExecutionMode.class);
+        try {
+            for (ExecutionMode mode : ExecutionMode.values()) {
+                admit(mode, count);
+                admitted.put(mode, count);
+            }
+        } catch (RuntimeException e) {
+            admitted.forEach((mode, n) -> pending.get(mode).addAndGet(-n));
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the slot of an admitted job that has finished (in any way).
+     *
+     * @param mode the execution mode
+     */
+    public void release(ExecutionMode mode) {
+        pending.get(mode).decrementAndGet();
+        drainRates.get(mode).recordFinished();
+    }
+
+    /**
+     * Records an admitted job that its executor refused to take.
+     *
+     * @param mode the execution mode
+     */
+    public void recordShed(ExecutionMode mode) {
+        metricsService.recordAdmissionShed(mode);
+    }
+
+    /**
+     * Returns the number of admitted, unfinished jobs of a mode.
+     *
+     * @param mode the execution mode
+     * @return pending job count
+     */
+    public int getPending(ExecutionMode mode) {
+        return pending.get(mode).get();
+    }
+
+    private long retryAfterSeconds(ExecutionMode mode, int excess) {
+        var rate = drainRates.get(mode).perSecond();
+        if (rate <= 0) {
+            return maxRetryAfterSeconds;
+        }
+        return Math.clamp((long) Math.ceil(excess / rate), 1, maxRetryAfterSeconds);
+    }
+
+    /**
+     * Jobs finished per second, sampled at most once per second and smoothed.
+     */
+    private static final class DrainRate {
+
+        private final LongAdder finished = new LongAdder();
+        private final ReentrantLock sampleLock = new ReentrantLock();
+        private volatile long lastSampleNanos = System.nanoTime();
+        private long lastSampleCount;
+        private volatile double perSecond;
+
+        void recordFinished() {
+            finished.increment();
+            sample();
+        }
+
+        double perSecond() {
+            sample();
+            return perSecond;
+        }
+
+        private void sample() {
+            var now = System.nanoTime();
+            if (now - lastSampleNanos < RATE_SAMPLE_NANOS || !sampleLock.tryLock()) {
+                return;
+            }
+            try {
+                var elapsed = now - lastSampleNanos;
+                if (elapsed < RATE_SAMPLE_NANOS) {
+                    return;
+                }
+                var count = finished.sum();
+                var rate = (count - lastSampleCount) * 1e9 / elapsed;
+                perSecond = perSecond == 0 ? rate : perSecond + (rate - perSecond) * RATE_SMOOTHING;
+                lastSampleNanos = now;
+                lastSampleCount = count;
+            } finally {
+                sampleLock.unlock();
+            }
+        }
+    }
+}
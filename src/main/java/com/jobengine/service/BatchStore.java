@@ -0,0 +1,102 @@
+package com.jobengine.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.model.Batch;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory storage for batch handles.
+ *
+ * <p>Mirrors the tiering of {@link JobStore}: batches still running are kept in a
+ * {@link ConcurrentHashMap} and never evicted; finished batches move to a Caffeine cache
+ * bounded by size and by the terminal TTL from {@code job-engine.storage}.</p>
+ *
+ * <p>The store listens to job transitions on the {@link JobStore} and forwards those of
+ * batched jobs to their batch, which is how the running counter is kept current.</p>
+ *
+ * @author gsk
+ */
+@Component
+public class BatchStore {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchStore.class);
+
+    private static final int MAX_FINISHED_BATCHES = 10_000;
+
+    private final Map<String, Batch> activeBatches = new ConcurrentHashMap<>();
+    private final Cache<String, Batch> finishedBatches;
+
+    /**
+     * Constructs a BatchStore and registers it with the job store.
+     *
+     * @param jobStore   the job store whose transitions are tracked
+     * @param properties the job engine configuration properties
+     */
+    public BatchStore(JobStore jobStore, JobEngineProperties properties) {
+        this.finishedBatches = Caffeine.newBuilder()
+                .maximumSize(MAX_FINISHED_BATCHES)
+                .expireAfterWrite(Duration.ofSeconds(properties.getStorage().terminalTtlSeconds()))
+                .build();
+
+        jobStore.addStatusListener(this::onStatusChange);
+
+        log.info("BatchStore initialized: maxFinishedBatches={}", MAX_FINISHED_BATCHES);
+    }
+
+    /**
+     * Stores a newly created batch and moves it to the finished tier on completion.
+     *
+     * @param batch the batch to store
+     */
+    public void save(Batch batch) {
+        activeBatches.put(batch.getId(), batch);
+        batch.getCompletion().thenRun(() -> {
+            finishedBatches.put(batch.getId(), batch);
+            activeBatches.remove(batch.getId());
+        });
+    }
+
+    /**
+     * Retrieves a batch from either tier.
+     *
+     * @param batchId the batch identifier
+     * @return the batch if present
+     */
+    public Optional<Batch> findBatch(String batchId) {
+        var batch = activeBatches.get(batchId);
+        if (batch != null) {
+            return Optional.of(batch);
+        }
+        return Optional.ofNullable(finishedBatches.getIfPresent(batchId));
+    }
+
+    /**
+     * Removes all batches from both tiers.
+     */
+    public void clear() {
+        activeBatches.clear();
+        finishedBatches.invalidateAll();
+    }
+
+    private void onStatusChange(Job job, JobStatus previous, JobStatus current) {
+        var batchId = job.getBatchId();
+        if (batchId == null) {
+            return;
+        }
+        var batch = activeBatches.get(batchId);
+        if (batch != null) {
+            batch.onStatusChange(previous, current);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.jobengine.service;
 
 import com.jobengine.config.JobEngineProperties;
+import com.jobengine.config.JobEngineProperties.PrimeAlgorithm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -31,6 +32,16 @@ import java.util.concurrent.ThreadLocalRandom;
  *   <li><b>ASYNC:</b> Virtual threads don't help - CPU still needs real cores</li>
  * </ul>
  *
+ * <h2>Algorithms</h2>
+ * <p>The prime counting itself is delegated to a {@link PrimeCounter} selected by
+ * {@code job-engine.cpu-simulation.algorithm}:</p>
+ * <ul>
+ *   <li><b>TRIAL_DIVISION</b> (default): the reference workload, kept so timings stay
+ *       comparable with earlier calibration runs.</li>
+ *   <li><b>SIEVE:</b> segmented, bit-packed, odd-only Sieve of Eratosthenes - same
+ *       result at a fraction of the CPU cost.</li>
+ * </ul>
+ *
  * @author gsk
  */
 @Service
@@ -41,6 +52,8 @@ public class CPUSimulator {
     private final boolean enabled;
     private final int minPrimeLimit;
     private final int maxPrimeLimit;
+    private final PrimeAlgorithm algorithm;
+    private final PrimeCounter primeCounter;
 
     /**
      * Constructs a CPUSimulator with the configured settings.
@@ -52,9 +65,11 @@ public class CPUSimulator {
         this.enabled = config.enabled();
         this.minPrimeLimit = config.minPrimeLimit();
         this.maxPrimeLimit = config.maxPrimeLimit();
+        this.algorithm = config.algorithm();
+        this.primeCounter = PrimeCounter.of(algorithm);
 
-        log.info("CPUSimulator initialized: enabled={}, primeLimit={}–{}",
-                enabled, minPrimeLimit, maxPrimeLimit);
+        log.info("CPUSimulator initialized: enabled={}, primeLimit={}–{}, algorithm={}",
+                enabled, minPrimeLimit, maxPrimeLimit, algorithm);
     }
 
     /**
@@ -76,9 +91,9 @@ public class CPUSimulator {
      * Counts prime numbers up to the specified limit.
      *
      * <p>This is a CPU-intensive operation that demonstrates CPU-bound work.
-     * The algorithm uses trial division with O(√n) complexity per number.</p>
+     * With the default algorithm it uses trial division with O(√n) complexity per number.</p>
      *
-     * <h3>Performance Reference</h3>
+     * <h3>Performance Reference (trial division)</h3>
      * <ul>
      *   <li>limit = 10,000 → ~1ms</li>
      *   <li>limit = 100,000 → ~5-10ms</li>
@@ -95,13 +110,7 @@ public class CPUSimulator {
         }
 
         var startTime = System.nanoTime();
-        long count = 0;
-
-        for (int n = 2; n <= limit; n++) {
-            if (isPrime(n)) {
-                count++;
-            }
-        }
+        var count = primeCounter.countPrimes(2, limit);
 
         var durationMs = (System.nanoTime() - startTime) / 1_000_000.0;
         log.debug("CPU work completed: limit={}, primesFound={}, duration={:.2f}ms",
@@ -111,21 +120,17 @@ public class CPUSimulator {
     }
 
     /**
-     * Checks if a number is prime using trial division.
+     * Counts prime numbers in a closed range.
      *
-     * <p>Time complexity: O(√n)</p>
+     * <p>Building block for splitting one job's CPU work across threads: the counts of
+     * disjoint sub-ranges add up to the count of their union.</p>
      *
-     * @param n the number to check
-     * @return true if n is prime, false otherwise
+     * @param from lower bound, inclusive
+     * @param to   upper bound, inclusive
+     * @return the count of prime numbers found (0 if CPU simulation is disabled)
      */
-    private boolean isPrime(int n) {
-        if (n < 2) return false;
-        if (n == 2) return true;
-        if (n % 2 == 0) return false;
-        for (int i = 3; i * i <= n; i += 2) {
-            if (n % i == 0) return false;
-        }
-        return true;
+    public long countPrimesInRange(int from, int to) {
+        return enabled ? primeCounter.countPrimes(from, to) : 0;
     }
 
     /**
@@ -136,5 +141,14 @@ public class CPUSimulator {
     public boolean isEnabled() {
         return enabled;
     }
+
+    /**
+     * Returns the configured prime counting algorithm.
+     *
+     * @return the algorithm in use
+     */
+    public PrimeAlgorithm getAlgorithm() {
+        return algorithm;
+    }
 }
 
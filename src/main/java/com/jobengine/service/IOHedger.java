@@ -0,0 +1,388 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.executor.timer.HierarchicalTimer;
+import com.jobengine.model.Job;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Hedges slow I/O attempts with a second attempt in parallel.
+ *
+ * <h2>How It Works</h2>
+ * <p>The latency of every I/O call that completes is recorded in a {@link RollingPercentile}.
+ * When an attempt starts, a timer is armed at the running percentile (p95 by default):</p>
+ * <ol>
+ *   <li>If the attempt finishes first, the timer is cancelled - 95% of calls cost nothing
+ *       more than that</li>
+ *   <li>Otherwise a second, identical attempt is launched and the first success wins</li>
+ *   <li>The loser is cancelled: a blocking attempt's thread is interrupted, a non-blocking
+ *       attempt's future is cancelled (which disarms its timer)</li>
+ * </ol>
+ * <p>If one attempt fails, the other one still decides the outcome. Only when both fail does
+ * the call fail, and it is then up to the {@link RetryScheduler}.</p>
+ *
+ * <h2>Threads</h2>
+ * <p>A blocking attempt's hedge runs on a virtual thread, whatever the mode: it adds load
+ * on the I/O dependency, not on the mode's pool or limiter. The caller keeps waiting on its
+ * own attempt, and is interrupted if the hedge wins. A non-blocking hedge is just a second
+ * future.</p>
+ *
+ * <h2>Budget</h2>
+ * <p>Hedging at p95 launches roughly 5% more calls when latency is stable, but far more when
+ * the whole distribution shifts and the percentile lags behind. A {@link TokenBudget}
+ * earning {@code budget-ratio} tokens per call caps hedges at that fraction of calls;
+ * without a token the attempt simply isn't hedged. No hedge is launched until enough
+ * latencies are recorded for the percentile to mean something.</p>
+ *
+ * <h2>Metrics</h2>
+ * <ul>
+ *   <li><b>job.hedge.launched / wins / denied:</b> hedges launched, hedges that provided the
+ *       result, and hedges refused by the budget, by mode</li>
+ *   <li><b>job.hedge.delay:</b> the current hedge delay in milliseconds</li>
+ *   <li><b>job.hedge.budget.tokens:</b> hedges the budget can currently pay for</li>
+ * </ul>
+ *
+ * @author gsk
+ */
+@Service
+public class IOHedger {
+
+    private static final Logger log = LoggerFactory.getLogger(IOHedger.class);
+
+    private static final int LATENCY_WINDOW = 1024;
+    private static final int LATENCY_MIN_SAMPLES = 100;
+
+    // States of a blocking race
+    private static final int RACING = 0;        // primary running, hedge not launched yet
+    private static final int HEDGED = 1;        // both running
+    private static final int CLOSED = 2;        // primary decided the outcome; a late hedge is cancelled
+    private static final int WAITING = 3;       // primary failed, caller waits for the hedge
+    private static final int INTERRUPTING = 4;  // hedge won, interrupting the primary
+    private static final int HEDGE_WON = 5;
+
+    private final HierarchicalTimer timer;
+    private final ExecutorService hedgeExecutor;
+    private final MetricsService metricsService;
+    private final TokenBudget budget;
+    private final double percentile;
+    private final RollingPercentile latency = new RollingPercentile(LATENCY_WINDOW, LATENCY_MIN_SAMPLES);
+
+    /**
+     * Constructs an IOHedger.
+     *
+     * @param properties            the job engine configuration properties
+     * @param jobTimer              timer the hedge delays are armed on
+     * @param virtualThreadExecutor executor running the hedges of blocking attempts
+     * @param metricsService        service for recording metrics
+     */
+    public IOHedger(JobEngineProperties properties,
+                    HierarchicalTimer jobTimer,
+                    @Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor,
+                    MetricsService metricsService) {
+        var config = properties.getHedge();
+        this.timer = jobTimer;
+        this.hedgeExecutor = virtualThreadExecutor;
+        this.metricsService = metricsService;
+        this.percentile = config.percentile();
+        this.budget = config.enabled() ? new TokenBudget(config.budgetRatio(), config.maxTokens()) : null;
+
+        log.info("IOHedger initialized: enabled={}, percentile={}, budgetRatio={}, maxTokens={}",
+                config.enabled(), percentile, config.budgetRatio(), config.maxTokens());
+    }
+
+    /**
+     * Registers the hedge gauges once fully constructed.
+     */
+    @PostConstruct
+    void registerGauges() {
+        if (budget != null) {
+            metricsService.registerHedgeGauges(this,
+                    hedger -> hedger.latency.percentile(hedger.percentile) / 1_000_000.0,
+                    hedger -> hedger.budget.getTokens());
+        }
+    }
+
+    /**
+     * Runs a blocking attempt on the calling thread, hedging it on a virtual thread if it
+     * outlives the hedge delay.
+     *
+     * @param job     the job the attempt belongs to
+     * @param attempt performs the attempt; must be safe to run twice concurrently
+     * @param <T>     result type
+     * @return the result of whichever attempt succeeded first
+     */
+    public <T> T callBlocking(Job job, Supplier<T> attempt) {
+        var delay = hedgeDelay();
+        if (delay == null) {
+            return timed(attempt);
+        }
+
+        var race = new BlockingRace<T>(Thread.currentThread());
+        var trigger = timer.schedule(delay, () -> launch(job, race, attempt));
+
+        T value;
+        try {
+            value = timed(attempt);
+        } catch (RuntimeException e) {
+            trigger.cancel();
+            return primaryFailed(job, race, e);
+        }
+
+        trigger.cancel();
+        if (race.state.compareAndSet(RACING, CLOSED) || race.state.compareAndSet(HEDGED, CLOSED)) {
+            cancel(race.hedgeTask);
+            return value;
+        }
+        return hedgeWon(job, race);
+    }
+
+    /**
+     * Starts a non-blocking attempt, and a second one if the first outlives the hedge delay.
+     *
+     * @param job     the job the attempt belongs to
+     * @param attempt starts the attempt; must be safe to run twice concurrently
+     * @param <T>     result type
+     * @return a future completed with the first success, or exceptionally once both attempts
+     *         failed; cancelling it cancels both attempts
+     */
+    public <T> CompletableFuture<T> call(Job job, Supplier<CompletableFuture<T>> attempt) {
+        var delay = hedgeDelay();
+        var primary = timedAsync(attempt);
+        if (delay == null) {
+            return primary;
+        }
+
+        var race = new AsyncRace<T>();
+        var result = race.result;
+        var trigger = timer.schedule(delay, () -> {
+            if (result.isDone() || !tryLaunch(job)) {
+                race.attemptFailed(null);
+                return;
+            }
+            var second = timedAsync(attempt);
+            race.hedge.set(second);
+            second.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (result.complete(value)) {
+                        metricsService.recordHedgeWon(job.getExecutionMode());
+                        primary.cancel(true);
+                    }
+                } else {
+                    race.attemptFailed(error);
+                }
+            });
+            if (result.isDone()) {
+                // The primary finished while the hedge was being launched
+                second.cancel(true);
+            }
+        });
+
+        primary.whenComplete((value, error) -> {
+            if (error == null) {
+                if (result.complete(value)) {
+                    trigger.cancel();
+                    cancel(race.hedge.get());
+                }
+                return;
+            }
+            if (trigger.cancel()) {
+                // The hedge will never be launched
+                race.attemptFailed(null);
+            }
+            race.attemptFailed(error);
+        });
+
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                trigger.cancel();
+                primary.cancel(true);
+                cancel(race.hedge.get());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the delay after which an attempt is hedged, counting one call towards the
+     * hedge budget.
+     *
+     * @return the delay, or null if hedging is disabled or there are too few samples yet
+     */
+    private Duration hedgeDelay() {
+        if (budget == null) {
+            return null;
+        }
+        budget.deposit();
+        var nanos = latency.percentile(percentile);
+        return nanos > 0 ? Duration.ofNanos(nanos) : null;
+    }
+
+    private boolean tryLaunch(Job job) {
+        if (!budget.tryWithdraw()) {
+            metricsService.recordHedgeDenied(job.getExecutionMode());
+            return false;
+        }
+        metricsService.recordHedgeLaunched(job.getExecutionMode());
+        log.debug("Hedging slow I/O attempt: jobId={}, attempt={}", job.getId(), job.getAttempts());
+        return true;
+    }
+
+    /**
+     * Launches the hedge of a blocking attempt, from the timer.
+     */
+    private <T> void launch(Job job, BlockingRace<T> race, Supplier<T> attempt) {
+        // HEDGED before the hedge exists, so a primary failing meanwhile waits for it
+        if (race.state.get() != RACING || !tryLaunch(job) || !race.state.compareAndSet(RACING, HEDGED)) {
+            return;
+        }
+        race.hedgeTask = hedgeExecutor.submit(() -> runHedge(race, attempt));
+        if (race.state.get() == CLOSED) {
+            // The primary finished while the hedge was being launched
+            cancel(race.hedgeTask);
+        }
+    }
+
+    private <T> void runHedge(BlockingRace<T> race, Supplier<T> attempt) {
+        T value;
+        try {
+            value = timed(attempt);
+        } catch (RuntimeException e) {
+            race.hedgeResult.completeExceptionally(e);
+            return;
+        }
+        race.hedgeResult.complete(value);
+        if (race.state.compareAndSet(HEDGED, INTERRUPTING)) {
+            race.caller.interrupt();
+            race.state.set(HEDGE_WON);
+        }
+        // WAITING: the caller picks the result up itself
+    }
+
+    /**
+     * Decides a blocking race after the primary attempt failed: the hedge may have won (and
+     * caused the failure by interrupting it), may still be running, or may never have started.
+     */
+    private <T> T primaryFailed(Job job, BlockingRace<T> race, RuntimeException error) {
+        if (race.state.compareAndSet(RACING, CLOSED)) {
+            cancel(race.hedgeTask);
+            throw error;
+        }
+        if (race.state.get() >= INTERRUPTING) {
+            return hedgeWon(job, race);
+        }
+
+        // HEDGED: an interrupt not sent by the hedge means the caller itself is being cancelled
+        if (Thread.currentThread().isInterrupted() || !race.state.compareAndSet(HEDGED, WAITING)) {
+            if (race.state.compareAndSet(HEDGED, CLOSED)) {
+                cancel(race.hedgeTask);
+                throw error;
+            }
+            return hedgeWon(job, race);
+        }
+
+        try {
+            var value = race.hedgeResult.get();
+            metricsService.recordHedgeWon(job.getExecutionMode());
+            return value;
+        } catch (ExecutionException e) {
+            throw error;
+        } catch (InterruptedException e) {
+            cancel(race.hedgeTask);
+            Thread.currentThread().interrupt();
+            throw error;
+        }
+    }
+
+    /**
+     * Takes the hedge's result once its interrupt of the primary has landed, clearing it.
+     */
+    private <T> T hedgeWon(Job job, BlockingRace<T> race) {
+        while (race.state.get() == INTERRUPTING) {
+            Thread.onSpinWait();
+        }
+        Thread.interrupted();
+        metricsService.recordHedgeWon(job.getExecutionMode());
+        return race.hedgeResult.join();
+    }
+
+    private <T> T timed(Supplier<T> attempt) {
+        var start = System.nanoTime();
+        var value = attempt.get();
+        latency.record(System.nanoTime() - start);
+        return value;
+    }
+
+    private <T> CompletableFuture<T> timedAsync(Supplier<CompletableFuture<T>> attempt) {
+        var start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = attempt.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                latency.record(System.nanoTime() - start);
+            }
+        });
+        return future;
+    }
+
+    private static void cancel(Future<?> future) {
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * A non-blocking attempt and its hedge.
+     */
+    private static final class AsyncRace<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+        // Attempts that may still succeed: the primary, and the hedge until it fails or is known never to start
+        private final AtomicInteger outstanding = new AtomicInteger(2);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        /**
+         * Counts an attempt out, failing the call with the last error once none is left.
+         *
+         * @param error why the attempt failed, or null for a hedge that was never launched
+         */
+        private void attemptFailed(Throwable error) {
+            if (error != null) {
+                failure.set(error);
+            }
+            if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(failure.get());
+            }
+        }
+    }
+
+    /**
+     * A blocking attempt and its hedge.
+     */
+    private static final class BlockingRace<T> {
+        private final Thread caller;
+        private final AtomicInteger state = new AtomicInteger(RACING);
+        private final CompletableFuture<T> hedgeResult = new CompletableFuture<>();
+        private volatile Future<?> hedgeTask;
+
+        private BlockingRace(Thread caller) {
+            this.caller = caller;
+        }
+    }
+}
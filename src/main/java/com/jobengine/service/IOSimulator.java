@@ -2,11 +2,13 @@ package com.jobengine.service;
 
 import com.jobengine.config.JobEngineProperties;
 import com.jobengine.exception.IOSimulationException;
-import io.github.resilience4j.retry.annotation.Retry;
+import com.jobengine.executor.timer.HierarchicalTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -28,8 +30,16 @@ import java.util.concurrent.ThreadLocalRandom;
  *   <li>Sequential: Thread waits idle during I/O - very inefficient</li>
  *   <li>Thread Pool: Threads block on I/O, limiting concurrency to pool size</li>
  *   <li>Virtual Threads: Thread unmounts during I/O, carrier thread serves others</li>
+ *   <li>Reactive: No thread at all during I/O, a timer completes a future when it is done</li>
  * </ul>
  *
+ * <h2>Blocking vs Non-Blocking</h2>
+ * <p>{@link #simulateWork} sleeps, so the waiting costs a thread (platform or virtual) per
+ * in-flight call. {@link #simulateWorkAsync} returns at once with a future that the shared
+ * timing wheel completes after the same latency: the waiting costs one timer node, which
+ * is what an event-driven client (NIO selector, async driver) pays for an outstanding
+ * request.</p>
+ *
  * @author gsk
  */
 @Service
@@ -42,14 +52,17 @@ public class IOSimulator {
     private final double failureRate;
     private final double timeoutRate;
     private final int timeoutLatencyMs;
+    private final HierarchicalTimer timer;
 
     /**
      * Constructs an IOSimulator with the configured latency and chaos settings.
      *
      * @param properties the job engine configuration properties
+     * @param jobTimer   timer completing the non-blocking variant
      */
-    public IOSimulator(JobEngineProperties properties) {
+    public IOSimulator(JobEngineProperties properties, HierarchicalTimer jobTimer) {
         var config = properties.getIoSimulation();
+        this.timer = jobTimer;
         this.minLatencyMs = config.minLatencyMs();
         this.maxLatencyMs = config.maxLatencyMs();
         this.failureRate = config.failureRate();
@@ -73,12 +86,70 @@ public class IOSimulator {
      *   <li>Take much longer than normal (simulates timeout)</li>
      * </ul></p>
      *
+     * <p>A single attempt: retries are the caller's business, through
+     * {@link RetryScheduler}, so the backoff does not sleep on this thread. So is the time
+     * limit: {@link IOTimeLimiter} interrupts the sleep when the attempt runs too long.</p>
+     *
      * @param payload the job payload to "process"
      * @return a processed result string
-     * @throws IOSimulationException if random failure occurs or interrupted after all retries
+     * @throws IOSimulationException if random failure occurs or interrupted
      */
-    @Retry(name = "ioSimulator", fallbackMethod = "simulateWorkFallback")
     public String simulateWork(String payload) {
+        var latency = nextLatency(payload);
+
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOSimulationException("I/O simulation interrupted", e);
+        }
+
+        return result(payload, latency);
+    }
+
+    /**
+     * Simulates I/O work without blocking the calling thread.
+     *
+     * <p>Same latency and chaos behaviour as {@link #simulateWork}, but the latency is
+     * spent on the shared timing wheel instead of in a sleeping thread. The future is
+     * completed on the timer's task executor, at most one timer tick late.</p>
+     *
+     * <p>A single attempt, like {@link #simulateWork}; retry it with
+     * {@link RetryScheduler#call}.</p>
+     *
+     * <p>Cancelling the returned future cancels the pending timer, like aborting an
+     * outstanding request.</p>
+     *
+     * @param payload the job payload to "process"
+     * @return a future completed with the processed result string, or exceptionally with
+     *         {@link IOSimulationException} on a random failure
+     */
+    public CompletableFuture<String> simulateWorkAsync(String payload) {
+        int latency;
+        try {
+            latency = nextLatency(payload);
+        } catch (IOSimulationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        var future = new CompletableFuture<String>();
+        var timeout = timer.schedule(Duration.ofMillis(latency), () -> future.complete(result(payload, latency)));
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                timeout.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Rolls the chaos dice and picks the latency of one simulated call.
+     *
+     * @param payload the job payload, for logging
+     * @return latency in milliseconds
+     * @throws IOSimulationException if random failure occurs
+     */
+    private int nextLatency(String payload) {
         var random = ThreadLocalRandom.current();
         
         // Chaos: random failure
@@ -98,14 +169,10 @@ public class IOSimulator {
         
         log.debug("Simulating I/O: latency={}ms, payloadLength={}", latency, 
                 payload != null ? payload.length() : 0);
+        return latency;
+    }
 
-        try {
-            Thread.sleep(latency);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOSimulationException("I/O simulation interrupted", e);
-        }
-
+    private static String result(String payload, int latency) {
         return "Processed: " + (payload != null ? payload : "empty") + " [latency=" + latency + "ms]";
     }
 
@@ -121,19 +188,6 @@ public class IOSimulator {
         return ThreadLocalRandom.current().nextInt(minLatencyMs, maxLatencyMs + 1);
     }
 
-    /**
-     * Fallback method called when all retry attempts are exhausted.
-     *
-     * @param payload the original payload
-     * @param ex the exception that caused the failure
-     * @return never returns, always throws
-     * @throws IOSimulationException wrapping the original exception
-     */
-    private String simulateWorkFallback(String payload, Exception ex) {
-        log.error("All retry attempts exhausted for payload={}, error={}", payload, ex.getMessage());
-        throw new IOSimulationException("I/O operation failed after 3 retries: " + ex.getMessage(), ex);
-    }
-
     /**
      * Returns the configured minimum latency.
      *
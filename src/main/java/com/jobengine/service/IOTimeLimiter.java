@@ -0,0 +1,221 @@
+package com.jobengine.service;
+
+import com.jobengine.exception.IOTimeoutException;
+import com.jobengine.executor.timer.HierarchicalTimer;
+import com.jobengine.model.Job;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Enforces the time limits of a single I/O attempt.
+ *
+ * <h2>Limits</h2>
+ * <p>An attempt gets the shorter of:</p>
+ * <ul>
+ *   <li><b>Per attempt:</b> the {@code timeout-duration} of the Resilience4j {@code ioSimulator}
+ *       time limiter</li>
+ *   <li><b>Per job:</b> the time left until the job's deadline - the explicit {@code deadlineMs},
+ *       or {@code job-engine.async.timeout-seconds} for ASYNC jobs. A job with no time left
+ *       fails before the attempt starts.</li>
+ * </ul>
+ *
+ * <h2>How It Works</h2>
+ * <p>Every attempt arms one node on the shared timing wheel; an attempt that finishes in
+ * time cancels it. When the node fires first:</p>
+ * <ul>
+ *   <li><b>Blocking attempt:</b> the worker running it is interrupted, so a sleeping
+ *       platform or virtual thread returns to its pool (and releases its limiter permit) at
+ *       once instead of after the full latency</li>
+ *   <li><b>Non-blocking attempt:</b> the returned future fails and the attempt's own future is
+ *       cancelled, which disarms the simulated call's timer</li>
+ * </ul>
+ * <p>Either way the attempt fails with {@link IOTimeoutException}, which the retry treats like
+ * any other I/O failure. With {@code cancel-running-future: false} nothing is interrupted or
+ * cancelled: a late blocking attempt is only reported as timed out once it returns.</p>
+ *
+ * <p>A worker is only interrupted while it is inside the attempt: the timer and the worker
+ * race on one atomic state, and the worker waits for an interrupt in progress to land before
+ * clearing it, so no interrupt leaks into the next task of a pooled thread.</p>
+ *
+ * <p>Outcomes are reported to the {@link TimeLimiter}, so
+ * {@code resilience4j_timelimiter_calls_total} counts successful, failed and timed-out
+ * attempts.</p>
+ *
+ * @author gsk
+ */
+@Service
+public class IOTimeLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(IOTimeLimiter.class);
+
+    private static final String TIME_LIMITER_NAME = "ioSimulator";
+
+    private static final int RUNNING = 0;
+    private static final int DONE = 1;
+    private static final int INTERRUPTING = 2;
+    private static final int TIMED_OUT = 3;
+
+    private final TimeLimiter timeLimiter;
+    private final HierarchicalTimer timer;
+    private final Duration attemptTimeout;
+    private final boolean cancelRunning;
+
+    /**
+     * Constructs an IOTimeLimiter.
+     *
+     * @param timeLimiterRegistry registry holding the configured {@code ioSimulator} time limiter
+     * @param jobTimer            timer the time limits are armed on
+     */
+    public IOTimeLimiter(TimeLimiterRegistry timeLimiterRegistry, HierarchicalTimer jobTimer) {
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(TIME_LIMITER_NAME);
+        this.timer = jobTimer;
+        this.attemptTimeout = timeLimiter.getTimeLimiterConfig().getTimeoutDuration();
+        this.cancelRunning = timeLimiter.getTimeLimiterConfig().shouldCancelRunningFuture();
+
+        log.info("IOTimeLimiter initialized: timeLimiter={}, timeout={}ms, cancelRunning={}",
+                TIME_LIMITER_NAME, attemptTimeout.toMillis(), cancelRunning);
+    }
+
+    /**
+     * Runs a blocking attempt on the calling thread, interrupting it if the attempt outlives
+     * its time limit.
+     *
+     * @param job     the job the attempt belongs to
+     * @param attempt performs the attempt
+     * @param <T>     result type
+     * @return the attempt's result
+     * @throws IOTimeoutException if the attempt timed out or the job has no time left
+     */
+    public <T> T callBlocking(Job job, Supplier<T> attempt) {
+        var limit = limitFor(job);
+        var worker = Thread.currentThread();
+        var state = new AtomicInteger(RUNNING);
+        var timeout = timer.schedule(limit.duration(), () -> {
+            if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                if (cancelRunning) {
+                    worker.interrupt();
+                }
+                state.set(TIMED_OUT);
+            }
+        });
+
+        T value;
+        try {
+            value = attempt.get();
+        } catch (RuntimeException e) {
+            if (state.compareAndSet(RUNNING, DONE)) {
+                timeout.cancel();
+                timeLimiter.onError(e);
+                throw e;
+            }
+            throw timedOut(job, limit, state);
+        }
+
+        if (state.compareAndSet(RUNNING, DONE)) {
+            timeout.cancel();
+            timeLimiter.onSuccess();
+            return value;
+        }
+        throw timedOut(job, limit, state);
+    }
+
+    /**
+     * Starts a non-blocking attempt and fails it if it does not complete within its time
+     * limit.
+     *
+     * @param job     the job the attempt belongs to
+     * @param attempt starts the attempt
+     * @param <T>     result type
+     * @return a future completed with the attempt's outcome, or exceptionally with
+     *         {@link IOTimeoutException} when the time limit expires first
+     */
+    public <T> CompletableFuture<T> call(Job job, Supplier<CompletableFuture<T>> attempt) {
+        Limit limit;
+        try {
+            limit = limitFor(job);
+        } catch (IOTimeoutException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        var source = attempt.get();
+        var result = new CompletableFuture<T>();
+        var timeout = timer.schedule(limit.duration(), () -> {
+            var exception = timeoutException(job, limit);
+            if (result.completeExceptionally(exception)) {
+                timeLimiter.onError(exception.getCause());
+                if (cancelRunning) {
+                    source.cancel(true);
+                }
+            }
+        });
+
+        source.whenComplete((value, error) -> {
+            if (error == null ? result.complete(value) : result.completeExceptionally(error)) {
+                timeout.cancel();
+                if (error == null) {
+                    timeLimiter.onSuccess();
+                } else {
+                    timeLimiter.onError(RetryScheduler.unwrap(error));
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for an interrupt in flight to land, clears it and reports the timeout.
+     */
+    private IOTimeoutException timedOut(Job job, Limit limit, AtomicInteger state) {
+        while (state.get() == INTERRUPTING) {
+            Thread.onSpinWait();
+        }
+        if (cancelRunning) {
+            Thread.interrupted();
+        }
+
+        var exception = timeoutException(job, limit);
+        timeLimiter.onError(exception.getCause());
+        log.debug("I/O attempt timed out: jobId={}, attempt={}, limit={}ms, deadline={}",
+                job.getId(), job.getAttempts(), limit.duration().toMillis(), limit.deadline());
+        return exception;
+    }
+
+    private static IOTimeoutException timeoutException(Job job, Limit limit) {
+        var message = limit.deadline()
+                ? "Job deadline reached during I/O attempt " + job.getAttempts()
+                : "I/O attempt " + job.getAttempts() + " timed out after " + limit.duration().toMillis() + "ms";
+        return new IOTimeoutException(message, new TimeoutException(message));
+    }
+
+    private Limit limitFor(Job job) {
+        var deadline = job.getDeadline();
+        if (deadline != null) {
+            var remaining = Duration.between(Instant.now(), deadline);
+            if (!remaining.isPositive()) {
+                throw new IOTimeoutException("Job deadline reached before I/O attempt " + job.getAttempts(), null);
+            }
+            if (remaining.compareTo(attemptTimeout) < 0) {
+                return new Limit(remaining, true);
+            }
+        }
+        return new Limit(attemptTimeout, false);
+    }
+
+    /**
+     * Time limit of one attempt.
+     *
+     * @param duration time allowed
+     * @param deadline whether the job's deadline, rather than the per-attempt timeout, set it
+     */
+    private record Limit(Duration duration, boolean deadline) {}
+}
@@ -0,0 +1,257 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobEvent;
+import com.jobengine.model.JobStatus;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes job status transitions to Server-Sent Events subscribers.
+ *
+ * <p>Replaces client-side polling of {@code /api/jobs/{id}/status}: subscribers receive
+ * PENDING → RUNNING → COMPLETED/FAILED/EXPIRED/TIMED_OUT transitions as they happen in the
+ * executors.</p>
+ *
+ * <h2>Fan-out Model</h2>
+ * <ul>
+ *   <li>Transitions are observed through {@link JobStore#addStatusListener}, on the
+ *       executor thread performing them.</li>
+ *   <li>Each subscriber owns a bounded {@link ArrayBlockingQueue}. Publishing is a
+ *       non-blocking {@code offer}; when a slow consumer's buffer is full the event is
+ *       dropped and counted, so no executor ever waits on a network write.</li>
+ *   <li>Each subscriber is drained by its own virtual thread, which performs the
+ *       blocking {@link SseEmitter#send} calls.</li>
+ * </ul>
+ *
+ * <p>When a subscription targets specific job ids, the current status of each job is sent
+ * first, and the stream completes once all of them reached a terminal status. A batch is
+ * followed by its id instead, since its handle does not list member ids.</p>
+ *
+ * @author gsk
+ */
+@Service
+public class JobEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(JobEventBroadcaster.class);
+
+    /**
+     * Wakes a dispatcher whose job-scoped subscription has nothing left to wait for.
+     */
+    private static final JobEvent END_OF_STREAM = new JobEvent(null, null, null, null, null, null);
+
+    private final JobStore jobStore;
+    private final MetricsService metricsService;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a JobEventBroadcaster.
+     *
+     * @param jobStore       the job store whose transitions are broadcast
+     * @param properties     the job engine configuration properties
+     * @param metricsService service for recording event metrics
+     */
+    public JobEventBroadcaster(JobStore jobStore, JobEngineProperties properties, MetricsService metricsService) {
+        var config = properties.getEvents();
+        this.jobStore = jobStore;
+        this.metricsService = metricsService;
+        this.bufferSize = config.bufferSize();
+        this.timeout = Duration.ofSeconds(config.timeoutSeconds());
+    }
+
+    /**
+     * Registers with the job store and the metrics registry once fully constructed.
+     */
+    @PostConstruct
+    void register() {
+        jobStore.addStatusListener(this::publish);
+        metricsService.registerEventGauges(this);
+
+        log.info("JobEventBroadcaster initialized: bufferSize={}, timeout={}s",
+                bufferSize, timeout.toSeconds());
+    }
+
+    /**
+     * Opens a new event stream matching the given filter.
+     *
+     * @param filter which events the subscriber wants
+     * @return the SSE emitter to return from the controller
+     */
+    public SseEmitter subscribe(Filter filter) {
+        var emitter = new SseEmitter(timeout.toMillis());
+        var subscriber = new Subscriber(filter, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // Register before taking the snapshot so no transition falls in between
+        subscriber.pending.addAll(filter.jobIds());
+        subscribers.add(subscriber);
+        for (String jobId : filter.jobIds()) {
+            var job = jobStore.findJob(jobId);
+            var status = job.map(Job::getStatus).orElse(null);
+            if (job.isPresent() && filter.matches(job.get(), status)) {
+                subscriber.queue.offer(JobEvent.of(job.get(), null, status));
+            }
+            if (status == null || status.isTerminal()) {
+                subscriber.pending.remove(jobId);
+            }
+        }
+        if (subscriber.isFinished()) {
+            subscriber.queue.offer(END_OF_STREAM);
+        }
+
+        subscriber.dispatcher = Thread.ofVirtual()
+                .name("sse-dispatcher-", subscriber.hashCode())
+                .start(() -> dispatch(subscriber));
+        if (!subscribers.contains(subscriber)) {
+            // Emitter already closed before the dispatcher existed to be interrupted
+            subscriber.dispatcher.interrupt();
+        }
+
+        log.debug("Event subscriber added: filter={}, subscribers={}", filter, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Returns the number of open subscriptions.
+     *
+     * @return subscriber count
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void publish(Job job, JobStatus previous, JobStatus current) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        JobEvent event = null;
+        for (Subscriber subscriber : subscribers) {
+            var filter = subscriber.filter;
+            if (!filter.matchesJob(job)) {
+                continue;
+            }
+
+            if (filter.matchesStatus(current)) {
+                if (event == null) {
+                    event = JobEvent.of(job, previous, current);
+                }
+                if (!subscriber.queue.offer(event)) {
+                    metricsService.recordEventDropped();
+                }
+            }
+
+            if (current.isTerminal()
+                    && subscriber.pending.remove(job.getId())
+                    && subscriber.pending.isEmpty()) {
+                subscriber.queue.offer(END_OF_STREAM);
+            }
+        }
+    }
+
+    private void dispatch(Subscriber subscriber) {
+        try {
+            while (true) {
+                var event = subscriber.queue.take();
+                if (event != END_OF_STREAM) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(event.jobId())
+                            .name("status")
+                            .data(event));
+                }
+
+                // END_OF_STREAM may have been dropped on a full buffer, so re-check after every event
+                if (subscriber.isFinished() && subscriber.queue.isEmpty()) {
+                    subscriber.emitter.complete();
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Event subscriber disconnected: {}", e.getMessage());
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Event subscriber removed: subscribers={}", subscribers.size());
+        }
+        var dispatcher = subscriber.dispatcher;
+        if (dispatcher != null && dispatcher != Thread.currentThread()) {
+            dispatcher.interrupt();
+        }
+    }
+
+    /**
+     * Subscription filter. Empty sets and null batch id or mode match everything.
+     *
+     * @param jobIds   only events for these jobs
+     * @param batchId  only events for jobs of this batch
+     * @param mode     only events for jobs in this execution mode
+     * @param statuses only transitions into one of these statuses
+     */
+    public record Filter(Set<String> jobIds, String batchId, ExecutionMode mode, Set<JobStatus> statuses) {
+
+        public Filter {
+            jobIds = jobIds != null ? Set.copyOf(jobIds) : Set.of();
+            statuses = statuses != null ? Set.copyOf(statuses) : Set.of();
+        }
+
+        boolean matches(Job job, JobStatus status) {
+            return matchesJob(job) && matchesStatus(status);
+        }
+
+        boolean matchesJob(Job job) {
+            return (mode == null || job.getExecutionMode() == mode)
+                    && (batchId == null || batchId.equals(job.getBatchId()))
+                    && (jobIds.isEmpty() || jobIds.contains(job.getId()));
+        }
+
+        boolean matchesStatus(JobStatus status) {
+            return statuses.isEmpty() || statuses.contains(status);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Filter filter;
+        private final SseEmitter emitter;
+        private final BlockingQueue<JobEvent> queue;
+        private final Set<String> pending = ConcurrentHashMap.newKeySet();
+        private volatile Thread dispatcher;
+
+        private Subscriber(Filter filter, SseEmitter emitter, BlockingQueue<JobEvent> queue) {
+            this.filter = filter;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        /**
+         * A job-scoped subscription is finished once every job reached a terminal status.
+         */
+        private boolean isFinished() {
+            return !filter.jobIds().isEmpty() && pending.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.jobengine.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.controller.dto.JobSubmitRequest;
+import com.jobengine.exception.JobRejectedException;
+import com.jobengine.model.Job;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Ingests a stream of job submissions in NDJSON form (one {@link JobSubmitRequest} per line).
+ *
+ * <h2>Streaming Model</h2>
+ * <ul>
+ *   <li>Records are read one at a time with a Jackson streaming parser and bound
+ *       directly to {@link JobSubmitRequest}; no intermediate tree is built and the
+ *       body is never buffered as a whole.</li>
+ *   <li>Each record is validated and submitted to {@link JobService} as soon as it is
+ *       parsed, and its outcome is written back as one NDJSON line:
+ *       {@code {"line":n,"id":"..."}} or {@code {"line":n,"error":"..."}}. A final
+ *       summary line reports the accepted and rejected counts.</li>
+ * </ul>
+ *
+ * <h2>Backpressure</h2>
+ * <p>Each stream may have at most {@code job-engine.ingest.max-in-flight} unfinished jobs.
+ * When the limit is reached, reading stops until a job finishes; the unread body then
+ * fills the TCP window and the producer is slowed down by the network itself.</p>
+ *
+ * <p>A record refused by admission control (mode overloaded) is rejected individually
+ * with the suggested retry delay in its error line; the stream goes on.</p>
+ *
+ * <p>A malformed JSON record ends the stream (the parser cannot resynchronize); a
+ * well-formed record that fails binding, validation or the submission checks (a priority
+ * the mode ignores, a {@code runAt} beyond the horizon) is rejected individually.</p>
+ *
+ * @author gsk
+ */
+@Service
+public class JobIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobIngestionService.class);
+
+    private static final int FLUSH_EVERY = 256;
+
+    private final JobService jobService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final Validator validator;
+    private final int maxInFlight;
+
+    /**
+     * Constructs a JobIngestionService.
+     *
+     * @param jobService   service the parsed jobs are submitted to
+     * @param objectMapper mapper used for the streaming parser and generator
+     * @param validator    bean validator applied to each record
+     * @param properties   the job engine configuration properties
+     */
+    public JobIngestionService(JobService jobService, ObjectMapper objectMapper,
+                               Validator validator, JobEngineProperties properties) {
+        this.jobService = jobService;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(JobSubmitRequest.class);
+        this.validator = validator;
+        this.maxInFlight = properties.getIngest().maxInFlight();
+
+        log.info("JobIngestionService initialized: maxInFlight={}", maxInFlight);
+    }
+
+    /**
+     * Reads job submissions from {@code in} until end of stream, writing one outcome line
+     * per record to {@code out}.
+     *
+     * @param in  NDJSON request body
+     * @param out NDJSON response body
+     * @throws IOException if reading or writing the stream fails
+     */
+    public void ingest(InputStream in, OutputStream out) throws IOException {
+        var inFlight = new Semaphore(maxInFlight);
+        int line = 0;
+        int accepted = 0;
+
+        try (JsonParser parser = objectMapper.createParser(in);
+             JsonGenerator gen = objectMapper.createGenerator(out)) {
+            gen.setRootValueSeparator(null);
+
+            try {
+                while (true) {
+                    // Counted before its first token is read, which is where a malformed record aborts
+                    line++;
+                    var token = parser.nextToken();
+                    if (token == null) {
+                        line--;
+                        break;
+                    }
+                    if (token != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        writeError(gen, line, "Expected a JSON object");
+                        continue;
+                    }
+
+                    JobSubmitRequest request;
+                    try {
+                        request = requestReader.readValue(parser);
+                    } catch (DatabindException e) {
+                        skipToRoot(parser);
+                        writeError(gen, line, e.getOriginalMessage());
+                        continue;
+                    }
+
+                    var violations = validator.validate(request);
+                    if (!violations.isEmpty()) {
+                        writeError(gen, line, violations.stream()
+                                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                                .sorted()
+                                .collect(Collectors.joining(", ")));
+                        continue;
+                    }
+
+                    if (!inFlight.tryAcquire()) {
+                        // Let the client see everything accepted so far while we wait
+                        gen.flush();
+                        inFlight.acquire();
+                    }
+                    Job job;
+                    try {
+                        job = jobService.submitJob(request.name(), request.payload(), request.executionMode(),
+                                request.priority(), request.deadline(), request.scheduledAt());
+                    } catch (JobRejectedException | IllegalArgumentException e) {
+                        inFlight.release();
+                        writeError(gen, line, e.getMessage());
+                        continue;
+                    }
+                    jobService.getResultFuture(job.getId()).ifPresentOrElse(
+                            future -> future.whenComplete((result, error) -> inFlight.release()),
+                            inFlight::release);
+                    accepted++;
+
+                    gen.writeStartObject();
+                    gen.writeNumberField("line", line);
+                    gen.writeStringField("id", job.getId());
+                    gen.writeEndObject();
+                    gen.writeRaw('\n');
+                    if (accepted % FLUSH_EVERY == 0) {
+                        gen.flush();
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                writeError(gen, line, "Malformed JSON, stream aborted: " + e.getOriginalMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Ingestion interrupted");
+            }
+
+            gen.writeStartObject();
+            gen.writeNumberField("accepted", accepted);
+            gen.writeNumberField("rejected", line - accepted);
+            gen.writeEndObject();
+            gen.writeRaw('\n');
+        }
+
+        log.info("Ingestion stream finished: accepted={}, rejected={}", accepted, line - accepted);
+    }
+
+    private static void writeError(JsonGenerator gen, int line, String message) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("line", line);
+        gen.writeStringField("error", message);
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    /**
+     * Skips the rest of a record that failed binding midway, leaving the parser between
+     * root-level values.
+     */
+    private static void skipToRoot(JsonParser parser) throws IOException {
+        while (!parser.getParsingContext().inRoot()) {
+            if (parser.nextToken() == null) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.executor.timer.HierarchicalTimer;
+import com.jobengine.executor.timer.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Schedules work to run at a later instant on the shared {@link HierarchicalTimer}.
+ *
+ * <p>Used for jobs submitted with {@code runAt}/{@code delayMs}: the job is stored as
+ * SCHEDULED and, when due, handed to the executor of its mode. Pending work costs one
+ * timer node each, so millions of delayed jobs do not degrade insertion or cancellation.</p>
+ *
+ * <h2>Metrics</h2>
+ * <ul>
+ *   <li><b>job.scheduler.pending:</b> timers waiting to fire</li>
+ *   <li><b>job.scheduler.buckets:</b> occupied wheel buckets (entries of the clock's delay queue)</li>
+ *   <li><b>job.scheduler.levels:</b> wheel levels created so far</li>
+ *   <li><b>job.scheduler.lag:</b> how late timers fire relative to their due instant</li>
+ * </ul>
+ *
+ * @author gsk
+ */
+@Service
+public class JobScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(JobScheduler.class);
+
+    private final HierarchicalTimer timer;
+    private final MetricsService metricsService;
+    private final Duration maxDelay;
+
+    /**
+     * Constructs a JobScheduler.
+     *
+     * @param jobTimer       the timer due work fires from
+     * @param metricsService service for recording metrics
+     * @param properties     the job engine configuration properties
+     */
+    public JobScheduler(HierarchicalTimer jobTimer, MetricsService metricsService, JobEngineProperties properties) {
+        this.timer = jobTimer;
+        this.metricsService = metricsService;
+        this.maxDelay = Duration.ofSeconds(properties.getScheduler().maxDelaySeconds());
+
+        metricsService.registerSchedulerGauges(timer, HierarchicalTimer::getPendingCount,
+                HierarchicalTimer::getOccupiedBuckets, HierarchicalTimer::getLevels);
+    }
+
+    /**
+     * Checks that an instant is within the scheduling horizon.
+     *
+     * @param runAt the requested instant
+     * @throws IllegalArgumentException if it is further ahead than {@code max-delay-seconds}
+     */
+    public void checkHorizon(Instant runAt) {
+        if (Duration.between(Instant.now(), runAt).compareTo(maxDelay) > 0) {
+            throw new IllegalArgumentException("Cannot schedule more than " + maxDelay.toSeconds()
+                    + "s ahead: runAt=" + runAt);
+        }
+    }
+
+    /**
+     * Runs a task once at the given instant (or right away if it is not in the future).
+     *
+     * @param runAt when the task is due
+     * @param task  the task; it runs on a virtual thread, never on the timer's clock
+     * @return handle to cancel the task
+     */
+    public Timeout schedule(Instant runAt, Runnable task) {
+        log.debug("Scheduling task: runAt={}, pending={}", runAt, timer.getPendingCount());
+        return timer.schedule(Duration.between(Instant.now(), runAt), () -> {
+            metricsService.recordSchedulerLag(Duration.between(runAt, Instant.now()));
+            task.run();
+        });
+    }
+
+    /**
+     * Re-arms a task that was due but could not proceed (e.g. refused by admission).
+     *
+     * @param delay how long to wait before the next attempt
+     * @param task  the task
+     * @return handle to cancel the task
+     */
+    public Timeout defer(Duration delay, Runnable task) {
+        metricsService.recordSchedulerDeferred();
+        return schedule(Instant.now().plus(delay), task);
+    }
+}
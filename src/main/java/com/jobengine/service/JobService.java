@@ -1,37 +1,78 @@
 package com.jobengine.service;
 
 import com.jobengine.executor.AsyncJobExecutor;
+import com.jobengine.executor.ForkJoinJobExecutor;
+import com.jobengine.executor.HybridJobExecutor;
 import com.jobengine.executor.JobExecutor;
+import com.jobengine.executor.ReactiveJobExecutor;
 import com.jobengine.executor.SequentialJobExecutor;
 import com.jobengine.executor.ThreadPoolJobExecutor;
+import com.jobengine.exception.JobRejectedException;
+import com.jobengine.model.Batch;
 import com.jobengine.model.ExecutionMode;
 import com.jobengine.model.Job;
+import com.jobengine.model.JobPriority;
 import com.jobengine.model.JobResult;
 import com.jobengine.model.JobStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.IntStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 /**
  * Central service for job management and execution orchestration.
  *
  * <p>This service handles:</p>
  * <ul>
- *   <li>Job submission and storage</li>
+ *   <li>Job submission and storage (bounded, see {@link JobStore})</li>
  *   <li>Routing jobs to the appropriate executor based on mode</li>
  *   <li>Tracking job status and results</li>
+ *   <li>Keeping in-flight result futures addressable by job id (long-polling)</li>
  *   <li>Batch job submission for load testing</li>
  * </ul>
  *
+ * <h2>Bulk Submission</h2>
+ * <p>A batch is created and stored in one pass ({@link JobStore#saveAll}) and the call
+ * returns immediately with a {@link Batch} handle. A dedicated virtual thread then feeds
+ * the jobs to the executor in chunks of {@value #BATCH_CHUNK_SIZE} through
+ * {@link JobExecutor#executeAll}, so the request thread never blocks on a full work
+ * queue or on SEQUENTIAL execution. Once every job is handed off, the batch completion
+ * future is derived with {@link CompletableFuture#allOf} over the per-job futures.</p>
+ *
+ * <h2>Admission Control</h2>
+ * <p>Every submission passes {@link AdmissionController} before anything is stored: a
+ * mode that already holds its maximum of unfinished jobs refuses it with
+ * {@link JobRejectedException} (429). A job that was admitted but that its executor still
+ * refuses never runs on the request thread either: a single submission is removed from the
+ * store again and rejected with 429 like any other refusal, while batch jobs and due
+ * scheduled jobs, which already have an id the client knows, are shed - failed without
+ * running.</p>
+ *
+ * <h2>Priority</h2>
+ * <p>Only an executor that orders its waiting jobs by priority (THREAD_POOL and ASYNC with
+ * a concurrency limiter) tells {@link JobPriority} classes apart. Elsewhere a HIGH or LOW
+ * job is refused rather than stored with a priority that does nothing, and batches, which
+ * default to LOW, default to NORMAL instead.</p>
+ *
+ * <h2>Timer-Driven Submissions</h2>
+ * <p>Scheduled jobs that become due and recurring fires are submitted from a timer
+ * callback. A SEQUENTIAL job would run right there and hold the callback up for its whole
+ * duration, so these submissions start it on a virtual thread of its own instead.</p>
+ *
  * @author gsk
  */
 @Service
@@ -39,20 +80,43 @@ public class JobService {
 
     private static final Logger log = LoggerFactory.getLogger(JobService.class);
 
-    private final Map<String, Job> jobStorage;
-    private final Map<String, JobResult> resultStorage;
+    private static final int BATCH_CHUNK_SIZE = 256;
+
+    private final JobStore jobStore;
+    private final BatchStore batchStore;
+    private final AdmissionController admission;
+    private final JobScheduler scheduler;
+    private final JobIdGenerator idGenerator;
     private final Map<ExecutionMode, JobExecutor> executors;
+    private final ExecutorService handOffExecutor;
+    private final Map<Long, CompletableFuture<JobResult>> inFlightResults = new ConcurrentHashMap<>();
 
-    public JobService(SequentialJobExecutor sequentialExecutor,
+    public JobService(JobStore jobStore,
+                      BatchStore batchStore,
+                      AdmissionController admission,
+                      JobScheduler scheduler,
+                      JobIdGenerator idGenerator,
+                      SequentialJobExecutor sequentialExecutor,
                       ThreadPoolJobExecutor threadPoolExecutor,
-                      AsyncJobExecutor asyncExecutor) {
-        this.jobStorage = new ConcurrentHashMap<>();
-        this.resultStorage = new ConcurrentHashMap<>();
+                      AsyncJobExecutor asyncExecutor,
+                      ForkJoinJobExecutor forkJoinExecutor,
+                      HybridJobExecutor hybridExecutor,
+                      ReactiveJobExecutor reactiveExecutor,
+                      @Qualifier("virtualThreadExecutor") ExecutorService handOffExecutor) {
+        this.jobStore = jobStore;
+        this.batchStore = batchStore;
+        this.admission = admission;
+        this.scheduler = scheduler;
+        this.idGenerator = idGenerator;
         this.executors = Map.of(
                 ExecutionMode.SEQUENTIAL, sequentialExecutor,
                 ExecutionMode.THREAD_POOL, threadPoolExecutor,
-                ExecutionMode.ASYNC, asyncExecutor
+                ExecutionMode.ASYNC, asyncExecutor,
+                ExecutionMode.FORK_JOIN, forkJoinExecutor,
+                ExecutionMode.HYBRID, hybridExecutor,
+                ExecutionMode.REACTIVE, reactiveExecutor
         );
+        this.handOffExecutor = handOffExecutor;
 
         log.info("JobService initialized with {} execution modes", executors.size());
     }
@@ -60,64 +124,326 @@ public class JobService {
     /**
      * Submits a job for execution.
      *
+     * <p>A job with a future {@code runAt} is stored as SCHEDULED and goes through
+     * admission only when it becomes due.</p>
+     *
      * @param name          job name for identification
      * @param payload       data to process
      * @param executionMode how to execute the job
+     * @param priority      scheduling class of the job
+     * @param deadline      time after the job is due beyond which the result is useless, or null
+     * @param runAt         when to run the job, or null to run it now
      * @return the created job
+     * @throws JobRejectedException     if the mode is overloaded
+     * @throws IllegalArgumentException if {@code runAt} is beyond the scheduling horizon, or
+     *                                  {@code priority} has no effect in the mode
      */
-    public Job submitJob(String name, String payload, ExecutionMode executionMode) {
-        var job = new Job(name, payload, executionMode);
-        jobStorage.put(job.getId(), job);
+    public Job submitJob(String name, String payload, ExecutionMode executionMode, JobPriority priority,
+                         Duration deadline, Instant runAt) {
+        checkPriority(executionMode, priority);
+        if (runAt != null && runAt.isAfter(Instant.now())) {
+            return scheduleJob(name, payload, executionMode, priority, deadline, runAt);
+        }
+        return submitNow(name, payload, executionMode, priority, deadline, false);
+    }
 
-        log.info("Job submitted: id={}, name={}, mode={}", job.getId(), name, executionMode);
+    /**
+     * Submits a job for immediate execution from a timer callback. Unlike
+     * {@link #submitJob}, it returns as soon as the job is handed off, even in SEQUENTIAL mode.
+     *
+     * @param name          job name for identification
+     * @param payload       data to process
+     * @param executionMode how to execute the job
+     * @param priority      scheduling class of the job
+     * @param deadline      time after submission beyond which the result is useless, or null
+     * @return the created job
+     * @throws JobRejectedException     if the mode is overloaded
+     * @throws IllegalArgumentException if {@code priority} has no effect in the mode
+     */
+    public Job submitJobDetached(String name, String payload, ExecutionMode executionMode, JobPriority priority,
+                                 Duration deadline) {
+        checkPriority(executionMode, priority);
+        return submitNow(name, payload, executionMode, priority, deadline, true);
+    }
 
-        var executor = executors.get(executionMode);
-        var future = executor.execute(job);
+    /**
+     * Checks that a priority makes a difference in a mode. NORMAL is always accepted.
+     *
+     * @param executionMode the mode the job would run in
+     * @param priority      the requested priority
+     * @throws IllegalArgumentException if the mode's executor does not order jobs by priority
+     */
+    public void checkPriority(ExecutionMode executionMode, JobPriority priority) {
+        if (priority != JobPriority.NORMAL && !executors.get(executionMode).ordersByPriority()) {
+            throw new IllegalArgumentException("Priority " + priority + " has no effect in " + executionMode
+                    + " mode: only THREAD_POOL and ASYNC with a concurrency limiter order jobs by priority");
+        }
+    }
 
-        future.thenAccept(result -> {
-            resultStorage.put(job.getId(), result);
-            log.debug("Job result stored: id={}, success={}", job.getId(), result.success());
-        });
+    /**
+     * Resolves the priority of a batch: LOW by default where it makes a difference, so bulk
+     * work yields to interactive jobs, and NORMAL elsewhere.
+     */
+    private JobPriority batchPriority(ExecutionMode executionMode, JobPriority requested) {
+        if (requested == null) {
+            return executors.get(executionMode).ordersByPriority() ? JobPriority.LOW : JobPriority.NORMAL;
+        }
+        checkPriority(executionMode, requested);
+        return requested;
+    }
+
+    private Job submitNow(String name, String payload, ExecutionMode executionMode, JobPriority priority,
+                          Duration deadline, boolean detached) {
+        admission.admit(executionMode, 1);
+
+        var job = idGenerator.newJob(name, payload, executionMode);
+        job.setPriority(priority);
+        if (deadline != null) {
+            job.setDeadline(job.getCreatedAt().plus(deadline));
+        }
+        jobStore.save(job);
+
+        log.info("Job submitted: id={}, name={}, mode={}, priority={}, deadline={}",
+                job.getId(), name, executionMode, priority, job.getDeadline());
+
+        try {
+            var execution = detached ? startDetached(job) : executors.get(executionMode).execute(job);
+            track(job, execution);
+        } catch (RejectedExecutionException e) {
+            // The client only gets a 429 without an id, so nothing may remain stored
+            admission.recordShed(executionMode);
+            admission.release(executionMode);
+            jobStore.remove(job);
+            throw new JobRejectedException(executionMode, 1);
+        }
 
         return job;
     }
 
+    private Job scheduleJob(String name, String payload, ExecutionMode executionMode, JobPriority priority,
+                            Duration deadline, Instant runAt) {
+        scheduler.checkHorizon(runAt);
+
+        var job = idGenerator.newJob(name, payload, executionMode);
+        job.setPriority(priority);
+        job.setRunAt(runAt);
+        if (deadline != null) {
+            job.setDeadline(runAt.plus(deadline));
+        }
+        job.setStatus(JobStatus.SCHEDULED);
+        jobStore.save(job);
+
+        // Tracked from now on, so long-polling a scheduled job waits for its result
+        var execution = new CompletableFuture<JobResult>();
+        track(job, execution);
+        scheduler.schedule(runAt, () -> dispatch(job, execution));
+
+        log.info("Job scheduled: id={}, name={}, mode={}, priority={}, runAt={}",
+                job.getId(), name, executionMode, priority, runAt);
+        return job;
+    }
+
+    /**
+     * Hands a scheduled job that became due to its executor. If its mode is full, the job
+     * stays SCHEDULED and is retried after the Retry-After the admission controller
+     * estimated, so a burst of due jobs waits on the timer instead of being failed.
+     *
+     * <p>The outcome is relayed to {@code execution}, the future tracked since the job was
+     * scheduled.</p>
+     */
+    private void dispatch(Job job, CompletableFuture<JobResult> execution) {
+        var mode = job.getExecutionMode();
+        try {
+            admission.admit(mode, 1);
+        } catch (JobRejectedException e) {
+            log.debug("Scheduled job deferred: id={}, mode={}, retryAfter={}s",
+                    job.getId(), mode, e.getRetryAfterSeconds());
+            scheduler.defer(Duration.ofSeconds(e.getRetryAfterSeconds()), () -> dispatch(job, execution));
+            return;
+        }
+
+        log.debug("Scheduled job due: id={}, mode={}", job.getId(), mode);
+        job.setStatus(JobStatus.PENDING);
+        try {
+            startDetached(job).whenComplete((result, error) -> {
+                if (error == null) {
+                    execution.complete(result);
+                } else {
+                    execution.completeExceptionally(error);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            execution.complete(shedResult(job));
+        }
+    }
+
+    /**
+     * Starts a job from a timer callback. A job that its executor would run on the calling
+     * thread is started on a virtual thread instead.
+     */
+    private CompletableFuture<JobResult> startDetached(Job job) {
+        var executor = executors.get(job.getExecutionMode());
+        if (!executor.runsOnCaller()) {
+            return executor.execute(job);
+        }
+        return CompletableFuture.supplyAsync(() -> executor.execute(job), handOffExecutor)
+                .thenCompose(Function.identity());
+    }
+
     /**
      * Submits a batch of jobs for load testing.
      *
+     * <p>Jobs are stored before this method returns; execution is handed off
+     * asynchronously in chunks.</p>
+     *
      * @param count         number of jobs to create
      * @param executionMode mode to use for all jobs
-     * @return list of created jobs
+     * @param priority      scheduling class of all jobs, or null for the mode's default
+     * @return handle of the created batch
+     * @throws JobRejectedException     if the mode has no room for the whole batch
+     * @throws IllegalArgumentException if {@code priority} has no effect in the mode
      */
-    public List<Job> submitBatch(int count, ExecutionMode executionMode) {
-        log.info("Submitting batch: count={}, mode={}", count, executionMode);
+    public Batch submitBatch(int count, ExecutionMode executionMode, JobPriority priority) {
+        var resolved = batchPriority(executionMode, priority);
+        admission.admit(executionMode, count);
+        return createBatch(count, executionMode, resolved);
+    }
+
+    private Batch createBatch(int count, ExecutionMode executionMode, JobPriority priority) {
+        var batch = new Batch(Job.formatKey(idGenerator.nextKey()), executionMode, priority, count);
+        batchStore.save(batch);
+
+        var jobs = new ArrayList<Job>(count);
+        for (int i = 0; i < count; i++) {
+            var job = idGenerator.newJob("batch-job-" + i, "payload-" + i, executionMode);
+            job.setBatchId(batch.getId());
+            job.setPriority(priority);
+            jobs.add(job);
+        }
+        jobStore.saveAll(jobs);
 
-        List<Job> jobs = IntStream.range(0, count)
-                .mapToObj(i -> submitJob("batch-job-" + i, "payload-" + i, executionMode))
-                .toList();
+        Thread.ofVirtual()
+                .name("batch-feeder-" + batch.getId())
+                .start(() -> feed(batch, jobs));
 
-        log.info("Batch submitted: {} jobs created", jobs.size());
-        return jobs;
+        log.info("Batch submitted: id={}, count={}, mode={}, priority={}",
+                batch.getId(), count, executionMode, priority);
+        return batch;
     }
 
     /**
      * Submits a batch of jobs across all execution modes.
      *
      * @param countPerMode number of jobs per mode
-     * @return map of mode to list of jobs
+     * @param priority     scheduling class of all jobs, or null for each mode's default
+     * @return map of mode to batch handle
+     * @throws JobRejectedException     if any mode has no room for its batch
+     * @throws IllegalArgumentException if {@code priority} has no effect in some mode
      */
-    public Map<ExecutionMode, List<Job>> submitBatchAllModes(int countPerMode) {
+    public Map<ExecutionMode, Batch> submitBatchAllModes(int countPerMode, JobPriority priority) {
         log.info("Submitting batch for all modes: {} jobs per mode", countPerMode);
 
-        var result = new EnumMap<ExecutionMode, List<Job>>(ExecutionMode.class);
+        var priorities = new EnumMap<ExecutionMode, JobPriority>(ExecutionMode.class);
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            priorities.put(mode, batchPriority(mode, priority));
+        }
+        admission.admitAllModes(countPerMode);
+        var result = new EnumMap<ExecutionMode, Batch>(ExecutionMode.class);
 
         for (ExecutionMode mode : ExecutionMode.values()) {
-            result.put(mode, submitBatch(countPerMode, mode));
+            result.put(mode, createBatch(countPerMode, mode, priorities.get(mode)));
         }
 
         return result;
     }
 
+    private void feed(Batch batch, List<Job> jobs) {
+        var executor = executors.get(batch.getExecutionMode());
+        var recorded = new CompletableFuture<?>[jobs.size()];
+        for (int from = 0; from < jobs.size(); from += BATCH_CHUNK_SIZE) {
+            var chunk = jobs.subList(from, Math.min(from + BATCH_CHUNK_SIZE, jobs.size()));
+            batch.recordSubmitted(chunk.size());
+            var futures = handOff(executor, chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                recorded[from + i] = futures.get(i).thenAccept(batch::recordResult);
+            }
+        }
+        log.debug("Batch handed off: id={}, count={}", batch.getId(), jobs.size());
+
+        CompletableFuture.allOf(recorded).whenComplete((ignored, error) -> {
+            batch.markCompleted();
+            log.info("Batch completed: id={}, completed={}, failed={}, expired={}",
+                    batch.getId(), batch.getCompleted(), batch.getFailed(), batch.getExpired());
+        });
+    }
+
+    private List<CompletableFuture<JobResult>> handOff(JobExecutor executor, List<Job> chunk) {
+        List<CompletableFuture<JobResult>> executions;
+        try {
+            executions = executor.executeAll(chunk);
+        } catch (RejectedExecutionException e) {
+            log.warn("Executor refused {} jobs, shedding them: mode={}", chunk.size(), executor.getMode());
+            return chunk.stream().map(this::shed).toList();
+        }
+        var stored = new ArrayList<CompletableFuture<JobResult>>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            stored.add(track(chunk.get(i), executions.get(i)));
+        }
+        return stored;
+    }
+
+    /**
+     * Fails an admitted job that its executor refused, without running it.
+     */
+    private CompletableFuture<JobResult> shed(Job job) {
+        return track(job, CompletableFuture.completedFuture(shedResult(job)));
+    }
+
+    private JobResult shedResult(Job job) {
+        admission.recordShed(job.getExecutionMode());
+        job.setStatus(JobStatus.FAILED);
+        job.setCompletedAt(Instant.now());
+        return JobResult.failure(job, "Shed: executor saturated", Duration.ZERO);
+    }
+
+    /**
+     * Stores the outcome of an execution once it completes. An execution that completes
+     * exceptionally is stored as a failure too, so the job always leaves the active tier.
+     */
+    private CompletableFuture<JobResult> track(Job job, CompletableFuture<JobResult> execution) {
+        execution.whenComplete((result, error) -> admission.release(job.getExecutionMode()));
+        var stored = execution.handle((result, error) -> {
+            var outcome = error == null ? result : failed(job, error);
+            jobStore.complete(outcome);
+            log.debug("Job result stored: id={}, success={}", job.getId(), outcome.success());
+            return outcome;
+        });
+
+        // Retained only while in flight; once stored, the result is served from the JobStore
+        inFlightResults.put(job.getKey(), stored);
+        stored.whenComplete((result, error) -> inFlightResults.remove(job.getKey()));
+        return stored;
+    }
+
+    /**
+     * Builds the failure result of an execution future that completed exceptionally.
+     */
+    private static JobResult failed(Job job, Throwable error) {
+        var cause = RetryScheduler.unwrap(error);
+        var completedAt = Instant.now();
+        if (!job.getStatus().isTerminal()) {
+            job.setStatus(JobStatus.FAILED);
+        }
+        job.setCompletedAt(completedAt);
+        var executionTime = job.getStartedAt() != null
+                ? Duration.between(job.getStartedAt(), completedAt)
+                : Duration.ZERO;
+
+        log.warn("Job execution completed exceptionally: id={}, mode={}, error={}",
+                job.getId(), job.getExecutionMode(), cause.getMessage());
+        return JobResult.failure(job, cause.getMessage(), executionTime);
+    }
+
     /**
      * Retrieves a job by its ID.
      *
@@ -125,7 +451,17 @@ public class JobService {
      * @return the job if found
      */
     public Optional<Job> getJob(String jobId) {
-        return Optional.ofNullable(jobStorage.get(jobId));
+        return jobStore.findJob(jobId);
+    }
+
+    /**
+     * Retrieves a batch by its ID.
+     *
+     * @param batchId the batch identifier
+     * @return the batch if found
+     */
+    public Optional<Batch> getBatch(String batchId) {
+        return batchStore.findBatch(batchId);
     }
 
     /**
@@ -145,7 +481,28 @@ public class JobService {
      * @return the job result if available
      */
     public Optional<JobResult> getJobResult(String jobId) {
-        return Optional.ofNullable(resultStorage.get(jobId));
+        return jobStore.findResult(jobId);
+    }
+
+    /**
+     * Returns a future that completes when the job's result has been stored.
+     *
+     * <p>Finished jobs yield an already completed future. Empty if the job is unknown
+     * or its result was evicted.</p>
+     *
+     * @param jobId the job identifier
+     * @return future of the job result
+     */
+    public Optional<CompletableFuture<JobResult>> getResultFuture(String jobId) {
+        var key = jobStore.resolveKey(jobId);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        var inFlight = inFlightResults.get(key.getAsLong());
+        if (inFlight != null) {
+            return Optional.of(inFlight);
+        }
+        return jobStore.findResult(jobId).map(CompletableFuture::completedFuture);
     }
 
     /**
@@ -154,7 +511,7 @@ public class JobService {
      * @return collection of all jobs
      */
     public Collection<Job> getAllJobs() {
-        return new ArrayList<>(jobStorage.values());
+        return jobStore.findAll();
     }
 
     /**
@@ -164,9 +521,7 @@ public class JobService {
      * @return list of matching jobs
      */
     public List<Job> getJobsByStatus(JobStatus status) {
-        return jobStorage.values().stream()
-                .filter(job -> job.getStatus() == status)
-                .toList();
+        return jobStore.findByStatus(status);
     }
 
     /**
@@ -176,9 +531,20 @@ public class JobService {
      * @return list of matching jobs
      */
     public List<Job> getJobsByMode(ExecutionMode mode) {
-        return jobStorage.values().stream()
-                .filter(job -> job.getExecutionMode() == mode)
-                .toList();
+        return jobStore.findByMode(mode);
+    }
+
+    /**
+     * Returns one page of jobs in creation order.
+     *
+     * @param status   optional status filter (null = any)
+     * @param mode     optional execution mode filter (null = any)
+     * @param afterKey key of the last job already seen (null = first page)
+     * @param limit    maximum number of jobs to return
+     * @return up to {@code limit} jobs
+     */
+    public List<Job> getJobsPage(JobStatus status, ExecutionMode mode, Long afterKey, int limit) {
+        return jobStore.findPage(status, mode, afterKey, limit);
     }
 
     /**
@@ -197,11 +563,11 @@ public class JobService {
      * Useful for testing or resetting state.
      */
     public void clearAll() {
-        int jobCount = jobStorage.size();
-        int resultCount = resultStorage.size();
-        jobStorage.clear();
-        resultStorage.clear();
-        log.info("Cleared storage: {} jobs, {} results", jobCount, resultCount);
+        int activeCount = jobStore.activeSize();
+        long terminalCount = jobStore.terminalSize();
+        jobStore.clear();
+        batchStore.clear();
+        log.info("Cleared storage: {} active jobs, {} terminal jobs", activeCount, terminalCount);
     }
 }
 
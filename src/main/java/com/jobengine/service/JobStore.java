@@ -0,0 +1,396 @@
+package com.jobengine.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobResult;
+import com.jobengine.model.JobStatus;
+import com.jobengine.model.JobStatusListener;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Bounded in-memory storage for jobs and their results.
+ *
+ * <p>Jobs live in one of two tiers:</p>
+ * <ul>
+ *   <li><b>Active:</b> SCHEDULED, PENDING and RUNNING jobs, kept in a {@link ConcurrentHashMap}.
+ *       They are never evicted - the scheduler or an executor still owns them and their result
+ *       must have somewhere to land.</li>
+ *   <li><b>Terminal:</b> COMPLETED, FAILED, EXPIRED and TIMED_OUT jobs together with their
+ *       result, kept in a Caffeine cache bounded by size (W-TinyLFU eviction) and by a TTL
+ *       counted from completion.</li>
+ * </ul>
+ *
+ * <p>A job moves to the terminal tier when its result is stored. The terminal entry is
+ * written before the active one is removed, so concurrent lookups never see a gap.</p>
+ *
+ * <h2>Secondary Indexes</h2>
+ * <p>Jobs are also indexed by status and by execution mode, so filtered queries cost
+ * O(result size) instead of a full scan. The mode index is written once on save; the
+ * status index is maintained incrementally through the job's {@link com.jobengine.model.JobStatusListener}
+ * as executors transition it. Each index is a {@link ConcurrentSkipListMap} keyed by the
+ * job's time-ordered {@link Job#getKey() key}, giving creation-ordered listings and
+ * cursor-based pagination as plain range scans, without locking.</p>
+ *
+ * <p>All maps are keyed by the 64-bit job key rather than the API id. Jobs whose id was
+ * assigned externally (UUID scheme) are additionally registered in an alias map so
+ * lookups by id still resolve in O(1).</p>
+ *
+ * <p>Transitions on the same job can race (the submitting thread and a worker), so the
+ * status index may briefly hold a job under an old status. Queries re-check the live
+ * status, which keeps results exact.</p>
+ *
+ * <p>Other components can observe every submission and transition through
+ * {@link #addStatusListener(JobStatusListener)}; they are notified after the
+ * indexes have been updated.</p>
+ *
+ * <h2>Why Bounded</h2>
+ * <p>Under continuous load (millions of jobs per day) unbounded maps grow until the heap
+ * is exhausted. With a bounded terminal tier the retained set is capped at
+ * {@code maxTerminalEntries} plus whatever is in flight, so heap usage stays flat
+ * under steady throughput.</p>
+ *
+ * @author gsk
+ */
+@Component
+public class JobStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JobStore.class);
+
+    private final Map<Long, Job> activeJobs = new ConcurrentHashMap<>();
+    private final Cache<Long, StoredJob> terminalJobs;
+    private final Map<String, Long> externalIds = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Job> creationIndex = new ConcurrentSkipListMap<>();
+    private final Map<JobStatus, NavigableMap<Long, Job>> statusIndex = new EnumMap<>(JobStatus.class);
+    private final Map<ExecutionMode, NavigableMap<Long, Job>> modeIndex = new EnumMap<>(ExecutionMode.class);
+    private final List<JobStatusListener> statusListeners = new CopyOnWriteArrayList<>();
+    private final MetricsService metricsService;
+
+    /**
+     * Constructs a JobStore with the configured bounds.
+     *
+     * @param properties     the job engine configuration properties
+     * @param metricsService service for recording eviction metrics
+     */
+    public JobStore(JobEngineProperties properties, MetricsService metricsService) {
+        var config = properties.getStorage();
+        this.metricsService = metricsService;
+
+        for (JobStatus status : JobStatus.values()) {
+            statusIndex.put(status, new ConcurrentSkipListMap<>());
+        }
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            modeIndex.put(mode, new ConcurrentSkipListMap<>());
+        }
+
+        this.terminalJobs = Caffeine.newBuilder()
+                .maximumSize(config.maxTerminalEntries())
+                .expireAfterWrite(Duration.ofSeconds(config.terminalTtlSeconds()))
+                .scheduler(Scheduler.systemScheduler())
+                .evictionListener((Long key, StoredJob stored, RemovalCause cause) -> {
+                    unindex(stored.job());
+                    metricsService.recordStoreEviction(cause);
+                })
+                .build();
+
+        log.info("JobStore initialized: maxTerminalEntries={}, terminalTtl={}s",
+                config.maxTerminalEntries(), config.terminalTtlSeconds());
+    }
+
+    /**
+     * Registers the store gauges once the store is fully constructed.
+     */
+    @PostConstruct
+    void registerGauges() {
+        metricsService.registerStoreGauges(this);
+    }
+
+    /**
+     * Stores a newly submitted job in the active tier.
+     *
+     * @param job the job to store
+     */
+    public void save(Job job) {
+        index(job, modeIndex.get(job.getExecutionMode()), statusIndex.get(job.getStatus()));
+        notifyListeners(job, null, job.getStatus());
+    }
+
+    /**
+     * Stores a group of newly submitted jobs in the active tier.
+     *
+     * <p>Equivalent to calling {@link #save(Job)} for each job, but listeners are notified
+     * only after the whole group is stored, so a bulk submission does not interleave
+     * index writes with event fan-out.</p>
+     *
+     * @param jobs the jobs to store, all PENDING
+     */
+    public void saveAll(List<Job> jobs) {
+        var pending = statusIndex.get(JobStatus.PENDING);
+        for (Job job : jobs) {
+            index(job, modeIndex.get(job.getExecutionMode()), pending);
+        }
+        for (Job job : jobs) {
+            notifyListeners(job, null, job.getStatus());
+        }
+    }
+
+    /**
+     * Registers a listener notified of every job submission and status transition.
+     *
+     * <p>Listeners run on the executor thread performing the transition and must
+     * not block.</p>
+     *
+     * @param listener the listener to add
+     */
+    public void addStatusListener(JobStatusListener listener) {
+        statusListeners.add(listener);
+    }
+
+    /**
+     * Stores the result of a finished job, moving it to the terminal tier.
+     *
+     * <p>A result whose job is no longer active (it was cleared while in flight) is dropped,
+     * so the terminal tier never holds a job the indexes do not know about. The move runs
+     * under the active entry's lock, which {@link #clear()} also takes for that entry.</p>
+     *
+     * @param result the job result
+     */
+    public void complete(JobResult result) {
+        var job = result.job();
+        activeJobs.computeIfPresent(job.getKey(), (key, active) -> {
+            terminalJobs.put(key, new StoredJob(job, result));
+            return null;
+        });
+    }
+
+    /**
+     * Removes a job that was stored but never handed to an executor, as if it had never
+     * been submitted.
+     *
+     * @param job the job to remove
+     */
+    public void remove(Job job) {
+        activeJobs.remove(job.getKey());
+        unindex(job);
+    }
+
+    /**
+     * Resolves an API job id to its internal key.
+     *
+     * @param jobId the job identifier
+     * @return the key, or empty if the id is neither a known external id nor a compact key
+     */
+    public OptionalLong resolveKey(String jobId) {
+        var key = externalIds.get(jobId);
+        return key != null ? OptionalLong.of(key) : Job.parseKey(jobId);
+    }
+
+    /**
+     * Retrieves a job from either tier.
+     *
+     * @param jobId the job identifier
+     * @return the job if present
+     */
+    public Optional<Job> findJob(String jobId) {
+        var key = resolveKey(jobId);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        var job = activeJobs.get(key.getAsLong());
+        if (job != null) {
+            return Optional.of(job);
+        }
+        return Optional.ofNullable(terminalJobs.getIfPresent(key.getAsLong())).map(StoredJob::job);
+    }
+
+    /**
+     * Retrieves the result of a finished job.
+     *
+     * @param jobId the job identifier
+     * @return the result if the job finished and has not been evicted
+     */
+    public Optional<JobResult> findResult(String jobId) {
+        var key = resolveKey(jobId);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(terminalJobs.getIfPresent(key.getAsLong())).map(StoredJob::result);
+    }
+
+    /**
+     * Returns a snapshot of all stored jobs (active and terminal).
+     *
+     * @return collection of jobs
+     */
+    public Collection<Job> findAll() {
+        var terminal = terminalJobs.asMap().values();
+        var jobs = new ArrayList<Job>(activeJobs.size() + terminal.size());
+        jobs.addAll(activeJobs.values());
+        terminal.forEach(stored -> jobs.add(stored.job()));
+        return jobs;
+    }
+
+    /**
+     * Returns stored jobs with the given status, in creation order.
+     *
+     * @param status the status to filter by
+     * @return list of matching jobs
+     */
+    public List<Job> findByStatus(JobStatus status) {
+        return statusIndex.get(status).values().stream()
+                .filter(job -> job.getStatus() == status)
+                .toList();
+    }
+
+    /**
+     * Returns stored jobs with the given execution mode, in creation order.
+     *
+     * @param mode the execution mode to filter by
+     * @return list of matching jobs
+     */
+    public List<Job> findByMode(ExecutionMode mode) {
+        return List.copyOf(modeIndex.get(mode).values());
+    }
+
+    /**
+     * Returns one page of stored jobs in creation order.
+     *
+     * <p>The most selective index is walked starting right after {@code after}, so the
+     * cost is proportional to the page size rather than the number of stored jobs.</p>
+     *
+     * @param status   optional status filter (null = any)
+     * @param mode     optional execution mode filter (null = any)
+     * @param afterKey key of the last job of the previous page (null = first page)
+     * @param limit    maximum number of jobs to return
+     * @return up to {@code limit} jobs created after the cursor
+     */
+    public List<Job> findPage(JobStatus status, ExecutionMode mode, Long afterKey, int limit) {
+        NavigableMap<Long, Job> index;
+        if (status != null) {
+            index = statusIndex.get(status);
+        } else if (mode != null) {
+            index = modeIndex.get(mode);
+        } else {
+            index = creationIndex;
+        }
+
+        var view = afterKey != null ? index.tailMap(afterKey, false) : index;
+        return view.values().stream()
+                .filter(job -> status == null || job.getStatus() == status)
+                .filter(job -> mode == null || job.getExecutionMode() == mode)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Returns the number of jobs in the active tier.
+     *
+     * @return active job count
+     */
+    public int activeSize() {
+        return activeJobs.size();
+    }
+
+    /**
+     * Returns the approximate number of jobs in the terminal tier.
+     *
+     * @return terminal job count
+     */
+    public long terminalSize() {
+        return terminalJobs.estimatedSize();
+    }
+
+    /**
+     * Removes all jobs from both tiers.
+     *
+     * <p>Explicit removal is not counted as eviction. Jobs still in flight are detached from
+     * the indexes, so their later transitions no longer reach the store.</p>
+     */
+    public void clear() {
+        creationIndex.values().forEach(job -> job.setStatusListener(null));
+        activeJobs.clear();
+        terminalJobs.invalidateAll();
+        externalIds.clear();
+        creationIndex.clear();
+        statusIndex.values().forEach(Map::clear);
+        modeIndex.values().forEach(Map::clear);
+    }
+
+    /**
+     * Moves a job between status index entries after a transition.
+     *
+     * <p>The final re-check handles a concurrent transition that completed between
+     * our add and remove, so a late update cannot leave the job indexed under a
+     * status it no longer has.</p>
+     */
+    private void reindex(Job job, JobStatus previous, JobStatus current) {
+        var key = job.getKey();
+        statusIndex.get(current).put(key, job);
+        statusIndex.get(previous).remove(key);
+
+        var latest = job.getStatus();
+        if (latest != current) {
+            statusIndex.get(current).remove(key);
+            statusIndex.get(latest).put(key, job);
+        }
+
+        notifyListeners(job, previous, current);
+    }
+
+    private void index(Job job, NavigableMap<Long, Job> modeEntries, NavigableMap<Long, Job> statusEntries) {
+        var key = job.getKey();
+        job.setStatusListener(this::reindex);
+        activeJobs.put(key, job);
+        if (job.hasExternalId()) {
+            externalIds.put(job.getId(), key);
+        }
+        creationIndex.put(key, job);
+        modeEntries.put(key, job);
+        statusEntries.put(key, job);
+    }
+
+    private void notifyListeners(Job job, JobStatus previous, JobStatus current) {
+        for (JobStatusListener listener : statusListeners) {
+            listener.onStatusChange(job, previous, current);
+        }
+    }
+
+    private void unindex(Job job) {
+        var key = job.getKey();
+        job.setStatusListener(null);
+        if (job.hasExternalId()) {
+            externalIds.remove(job.getId());
+        }
+        creationIndex.remove(key);
+        modeIndex.get(job.getExecutionMode()).remove(key);
+        statusIndex.values().forEach(index -> index.remove(key));
+    }
+
+    /**
+     * Terminal tier entry: a finished job and its result, evicted together.
+     *
+     * @param job    the finished job
+     * @param result the job result
+     */
+    private record StoredJob(Job job, JobResult result) {}
+}
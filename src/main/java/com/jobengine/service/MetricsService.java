@@ -1,20 +1,29 @@
 package com.jobengine.service;
 
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.jobengine.controller.dto.SystemMetrics;
 import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.JobPhase;
+import com.jobengine.model.JobPriority;
+import com.jobengine.model.RecurringJob.FireOutcome;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Collects and exposes metrics for job execution.
@@ -27,9 +36,29 @@ import java.util.concurrent.atomic.AtomicInteger;
  *   <li><b>job.execution.time:</b> Histogram of execution times by mode</li>
  *   <li><b>job.completed.total:</b> Counter of completed jobs by mode</li>
  *   <li><b>job.failed.total:</b> Counter of failed jobs by mode</li>
+ *   <li><b>job.expired.total:</b> Counter of jobs dropped before starting because their deadline was unreachable, by mode</li>
+ *   <li><b>job.timed_out.total:</b> Counter of started jobs cut off by an I/O timeout or their deadline, by mode</li>
  *   <li><b>job.active:</b> Gauge of currently active jobs by mode</li>
  *   <li><b>job.thread_pool.active:</b> Gauge of active threads in pool</li>
  *   <li><b>job.thread_pool.queue_size:</b> Gauge of queued tasks</li>
+ *   <li><b>job.fork_join.*:</b> FORK_JOIN pool active workers, queued subtasks and steal count</li>
+ *   <li><b>job.stage.wait / job.stage.time:</b> HYBRID queue wait and service time per stage (cpu/io)</li>
+ *   <li><b>job.stage.queue_size / job.stage.active:</b> HYBRID backlog and occupancy per stage</li>
+ *   <li><b>job.limiter.limit / in_flight / queue_size:</b> Concurrency limit, admitted and waiting jobs by mode</li>
+ *   <li><b>job.queue.wait:</b> Limiter queue wait by mode and priority class</li>
+ *   <li><b>job.admission.pending / rejected / shed:</b> Admitted unfinished jobs, jobs refused with 429 and jobs shed by a full executor, by mode</li>
+ *   <li><b>job.scheduler.pending / buckets / levels:</b> Timing wheel occupancy: pending timers, occupied buckets and wheel levels</li>
+ *   <li><b>job.scheduler.lag / deferred:</b> Delay between due time and firing, and scheduled jobs re-armed because admission refused them when due</li>
+ *   <li><b>job.retry.wait / backoff:</b> Time from a failed I/O attempt to the start of its retry by mode, and jobs currently waiting out a backoff</li>
+ *   <li><b>job.retry.budget.tokens / capacity / denied:</b> Retry budget balance and size, and retries refused because it was empty, by mode</li>
+ *   <li><b>job.hedge.launched / wins / denied:</b> Hedged I/O attempts launched, hedges that finished first, and hedges refused by the hedge budget, by mode</li>
+ *   <li><b>job.hedge.delay / budget.tokens:</b> Current hedge delay (running I/O latency percentile) and hedge budget balance</li>
+ *   <li><b>job.circuit.rejected:</b> Jobs failed without an I/O attempt because the circuit breaker was open, by mode</li>
+ *   <li><b>job.recurring.definitions / fires:</b> Active recurring definitions, and their fire times by outcome (submitted/skipped/coalesced/rejected)</li>
+ *   <li><b>job.store.size:</b> Gauge of stored jobs by tier (active/terminal)</li>
+ *   <li><b>job.store.evictions:</b> Counter of terminal jobs evicted by cause (size/expired)</li>
+ *   <li><b>job.events.subscribers:</b> Gauge of open job event streams</li>
+ *   <li><b>job.events.dropped:</b> Counter of events dropped for slow subscribers</li>
  * </ul>
  *
  * <h2>Accessing Metrics</h2>
@@ -49,7 +78,25 @@ public class MetricsService {
     private final Map<ExecutionMode, Timer> executionTimers;
     private final Map<ExecutionMode, Counter> completedCounters;
     private final Map<ExecutionMode, Counter> failedCounters;
+    private final Map<ExecutionMode, Counter> expiredCounters;
+    private final Map<ExecutionMode, Counter> timedOutCounters;
     private final Map<ExecutionMode, AtomicInteger> activeGauges;
+    private final Map<RemovalCause, Counter> evictionCounters;
+    private final Map<JobPhase, Timer> stageWaitTimers;
+    private final Map<JobPhase, Timer> stageServiceTimers;
+    private final Map<ExecutionMode, Counter> admissionRejectedCounters;
+    private final Map<ExecutionMode, Counter> admissionShedCounters;
+    private final Map<ExecutionMode, Map<JobPriority, Timer>> queueWaitTimers;
+    private final Map<FireOutcome, Counter> recurringFireCounters;
+    private final Map<ExecutionMode, Timer> retryWaitTimers;
+    private final Map<ExecutionMode, Counter> retryBudgetDeniedCounters;
+    private final Map<ExecutionMode, Counter> hedgeLaunchedCounters;
+    private final Map<ExecutionMode, Counter> hedgeWinCounters;
+    private final Map<ExecutionMode, Counter> hedgeDeniedCounters;
+    private final Map<ExecutionMode, Counter> circuitRejectedCounters;
+    private volatile Timer schedulerLagTimer;
+    private volatile Counter schedulerDeferredCounter;
+    private final Counter droppedEventsCounter;
 
     /**
      * Constructs a MetricsService with the required dependencies.
@@ -57,12 +104,31 @@ public class MetricsService {
      * @param meterRegistry        the Micrometer registry for metrics
      * @param threadPoolExecutor   the thread pool to monitor
      */
-    public MetricsService(MeterRegistry meterRegistry, ThreadPoolExecutor threadPoolExecutor) {
+    public MetricsService(MeterRegistry meterRegistry,
+                          @Qualifier("threadPoolExecutor") ThreadPoolExecutor threadPoolExecutor) {
         this.meterRegistry = meterRegistry;
         this.executionTimers = new EnumMap<>(ExecutionMode.class);
         this.completedCounters = new EnumMap<>(ExecutionMode.class);
         this.failedCounters = new EnumMap<>(ExecutionMode.class);
+        this.expiredCounters = new EnumMap<>(ExecutionMode.class);
+        this.timedOutCounters = new EnumMap<>(ExecutionMode.class);
         this.activeGauges = new EnumMap<>(ExecutionMode.class);
+        this.evictionCounters = new EnumMap<>(RemovalCause.class);
+        this.stageWaitTimers = new EnumMap<>(JobPhase.class);
+        this.stageServiceTimers = new EnumMap<>(JobPhase.class);
+        this.admissionRejectedCounters = new EnumMap<>(ExecutionMode.class);
+        this.admissionShedCounters = new EnumMap<>(ExecutionMode.class);
+        this.queueWaitTimers = new EnumMap<>(ExecutionMode.class);
+        this.recurringFireCounters = new EnumMap<>(FireOutcome.class);
+        this.retryWaitTimers = new EnumMap<>(ExecutionMode.class);
+        this.retryBudgetDeniedCounters = new EnumMap<>(ExecutionMode.class);
+        this.hedgeLaunchedCounters = new EnumMap<>(ExecutionMode.class);
+        this.hedgeWinCounters = new EnumMap<>(ExecutionMode.class);
+        this.hedgeDeniedCounters = new EnumMap<>(ExecutionMode.class);
+        this.circuitRejectedCounters = new EnumMap<>(ExecutionMode.class);
+        this.droppedEventsCounter = Counter.builder("job.events.dropped")
+                .description("Job events dropped because a subscriber's buffer was full")
+                .register(meterRegistry);
 
         initializeMetrics(threadPoolExecutor);
         log.info("MetricsService initialized with Micrometer registry");
@@ -91,7 +157,7 @@ public class MetricsService {
             AtomicInteger activeGauge = new AtomicInteger(0);
             activeGauges.put(mode, activeGauge);
             meterRegistry.gauge("job.active", 
-                    io.micrometer.core.instrument.Tags.of("mode", modeTag), 
+                    Tags.of("mode", modeTag), 
                     activeGauge);
         }
 
@@ -100,6 +166,465 @@ public class MetricsService {
         meterRegistry.gauge("job.thread_pool.pool_size", threadPoolExecutor, ThreadPoolExecutor::getPoolSize);
         meterRegistry.gauge("job.thread_pool.queue_size", threadPoolExecutor, e -> e.getQueue().size());
         meterRegistry.gauge("job.thread_pool.completed", threadPoolExecutor, ThreadPoolExecutor::getCompletedTaskCount);
+
+        registerEvictionCounters();
+        registerExpiredCounters();
+        registerTimedOutCounters();
+        registerStageTimers();
+        registerAdmissionCounters();
+        registerQueueWaitTimers();
+        registerSchedulerMeters();
+        registerRecurringFireCounters();
+        registerRetryWaitTimers();
+        registerRetryBudgetCounters();
+        registerHedgeCounters();
+        registerCircuitCounters();
+    }
+
+    private void registerRetryWaitTimers() {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            retryWaitTimers.put(mode, Timer.builder("job.retry.wait")
+                    .tag("mode", mode.name().toLowerCase())
+                    .description("Time from a failed I/O attempt to the start of its retry (backoff + re-enqueue)")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void registerRetryBudgetCounters() {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            retryBudgetDeniedCounters.put(mode, Counter.builder("job.retry.budget.denied")
+                    .tag("mode", mode.name().toLowerCase())
+                    .description("Retries refused because the retry budget was empty")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void registerHedgeCounters() {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            var modeTag = mode.name().toLowerCase();
+            hedgeLaunchedCounters.put(mode, Counter.builder("job.hedge.launched")
+                    .tag("mode", modeTag)
+                    .description("Second I/O attempts launched because the first outlived the hedge delay")
+                    .register(meterRegistry));
+            hedgeWinCounters.put(mode, Counter.builder("job.hedge.wins")
+                    .tag("mode", modeTag)
+                    .description("Hedged I/O attempts that finished before the original")
+                    .register(meterRegistry));
+            hedgeDeniedCounters.put(mode, Counter.builder("job.hedge.denied")
+                    .tag("mode", modeTag)
+                    .description("Hedges not launched because the hedge budget was empty")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void registerCircuitCounters() {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            circuitRejectedCounters.put(mode, Counter.builder("job.circuit.rejected")
+                    .tag("mode", mode.name().toLowerCase())
+                    .description("I/O calls refused because the circuit breaker was open or its half-open probes were taken")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void registerRecurringFireCounters() {
+        for (FireOutcome outcome : FireOutcome.values()) {
+            recurringFireCounters.put(outcome, Counter.builder("job.recurring.fires")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .description("Fire times of recurring job definitions by outcome")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void registerSchedulerMeters() {
+        schedulerLagTimer = Timer.builder("job.scheduler.lag")
+                .description("Delay between the due instant of a timer and its firing")
+                .register(meterRegistry);
+        schedulerDeferredCounter = Counter.builder("job.scheduler.deferred")
+                .description("Scheduled jobs re-armed because admission refused them when due")
+                .register(meterRegistry);
+    }
+
+    private void registerQueueWaitTimers() {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            var timers = new EnumMap<JobPriority, Timer>(JobPriority.class);
+            for (JobPriority priority : JobPriority.values()) {
+                timers.put(priority, Timer.builder("job.queue.wait")
+                        .tag("mode", mode.name().toLowerCase())
+                        .tag("priority", priority.name().toLowerCase())
+                        .description("Time jobs wait in the limiter queue before starting")
+                        .register(meterRegistry));
+            }
+            queueWaitTimers.put(mode, timers);
+        }
+    }
+
+    private void registerExpiredCounters() {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            expiredCounters.put(mode, Counter.builder("job.expired.total")
+                    .tag("mode", mode.name().toLowerCase())
+                    .description("Jobs dropped before starting because their deadline was unreachable")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void registerTimedOutCounters() {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            timedOutCounters.put(mode, Counter.builder("job.timed_out.total")
+                    .tag("mode", mode.name().toLowerCase())
+                    .description("Started jobs cut off by an I/O timeout or their deadline")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void registerAdmissionCounters() {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            String modeTag = mode.name().toLowerCase();
+
+            admissionRejectedCounters.put(mode, Counter.builder("job.admission.rejected")
+                    .tag("mode", modeTag)
+                    .description("Jobs refused at admission because the mode was full")
+                    .register(meterRegistry));
+
+            admissionShedCounters.put(mode, Counter.builder("job.admission.shed")
+                    .tag("mode", modeTag)
+                    .description("Admitted jobs failed without running because the executor refused them")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void registerStageTimers() {
+        for (JobPhase phase : JobPhase.values()) {
+            String stageTag = phase.name().toLowerCase();
+
+            stageWaitTimers.put(phase, Timer.builder("job.stage.wait")
+                    .tag("stage", stageTag)
+                    .description("Time HYBRID jobs wait in front of a pipeline stage")
+                    .register(meterRegistry));
+
+            stageServiceTimers.put(phase, Timer.builder("job.stage.time")
+                    .tag("stage", stageTag)
+                    .description("Time HYBRID jobs spend being processed in a pipeline stage")
+                    .register(meterRegistry));
+        }
+    }
+
+    private void registerEvictionCounters() {
+        for (RemovalCause cause : RemovalCause.values()) {
+            if (cause.wasEvicted()) {
+                evictionCounters.put(cause, Counter.builder("job.store.evictions")
+                        .tag("cause", cause.name().toLowerCase())
+                        .description("Total number of terminal jobs evicted from storage")
+                        .register(meterRegistry));
+            }
+        }
+    }
+
+    /**
+     * Registers gauges for the job store tier sizes.
+     *
+     * @param jobStore the job store to monitor
+     */
+    public void registerStoreGauges(JobStore jobStore) {
+        meterRegistry.gauge("job.store.size", Tags.of("tier", "active"), jobStore, JobStore::activeSize);
+        meterRegistry.gauge("job.store.size", Tags.of("tier", "terminal"), jobStore, JobStore::terminalSize);
+    }
+
+    /**
+     * Registers gauges for the FORK_JOIN pool.
+     *
+     * @param forkJoinPool the pool to monitor
+     */
+    public void registerForkJoinGauges(ForkJoinPool forkJoinPool) {
+        meterRegistry.gauge("job.fork_join.active", forkJoinPool, ForkJoinPool::getActiveThreadCount);
+        meterRegistry.gauge("job.fork_join.queued_tasks", forkJoinPool, ForkJoinPool::getQueuedTaskCount);
+        FunctionCounter.builder("job.fork_join.steals", forkJoinPool, ForkJoinPool::getStealCount)
+                .description("Subtasks stolen between FORK_JOIN pool workers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers backlog and occupancy gauges for one HYBRID pipeline stage.
+     *
+     * @param phase     the stage
+     * @param source    object the gauges read from
+     * @param queueSize function returning the jobs waiting in front of the stage
+     * @param active    function returning the jobs being processed by the stage
+     * @param <T>       type of the gauge source
+     */
+    public <T> void registerStageGauges(JobPhase phase, T source,
+                                        ToDoubleFunction<T> queueSize, ToDoubleFunction<T> active) {
+        var tags = Tags.of("stage", phase.name().toLowerCase());
+        meterRegistry.gauge("job.stage.queue_size", tags, source, queueSize);
+        meterRegistry.gauge("job.stage.active", tags, source, active);
+    }
+
+    /**
+     * Registers the gauge of admitted, unfinished jobs for a mode.
+     *
+     * @param mode    the execution mode
+     * @param source  object the gauge reads from
+     * @param pending function returning the pending job count
+     * @param <T>     type of the gauge source
+     */
+    public <T> void registerAdmissionGauge(ExecutionMode mode, T source, ToDoubleFunction<T> pending) {
+        meterRegistry.gauge("job.admission.pending", Tags.of("mode", mode.name().toLowerCase()), source, pending);
+    }
+
+    /**
+     * Records jobs refused at admission.
+     *
+     * @param mode  the execution mode
+     * @param count number of jobs refused
+     */
+    public void recordAdmissionRejected(ExecutionMode mode, int count) {
+        admissionRejectedCounters.get(mode).increment(count);
+    }
+
+    /**
+     * Records an admitted job that was failed without running because its executor
+     * refused it.
+     *
+     * @param mode the execution mode
+     */
+    public void recordAdmissionShed(ExecutionMode mode) {
+        admissionShedCounters.get(mode).increment();
+    }
+
+    /**
+     * Records a job dropped before starting because its deadline could not be met.
+     *
+     * @param mode the execution mode
+     */
+    public void recordJobExpired(ExecutionMode mode) {
+        expiredCounters.get(mode).increment();
+    }
+
+    /**
+     * Records a job that ran but was cut off by a timeout.
+     *
+     * <p>Counted apart from {@code job.failed.total}; its execution time is recorded like
+     * that of any other finished job.</p>
+     *
+     * @param mode          the execution mode
+     * @param executionTime time from start until the timeout
+     */
+    public void recordJobTimedOut(ExecutionMode mode, Duration executionTime) {
+        executionTimers.get(mode).record(executionTime);
+        timedOutCounters.get(mode).increment();
+    }
+
+    /**
+     * Records the time a job waited in a limiter queue before starting.
+     *
+     * @param mode     the execution mode
+     * @param priority the job's priority class
+     * @param waitTime time spent queued
+     */
+    public void recordQueueWait(ExecutionMode mode, JobPriority priority, Duration waitTime) {
+        queueWaitTimers.get(mode).get(priority).record(waitTime);
+    }
+
+    /**
+     * Registers gauges for the concurrency limiter in front of an executor.
+     *
+     * @param mode      the execution mode the limiter guards
+     * @param source    object the gauges read from
+     * @param limit     function returning the current concurrency limit
+     * @param inFlight  function returning the jobs currently admitted
+     * @param queueSize function returning the jobs waiting for a slot
+     * @param <T>       type of the gauge source
+     */
+    public <T> void registerLimiterGauges(ExecutionMode mode, T source, ToDoubleFunction<T> limit,
+                                          ToDoubleFunction<T> inFlight, ToDoubleFunction<T> queueSize) {
+        var tags = Tags.of("mode", mode.name().toLowerCase());
+        meterRegistry.gauge("job.limiter.limit", tags, source, limit);
+        meterRegistry.gauge("job.limiter.in_flight", tags, source, inFlight);
+        meterRegistry.gauge("job.limiter.queue_size", tags, source, queueSize);
+    }
+
+    /**
+     * Registers occupancy gauges for the timing wheel of the job scheduler.
+     *
+     * @param source  object the gauges read from
+     * @param pending function returning the timers waiting to fire
+     * @param buckets function returning the occupied wheel buckets
+     * @param levels  function returning the number of wheel levels
+     * @param <T>     type of the gauge source
+     */
+    public <T> void registerSchedulerGauges(T source, ToDoubleFunction<T> pending,
+                                            ToDoubleFunction<T> buckets, ToDoubleFunction<T> levels) {
+        meterRegistry.gauge("job.scheduler.pending", Tags.empty(), source, pending);
+        meterRegistry.gauge("job.scheduler.buckets", Tags.empty(), source, buckets);
+        meterRegistry.gauge("job.scheduler.levels", Tags.empty(), source, levels);
+    }
+
+    /**
+     * Records how late a timer fired.
+     *
+     * @param lag time between the due instant and the firing
+     */
+    public void recordSchedulerLag(Duration lag) {
+        schedulerLagTimer.record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    /**
+     * Records a scheduled job re-armed because admission refused it when due.
+     */
+    public void recordSchedulerDeferred() {
+        schedulerDeferredCounter.increment();
+    }
+
+    /**
+     * Registers the gauge of active recurring job definitions.
+     *
+     * @param source      object the gauge reads from
+     * @param definitions function returning the number of definitions
+     * @param <T>         type of the gauge source
+     */
+    public <T> void registerRecurringGauge(T source, ToDoubleFunction<T> definitions) {
+        meterRegistry.gauge("job.recurring.definitions", Tags.empty(), source, definitions);
+    }
+
+    /**
+     * Records fire times of recurring job definitions.
+     *
+     * @param outcome what happened to them
+     * @param count   number of fire times
+     */
+    public void recordRecurringFires(FireOutcome outcome, long count) {
+        recurringFireCounters.get(outcome).increment(count);
+    }
+
+    /**
+     * Registers the gauge of jobs waiting out a retry backoff.
+     *
+     * @param source     object the gauge reads from
+     * @param backingOff function returning the number of jobs in backoff
+     * @param <T>        type of the gauge source
+     */
+    public <T> void registerRetryGauge(T source, ToDoubleFunction<T> backingOff) {
+        meterRegistry.gauge("job.retry.backoff", Tags.empty(), source, backingOff);
+    }
+
+    /**
+     * Records the wait between a failed I/O attempt and the start of its retry.
+     *
+     * @param mode     the execution mode
+     * @param waitTime backoff plus the time the retry waited for a worker
+     */
+    public void recordRetryWait(ExecutionMode mode, Duration waitTime) {
+        retryWaitTimers.get(mode).record(waitTime);
+    }
+
+    /**
+     * Registers the gauges of the retry budget.
+     *
+     * @param source   object the gauges read from
+     * @param tokens   function returning the retries currently affordable
+     * @param capacity function returning the size of the budget
+     * @param <T>      type of the gauge source
+     */
+    public <T> void registerRetryBudgetGauges(T source, ToDoubleFunction<T> tokens, ToDoubleFunction<T> capacity) {
+        meterRegistry.gauge("job.retry.budget.tokens", Tags.empty(), source, tokens);
+        meterRegistry.gauge("job.retry.budget.capacity", Tags.empty(), source, capacity);
+    }
+
+    /**
+     * Records a retry refused by the retry budget.
+     *
+     * @param mode the execution mode of the job
+     */
+    public void recordRetryBudgetDenied(ExecutionMode mode) {
+        retryBudgetDeniedCounters.get(mode).increment();
+    }
+
+    /**
+     * Registers the gauges of I/O hedging.
+     *
+     * @param source  object the gauges read from
+     * @param delayMs function returning the current hedge delay in milliseconds
+     * @param tokens  function returning the hedges the budget can currently pay for
+     * @param <T>     type of the gauge source
+     */
+    public <T> void registerHedgeGauges(T source, ToDoubleFunction<T> delayMs, ToDoubleFunction<T> tokens) {
+        meterRegistry.gauge("job.hedge.delay", Tags.empty(), source, delayMs);
+        meterRegistry.gauge("job.hedge.budget.tokens", Tags.empty(), source, tokens);
+    }
+
+    /**
+     * Records a hedged I/O attempt being launched.
+     *
+     * @param mode the execution mode of the job
+     */
+    public void recordHedgeLaunched(ExecutionMode mode) {
+        hedgeLaunchedCounters.get(mode).increment();
+    }
+
+    /**
+     * Records a hedged I/O attempt finishing before the original.
+     *
+     * @param mode the execution mode of the job
+     */
+    public void recordHedgeWon(ExecutionMode mode) {
+        hedgeWinCounters.get(mode).increment();
+    }
+
+    /**
+     * Records a hedge refused by the hedge budget.
+     *
+     * @param mode the execution mode of the job
+     */
+    public void recordHedgeDenied(ExecutionMode mode) {
+        hedgeDeniedCounters.get(mode).increment();
+    }
+
+    /**
+     * Records an I/O call refused by the circuit breaker.
+     *
+     * @param mode the execution mode of the job
+     */
+    public void recordCircuitRejected(ExecutionMode mode) {
+        circuitRejectedCounters.get(mode).increment();
+    }
+
+    /**
+     * Records a job passing through a HYBRID pipeline stage.
+     *
+     * @param phase       the stage
+     * @param waitTime    time spent queued in front of the stage
+     * @param serviceTime time spent being processed by the stage
+     */
+    public void recordStage(JobPhase phase, Duration waitTime, Duration serviceTime) {
+        stageWaitTimers.get(phase).record(waitTime);
+        stageServiceTimers.get(phase).record(serviceTime);
+    }
+
+    /**
+     * Registers the gauge for open job event subscriptions.
+     *
+     * @param broadcaster the event broadcaster to monitor
+     */
+    public void registerEventGauges(JobEventBroadcaster broadcaster) {
+        meterRegistry.gauge("job.events.subscribers", broadcaster, JobEventBroadcaster::subscriberCount);
+    }
+
+    /**
+     * Records an event dropped because a slow subscriber's buffer was full.
+     */
+    public void recordEventDropped() {
+        droppedEventsCounter.increment();
+    }
+
+    /**
+     * Records the eviction of a terminal job from storage.
+     *
+     * @param cause why the entry was evicted (size or expiration)
+     */
+    public void recordStoreEviction(RemovalCause cause) {
+        var counter = evictionCounters.get(cause);
+        if (counter != null) {
+            counter.increment();
+        }
     }
 
     /**
@@ -176,6 +701,48 @@ public class MetricsService {
             activeGauges.get(mode).set(0);
         }
 
+        evictionCounters.values().forEach(meterRegistry::remove);
+        evictionCounters.clear();
+        registerEvictionCounters();
+
+        stageWaitTimers.values().forEach(meterRegistry::remove);
+        stageServiceTimers.values().forEach(meterRegistry::remove);
+        registerStageTimers();
+
+        expiredCounters.values().forEach(meterRegistry::remove);
+        registerExpiredCounters();
+
+        timedOutCounters.values().forEach(meterRegistry::remove);
+        registerTimedOutCounters();
+
+        admissionRejectedCounters.values().forEach(meterRegistry::remove);
+        admissionShedCounters.values().forEach(meterRegistry::remove);
+        registerAdmissionCounters();
+
+        queueWaitTimers.values().forEach(timers -> timers.values().forEach(meterRegistry::remove));
+        registerQueueWaitTimers();
+
+        meterRegistry.remove(schedulerLagTimer);
+        meterRegistry.remove(schedulerDeferredCounter);
+        registerSchedulerMeters();
+
+        recurringFireCounters.values().forEach(meterRegistry::remove);
+        registerRecurringFireCounters();
+
+        retryWaitTimers.values().forEach(meterRegistry::remove);
+        registerRetryWaitTimers();
+
+        retryBudgetDeniedCounters.values().forEach(meterRegistry::remove);
+        registerRetryBudgetCounters();
+
+        hedgeLaunchedCounters.values().forEach(meterRegistry::remove);
+        hedgeWinCounters.values().forEach(meterRegistry::remove);
+        hedgeDeniedCounters.values().forEach(meterRegistry::remove);
+        registerHedgeCounters();
+
+        circuitRejectedCounters.values().forEach(meterRegistry::remove);
+        registerCircuitCounters();
+
         log.info("All metrics reset");
     }
 
@@ -301,7 +868,34 @@ public class MetricsService {
             "Blocking: When blocked on I/O, virtual thread unmounts, freeing carrier. " +
             "Continuation: Stack saved as heap object, resumed on any carrier. " +
             "Parallelism: Massive - thousands/millions concurrent with minimal overhead. " +
-            "Best for: I/O-bound tasks, high-concurrency, microservices."
+            "Best for: I/O-bound tasks, high-concurrency, microservices.",
+
+            ExecutionMode.FORK_JOIN,
+            "Splits each job's CPU phase into range tasks on a dedicated ForkJoinPool. " +
+            "Stack: Pool workers are platform threads (~1MB each, one per core). " +
+            "Heap: Small RecursiveTask objects per split, short-lived in Young Gen. " +
+            "Work Stealing: Idle workers steal queued subtasks from busy ones' deques. " +
+            "I/O: Runs on a virtual thread, so pool workers never block on I/O. " +
+            "Parallelism: Intra-job - a single job uses all cores during its CPU phase. " +
+            "Best for: Latency of individual CPU-heavy jobs.",
+
+            ExecutionMode.HYBRID,
+            "Pipelines each job across two stages: CPU on a core-sized platform pool, I/O on virtual threads. " +
+            "Stack: CPU stage ~1MB per platform thread (= cores); I/O stage stacks on heap (~few KB). " +
+            "Heap: Bounded hand-off queue between stages holds jobs whose CPU work is done. " +
+            "Blocking: Platform threads never sleep in I/O; virtual threads never run CPU work. " +
+            "Backpressure: A full hand-off queue pauses the CPU stage until the I/O stage catches up. " +
+            "Parallelism: Cores busy with CPU while thousands of jobs wait on I/O at the same time. " +
+            "Best for: Mixed CPU + I/O workloads under sustained load.",
+
+            ExecutionMode.REACTIVE,
+            "Composes the CPU phase and a non-blocking I/O call with CompletableFuture. " +
+            "Stack: CPU pool ~1MB per platform thread (= cores); no stack at all while waiting on I/O. " +
+            "Heap: An in-flight job is a timing wheel node plus two futures (~hundreds of bytes). " +
+            "Blocking: None - the I/O future is completed by a shared timer, not by a sleeping thread. " +
+            "Continuations: Run on the timer's task executor when the I/O completes. " +
+            "Parallelism: In-flight jobs bounded by heap and admission control, not by threads. " +
+            "Best for: Very high I/O concurrency (event-driven model, millions of in-flight jobs)."
     );
 }
 
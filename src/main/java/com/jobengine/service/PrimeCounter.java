@@ -0,0 +1,37 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties.PrimeAlgorithm;
+
+/**
+ * Strategy for counting primes, the unit of CPU-bound work in {@link CPUSimulator}.
+ *
+ * <p>Implementations count over an arbitrary closed range, so a large count can be split
+ * into independent sub-ranges and the partial counts summed. Implementations are
+ * stateless and safe to share between threads.</p>
+ *
+ * @author gsk
+ */
+public interface PrimeCounter {
+
+    /**
+     * Counts the primes {@code p} with {@code from <= p <= to}.
+     *
+     * @param from lower bound, inclusive
+     * @param to   upper bound, inclusive
+     * @return number of primes in the range (0 if the range is empty)
+     */
+    long countPrimes(int from, int to);
+
+    /**
+     * Returns the counter implementing the given algorithm.
+     *
+     * @param algorithm the configured algorithm
+     * @return the matching prime counter
+     */
+    static PrimeCounter of(PrimeAlgorithm algorithm) {
+        return switch (algorithm) {
+            case TRIAL_DIVISION -> new TrialDivisionPrimeCounter();
+            case SIEVE -> new SegmentedSievePrimeCounter();
+        };
+    }
+}
@@ -0,0 +1,222 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.exception.JobRejectedException;
+import com.jobengine.executor.timer.Timeout;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobPriority;
+import com.jobengine.model.OverlapPolicy;
+import com.jobengine.model.RecurringJob;
+import com.jobengine.model.RecurringJob.FireOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manages recurring job definitions and materializes their jobs on schedule.
+ *
+ * <h2>How It Works</h2>
+ * <p>Every definition has exactly one armed timeout on the {@link JobScheduler}'s timing
+ * wheel, for its next fire time. When it fires, the next fire is armed first and a job is
+ * then submitted through {@link JobService#submitJobDetached}, which returns without
+ * waiting for the job even in SEQUENTIAL mode. Nothing ever iterates over the
+ * definitions: the single timer thread only touches those that are due, so tens of
+ * thousands of definitions cost one wheel node each.</p>
+ *
+ * <h2>Missed Fires</h2>
+ * <p>If a fire runs late (a stalled JVM, a saturated timer executor), every fire time that
+ * passed in the meantime is coalesced into the current fire and counted, and the next
+ * fire is the first one after now. A backlog never turns into a burst of jobs.</p>
+ *
+ * <h2>Overlap</h2>
+ * <p>With {@link OverlapPolicy#SKIP} a fire that finds the previous instance still
+ * scheduled, pending or running is skipped. With {@link OverlapPolicy#ALLOW} instances may
+ * pile up, bounded only by admission control.</p>
+ *
+ * @author gsk
+ */
+@Service
+public class RecurringJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringJobService.class);
+
+    private static final int MAX_COALESCE_STEPS = 10_000;
+
+    private final JobService jobService;
+    private final JobScheduler scheduler;
+    private final JobIdGenerator idGenerator;
+    private final MetricsService metricsService;
+    private final int maxDefinitions;
+    private final Duration minFixedRate;
+    private final Map<String, RecurringJob> definitions = new ConcurrentHashMap<>();
+    private final Map<String, Timeout> armed = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a RecurringJobService.
+     *
+     * @param jobService     service the materialized jobs are submitted to
+     * @param scheduler      scheduler the fire times are armed on
+     * @param idGenerator    generator of definition ids
+     * @param metricsService service for recording metrics
+     * @param properties     the job engine configuration properties
+     */
+    public RecurringJobService(JobService jobService, JobScheduler scheduler, JobIdGenerator idGenerator,
+                               MetricsService metricsService, JobEngineProperties properties) {
+        this.jobService = jobService;
+        this.scheduler = scheduler;
+        this.idGenerator = idGenerator;
+        this.metricsService = metricsService;
+        this.maxDefinitions = properties.getRecurring().maxDefinitions();
+        this.minFixedRate = Duration.ofMillis(properties.getRecurring().minFixedRateMs());
+
+        metricsService.registerRecurringGauge(definitions, Map::size);
+    }
+
+    /**
+     * Creates a recurring job definition and arms its first fire.
+     *
+     * @param name          base name of the materialized jobs
+     * @param payload       payload of the materialized jobs
+     * @param executionMode execution mode of the materialized jobs
+     * @param priority      priority of the materialized jobs
+     * @param cron          cron expression, or null for a fixed rate
+     * @param fixedRate     interval between fires, or null for a cron expression
+     * @param overlapPolicy behaviour when a fire finds the previous instance in flight
+     * @return the created definition
+     * @throws IllegalArgumentException if the schedule is invalid, the priority has no effect in the
+     *                                  mode or the definition limit is reached
+     */
+    public RecurringJob create(String name, String payload, ExecutionMode executionMode, JobPriority priority,
+                               String cron, Duration fixedRate, OverlapPolicy overlapPolicy) {
+        jobService.checkPriority(executionMode, priority);
+        if (definitions.size() >= maxDefinitions) {
+            throw new IllegalArgumentException("Recurring job limit reached: " + maxDefinitions);
+        }
+        if (fixedRate != null && fixedRate.compareTo(minFixedRate) < 0) {
+            throw new IllegalArgumentException("Fixed rate must be at least " + minFixedRate.toMillis() + "ms");
+        }
+
+        var definition = new RecurringJob(Job.formatKey(idGenerator.nextKey()), name, payload, executionMode,
+                priority, cron == null ? null : CronExpression.parse(cron), fixedRate, overlapPolicy);
+        definitions.put(definition.getId(), definition);
+        arm(definition, definition.nextFireAfter(Instant.now()));
+
+        log.info("Recurring job created: {}, nextFireAt={}", definition, definition.getNextFireAt());
+        return definition;
+    }
+
+    /**
+     * Deletes a definition and cancels its armed fire. Jobs already submitted are not affected.
+     *
+     * @param id the definition id
+     * @return the deleted definition, if it existed
+     */
+    public Optional<RecurringJob> delete(String id) {
+        var definition = definitions.remove(id);
+        if (definition == null) {
+            return Optional.empty();
+        }
+        var timeout = armed.remove(id);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        log.info("Recurring job deleted: {}", definition);
+        return Optional.of(definition);
+    }
+
+    /**
+     * Retrieves a definition by its id.
+     *
+     * @param id the definition id
+     * @return the definition if found
+     */
+    public Optional<RecurringJob> get(String id) {
+        return Optional.ofNullable(definitions.get(id));
+    }
+
+    /**
+     * Returns all definitions, oldest first.
+     *
+     * @return the definitions
+     */
+    public List<RecurringJob> list() {
+        return definitions.values().stream()
+                .sorted(Comparator.comparing(RecurringJob::getCreatedAt))
+                .toList();
+    }
+
+    private void arm(RecurringJob definition, Instant fireAt) {
+        definition.setNextFireAt(fireAt);
+        if (fireAt == null) {
+            log.info("Recurring job has no further fire time: {}", definition);
+            return;
+        }
+
+        armed.put(definition.getId(), scheduler.schedule(fireAt, () -> fire(definition, fireAt)));
+        if (!definitions.containsKey(definition.getId())) {
+            // Deleted while this fire was being armed
+            var timeout = armed.remove(definition.getId());
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+    }
+
+    private void fire(RecurringJob definition, Instant scheduledAt) {
+        if (!definitions.containsKey(definition.getId())) {
+            return;
+        }
+
+        var now = Instant.now();
+        var next = definition.nextFireAfter(scheduledAt);
+        long missed = 0;
+        while (next != null && !next.isAfter(now) && missed < MAX_COALESCE_STEPS) {
+            missed++;
+            next = definition.nextFireAfter(next);
+        }
+        if (next != null && !next.isAfter(now)) {
+            next = definition.nextFireAfter(now);
+        }
+        arm(definition, next);
+
+        try {
+            if (missed > 0) {
+                definition.recordCoalesced(missed);
+                metricsService.recordRecurringFires(FireOutcome.COALESCED, missed);
+                log.debug("Recurring job fires coalesced: id={}, missed={}", definition.getId(), missed);
+            }
+
+            if (definition.getOverlapPolicy() == OverlapPolicy.SKIP && definition.isInstanceInFlight()) {
+                definition.recordSkipped();
+                metricsService.recordRecurringFires(FireOutcome.SKIPPED, 1);
+                log.debug("Recurring job fire skipped, previous instance in flight: id={}, lastJobId={}",
+                        definition.getId(), definition.getLastJobId());
+                return;
+            }
+
+            var job = jobService.submitJobDetached(definition.getName() + "#" + (definition.getSubmitted() + 1),
+                    definition.getPayload(), definition.getExecutionMode(), definition.getPriority(), null);
+            definition.recordSubmitted(job, now);
+            metricsService.recordRecurringFires(FireOutcome.SUBMITTED, 1);
+
+        } catch (JobRejectedException e) {
+            definition.recordRejected();
+            metricsService.recordRecurringFires(FireOutcome.REJECTED, 1);
+            log.debug("Recurring job fire rejected, nothing stored: id={}, mode={}",
+                    definition.getId(), e.getMode());
+
+        } catch (RuntimeException e) {
+            log.error("Recurring job fire failed: id={}, error={}", definition.getId(), e.getMessage());
+        }
+    }
+}
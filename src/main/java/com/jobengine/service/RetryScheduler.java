@@ -0,0 +1,294 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.exception.CircuitOpenException;
+import com.jobengine.exception.IOSimulationException;
+import com.jobengine.exception.IOTimeoutException;
+import com.jobengine.model.Job;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Retries failed I/O attempts without holding a thread during the backoff.
+ *
+ * <h2>How It Works</h2>
+ * <p>A blocking retry sleeps between attempts on the thread that made the call, so in
+ * THREAD_POOL one failing job keeps a platform thread busy doing nothing for the whole
+ * backoff. Here an attempt that fails is not retried in place:</p>
+ * <ol>
+ *   <li>The Resilience4j {@code ioSimulator} retry decides whether the failure is retryable
+ *       and how long to back off (exponential, with jitter)</li>
+ *   <li>The retry is armed on the {@link JobScheduler}'s timing wheel and the caller returns,
+ *       freeing its worker (and its limiter permit)</li>
+ *   <li>When the backoff expires, the next attempt is handed to the executor the caller
+ *       supplied, where it queues like any other work</li>
+ * </ol>
+ * <p>The Resilience4j retry metrics and events stay accurate: every attempt is reported
+ * to the same {@link Retry} instance through its async context.</p>
+ *
+ * <h2>Timeouts</h2>
+ * <p>Every attempt runs under the {@link IOTimeLimiter}. A timed-out attempt is retried like
+ * any other failure, but no retry is armed whose backoff would end past the job's deadline:
+ * the job gives up at once with {@link IOTimeoutException}. A job whose final failure is a
+ * timeout fails with an {@link IOTimeoutException} too, so executors can tell it apart.</p>
+ *
+ * <h2>Hedging</h2>
+ * <p>Inside the time limit, the {@link IOHedger} may race a slow attempt against a second
+ * one. Both count as a single attempt here: only when both fail is the attempt retried.</p>
+ *
+ * <h2>Circuit Breaker</h2>
+ * <p>Every attempt, first or retry, first asks the Resilience4j {@code ioSimulator} circuit
+ * breaker for permission, and reports its outcome to it. Once the failure rate over the
+ * sliding window crosses the threshold the breaker opens: the job fails at once with
+ * {@link CircuitOpenException}, without an attempt, a backoff or a retry. After the open
+ * wait the breaker turns half-open and lets a few probe attempts through; their outcome
+ * closes it again or sends it back to open. A refused retry, like one denied by the budget,
+ * appears in none of the {@code resilience4j_retry_calls} outcomes.</p>
+ *
+ * <h2>Retry Budget</h2>
+ * <p>Per-call retry limits do not stop a retry storm: when a dependency browns out, every
+ * job retries up to {@code max-attempts} times and the load on it triples exactly when it
+ * can take the least. All modes therefore share one {@link TokenBudget}: each success
+ * earns a fraction of a token and each retry spends a whole one. With the budget empty a
+ * retryable failure is returned to the job at once, as if its attempts were exhausted.
+ * Refused retries are counted in {@code job.retry.budget.denied} only: Resilience4j had
+ * already scheduled the retry when the budget refused it, so the call appears in none of
+ * its {@code resilience4j_retry_calls} outcomes.</p>
+ *
+ * <h2>Metrics</h2>
+ * <ul>
+ *   <li><b>job.retry.wait:</b> time from a failed attempt to the start of its retry, by mode</li>
+ *   <li><b>job.retry.backoff:</b> jobs currently waiting out a backoff</li>
+ *   <li><b>job.retry.budget.tokens / capacity:</b> retries the budget can currently pay for, and its size</li>
+ *   <li><b>job.retry.budget.denied:</b> retries refused because the budget was empty, by mode</li>
+ *   <li><b>job.circuit.rejected:</b> attempts refused by the circuit breaker, by mode; the
+ *       breaker's state and failure rate are exported as {@code resilience4j_circuitbreaker_*}</li>
+ * </ul>
+ *
+ * @author gsk
+ */
+@Service
+public class RetryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryScheduler.class);
+
+    private static final String RETRY_NAME = "ioSimulator";
+    private static final String CIRCUIT_BREAKER_NAME = "ioSimulator";
+
+    private final Retry retry;
+    private final CircuitBreaker circuitBreaker;
+    private final JobScheduler scheduler;
+    private final MetricsService metricsService;
+    private final IOTimeLimiter timeLimiter;
+    private final IOHedger hedger;
+    private final TokenBudget budget;
+    private final AtomicInteger backingOff = new AtomicInteger(0);
+
+    /**
+     * Constructs a RetryScheduler.
+     *
+     * @param retryRegistry          registry holding the configured {@code ioSimulator} retry
+     * @param circuitBreakerRegistry registry holding the configured {@code ioSimulator} circuit breaker
+     * @param scheduler              scheduler the backoffs are armed on
+     * @param metricsService         service for recording metrics
+     * @param timeLimiter            time limit applied to every attempt
+     * @param hedger                 hedging applied to every attempt
+     * @param properties             the job engine configuration properties
+     */
+    public RetryScheduler(RetryRegistry retryRegistry, CircuitBreakerRegistry circuitBreakerRegistry,
+                          JobScheduler scheduler, MetricsService metricsService,
+                          IOTimeLimiter timeLimiter, IOHedger hedger, JobEngineProperties properties) {
+        this.retry = retryRegistry.retry(RETRY_NAME);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        this.scheduler = scheduler;
+        this.metricsService = metricsService;
+        this.timeLimiter = timeLimiter;
+        this.hedger = hedger;
+
+        var config = properties.getRetryBudget();
+        this.budget = config.enabled() ? new TokenBudget(config.ratio(), config.maxTokens()) : null;
+
+        metricsService.registerRetryGauge(backingOff, AtomicInteger::get);
+        if (budget != null) {
+            metricsService.registerRetryBudgetGauges(budget, TokenBudget::getTokens, TokenBudget::getCapacity);
+        }
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("I/O circuit breaker {}: {}", CIRCUIT_BREAKER_NAME, event.getStateTransition()));
+
+        log.info("RetryScheduler initialized: retry={}, maxAttempts={}, budget={}, circuitBreaker={}",
+                RETRY_NAME, retry.getRetryConfig().getMaxAttempts(),
+                budget == null ? "disabled" : config.ratio() + " per success, max " + config.maxTokens(),
+                CIRCUIT_BREAKER_NAME);
+    }
+
+    /**
+     * Makes a non-blocking I/O call with retries.
+     *
+     * <p>The first attempt starts on the calling thread. Each retry is handed to
+     * {@code retryExecutor} once its backoff has expired.</p>
+     *
+     * @param job           the job the call belongs to; its attempt counter is incremented per attempt
+     * @param retryExecutor where retry attempts run
+     * @param attempt       starts one attempt
+     * @param <T>           result type
+     * @return a future completed with the first successful result, or exceptionally with the
+     *         last failure once the failure is not retryable, the attempts are exhausted or the
+     *         job's deadline is reached, or with {@link CircuitOpenException} once the circuit
+     *         breaker refuses an attempt
+     */
+    public <T> CompletableFuture<T> call(Job job, Executor retryExecutor, Supplier<CompletableFuture<T>> attempt) {
+        var result = new CompletableFuture<T>();
+        run(job, retry.asyncContext(), retryExecutor,
+                () -> timeLimiter.call(job, () -> hedger.call(job, attempt)), result);
+        return result;
+    }
+
+    /**
+     * Makes a blocking I/O call with retries.
+     *
+     * <p>Only the attempts block; the backoff between them holds no thread. The first
+     * attempt runs to completion on the calling thread before this method returns.</p>
+     *
+     * @param job           the job the call belongs to; its attempt counter is incremented per attempt
+     * @param retryExecutor where retry attempts run
+     * @param attempt       performs one attempt
+     * @param <T>           result type
+     * @return a future completed as described in {@link #call}
+     */
+    public <T> CompletableFuture<T> callBlocking(Job job, Executor retryExecutor, Supplier<T> attempt) {
+        var result = new CompletableFuture<T>();
+        run(job, retry.asyncContext(), retryExecutor,
+                () -> CompletableFuture.completedFuture(
+                        timeLimiter.callBlocking(job, () -> hedger.callBlocking(job, attempt))), result);
+        return result;
+    }
+
+    /**
+     * Returns the failure a future was completed with, without the wrapping added by
+     * {@link CompletableFuture} stages.
+     *
+     * @param error the error passed to a completion stage
+     * @return the underlying cause
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Wraps the last failure of a job that stops retrying, keeping it a timeout if it was one.
+     */
+    private static IOSimulationException giveUp(String reason, Throwable cause) {
+        var message = reason + cause.getMessage();
+        return cause instanceof IOTimeoutException
+                ? new IOTimeoutException(message, cause)
+                : new IOSimulationException(message, cause);
+    }
+
+    /**
+     * Fails a job whose next attempt the circuit breaker refused.
+     */
+    private CircuitOpenException notPermitted(Job job) {
+        var refusal = CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
+        var attempted = job.getAttempts();
+        metricsService.recordCircuitRejected(job.getExecutionMode());
+        log.debug("I/O attempt refused by the circuit breaker: jobId={}, attempts={}, state={}",
+                job.getId(), attempted, circuitBreaker.getState());
+        return new CircuitOpenException(attempted > 0
+                ? "Retry not attempted after " + attempts(attempted) + refusal.getMessage()
+                : refusal.getMessage(), refusal);
+    }
+
+    private static String attempts(int attemptNumber) {
+        return attemptNumber + (attemptNumber > 1 ? " attempts: " : " attempt: ");
+    }
+
+    private <T> void run(Job job, Retry.AsyncContext<T> context, Executor retryExecutor,
+                         Supplier<CompletableFuture<T>> attempt, CompletableFuture<T> result) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            result.completeExceptionally(notPermitted(job));
+            return;
+        }
+        int attemptNumber = job.recordAttempt();
+        var startedAt = System.nanoTime();
+
+        CompletableFuture<T> future;
+        try {
+            future = attempt.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((value, error) -> {
+            var duration = System.nanoTime() - startedAt;
+            if (error == null) {
+                circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+                context.onComplete();
+                if (budget != null) {
+                    budget.deposit();
+                }
+                result.complete(value);
+                return;
+            }
+
+            var cause = unwrap(error);
+            circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, cause);
+            long backoffMs = context.onError(cause);
+            if (backoffMs < 1) {
+                result.completeExceptionally(attemptNumber > 1
+                        ? giveUp("I/O operation failed after " + attempts(attemptNumber), cause)
+                        : cause);
+                return;
+            }
+            var deadline = job.getDeadline();
+            if (deadline != null && !Instant.now().plusMillis(backoffMs).isBefore(deadline)) {
+                result.completeExceptionally(cause instanceof IOTimeoutException
+                        ? cause
+                        : new IOTimeoutException("Job deadline reached after " + attempts(attemptNumber)
+                                + cause.getMessage(), cause));
+                return;
+            }
+            if (budget != null && !budget.tryWithdraw()) {
+                metricsService.recordRetryBudgetDenied(job.getExecutionMode());
+                log.debug("I/O retry denied, budget exhausted: jobId={}, attempt={}, error={}",
+                        job.getId(), attemptNumber, cause.getMessage());
+                result.completeExceptionally(giveUp("Retry budget exhausted after " + attempts(attemptNumber), cause));
+                return;
+            }
+
+            log.debug("I/O attempt failed, retrying: jobId={}, attempt={}, backoff={}ms, error={}",
+                    job.getId(), attemptNumber, backoffMs, cause.getMessage());
+
+            backingOff.incrementAndGet();
+            var failedAt = System.nanoTime();
+            scheduler.schedule(Instant.now().plusMillis(backoffMs), () -> {
+                backingOff.decrementAndGet();
+                try {
+                    retryExecutor.execute(() -> {
+                        metricsService.recordRetryWait(job.getExecutionMode(),
+                                Duration.ofNanos(System.nanoTime() - failedAt));
+                        run(job, context, retryExecutor, attempt, result);
+                    });
+                } catch (RejectedExecutionException e) {
+                    result.completeExceptionally(new IOSimulationException(
+                            "Retry refused by a saturated executor after " + attemptNumber + " attempts", e));
+                }
+            });
+        });
+    }
+}
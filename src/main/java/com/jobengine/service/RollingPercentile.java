@@ -0,0 +1,100 @@
+package com.jobengine.service;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Percentiles of the most recent samples of a latency.
+ *
+ * <h2>How It Works</h2>
+ * <ul>
+ *   <li><b>Recording:</b> samples go into a fixed ring buffer through one atomic
+ *       increment and one array write - no lock, no allocation, so it is cheap on the
+ *       hot path of every job.</li>
+ *   <li><b>Reading:</b> the buffer is copied and sorted at most once per refresh
+ *       interval, by whichever reader gets the lock first; other readers keep using the
+ *       previous snapshot. Any percentile is then a single array lookup.</li>
+ * </ul>
+ *
+ * <p>Until {@code minSamples} have been recorded there is no estimate and every
+ * percentile is 0. A snapshot may mix a few samples being overwritten concurrently,
+ * which is irrelevant for an estimate over hundreds of them.</p>
+ *
+ * @author gsk
+ */
+public class RollingPercentile {
+
+    private static final long REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLongArray samples;
+    private final int mask;
+    private final int minSamples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile long[] sorted = new long[0];
+    private volatile long refreshedAt = System.nanoTime() - REFRESH_NANOS;
+
+    /**
+     * Creates an empty estimator.
+     *
+     * @param capacity   number of recent samples kept, rounded up to a power of two
+     * @param minSamples samples needed before percentiles are reported
+     */
+    public RollingPercentile(int capacity, int minSamples) {
+        var size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.samples = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.minSamples = Math.max(1, minSamples);
+    }
+
+    /**
+     * Records a sample.
+     *
+     * @param nanos the measured latency in nanoseconds
+     */
+    public void record(long nanos) {
+        var index = (int) (recorded.getAndIncrement() & mask);
+        samples.set(index, nanos);
+    }
+
+    /**
+     * Returns a percentile of the recent samples.
+     *
+     * @param quantile the quantile, between 0 and 1 (e.g. 0.5 for the median)
+     * @return the percentile in nanoseconds, or 0 while there are too few samples
+     */
+    public long percentile(double quantile) {
+        refresh();
+        var snapshot = sorted;
+        if (snapshot.length < minSamples) {
+            return 0;
+        }
+        var index = (int) Math.ceil(quantile * snapshot.length) - 1;
+        return snapshot[Math.clamp(index, 0, snapshot.length - 1)];
+    }
+
+    private void refresh() {
+        var now = System.nanoTime();
+        if (now - refreshedAt < REFRESH_NANOS || !refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (now - refreshedAt < REFRESH_NANOS) {
+                return;
+            }
+            var count = (int) Math.min(recorded.get(), samples.length());
+            var copy = new long[count];
+            for (int i = 0; i < count; i++) {
+                copy[i] = samples.get(i);
+            }
+            Arrays.sort(copy);
+            sorted = copy;
+            refreshedAt = now;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.jobengine.service;
+
+import java.util.Arrays;
+
+/**
+ * Counts primes with a segmented, bit-packed Sieve of Eratosthenes over odd numbers only.
+ *
+ * <h2>Layout</h2>
+ * <ul>
+ *   <li><b>Odd-only:</b> bit {@code i} of a segment stands for the odd number
+ *       {@code segmentLow + 2i}; even numbers are never stored, halving memory and work.</li>
+ *   <li><b>Bit-packed:</b> 64 candidates per {@code long}, so the final count is a
+ *       {@link Long#bitCount} per word instead of a scan per number.</li>
+ *   <li><b>Segmented:</b> the range is processed in {@value #SEGMENT_BYTES}-byte segments
+ *       that stay resident in the L1/L2 cache while every base prime crosses them off.
+ *       Memory use is constant regardless of the range size.</li>
+ * </ul>
+ *
+ * <p>Time complexity: O(n·log log n), roughly two orders of magnitude fewer operations
+ * than trial division at the configured prime limits.</p>
+ *
+ * @author gsk
+ */
+public class SegmentedSievePrimeCounter implements PrimeCounter {
+
+    private static final int SEGMENT_BYTES = 32 * 1024;
+    private static final int SEGMENT_BITS = SEGMENT_BYTES * Byte.SIZE;
+
+    @Override
+    public long countPrimes(int from, int to) {
+        if (to < 2 || to < from) {
+            return 0;
+        }
+
+        long count = from <= 2 ? 1 : 0;
+        long low = Math.max(from, 3) | 1;
+        if (low > to) {
+            return count;
+        }
+
+        var basePrimes = oddPrimesUpTo(isqrt(to));
+        var segment = new long[SEGMENT_BITS / Long.SIZE];
+
+        for (long segmentLow = low; segmentLow <= to; segmentLow += 2L * SEGMENT_BITS) {
+            long segmentHigh = Math.min(segmentLow + 2L * (SEGMENT_BITS - 1), to);
+            int bits = (int) ((segmentHigh - segmentLow) / 2) + 1;
+            Arrays.fill(segment, 0L);
+
+            for (int p : basePrimes) {
+                long square = (long) p * p;
+                if (square > segmentHigh) {
+                    break;
+                }
+                // First odd multiple of p in the segment, never below p² (p itself stays unmarked)
+                long start = Math.max(square, (segmentLow + p - 1) / p * p);
+                if ((start & 1) == 0) {
+                    start += p;
+                }
+                for (int i = (int) ((start - segmentLow) / 2); i < bits; i += p) {
+                    segment[i >>> 6] |= 1L << i;
+                }
+            }
+
+            count += bits - countMarked(segment, bits);
+        }
+        return count;
+    }
+
+    private static int countMarked(long[] segment, int bits) {
+        int fullWords = bits >>> 6;
+        int marked = 0;
+        for (int w = 0; w < fullWords; w++) {
+            marked += Long.bitCount(segment[w]);
+        }
+        int remainder = bits & 63;
+        if (remainder != 0) {
+            marked += Long.bitCount(segment[fullWords] & ((1L << remainder) - 1));
+        }
+        return marked;
+    }
+
+    /**
+     * Returns the odd primes up to {@code limit} with a plain sieve; these are the base
+     * primes whose multiples are crossed off in each segment.
+     */
+    private static int[] oddPrimesUpTo(int limit) {
+        var composite = new boolean[limit + 1];
+        var primes = new int[Math.max(limit / 2, 1)];
+        int count = 0;
+        for (int n = 3; n <= limit; n += 2) {
+            if (!composite[n]) {
+                primes[count++] = n;
+                for (long m = (long) n * n; m <= limit; m += 2L * n) {
+                    composite[(int) m] = true;
+                }
+            }
+        }
+        return Arrays.copyOf(primes, count);
+    }
+
+    private static int isqrt(int n) {
+        int r = (int) Math.sqrt(n);
+        while ((long) r * r > n) {
+            r--;
+        }
+        while ((long) (r + 1) * (r + 1) <= n) {
+            r++;
+        }
+        return r;
+    }
+}
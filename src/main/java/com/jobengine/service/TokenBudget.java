@@ -0,0 +1,93 @@
+package com.jobengine.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket bounding some extra work to a fraction of the regular work.
+ *
+ * <h2>How It Works</h2>
+ * <ul>
+ *   <li><b>Deposit:</b> every unit of regular work (a successful call, an I/O call) adds
+ *       {@code ratio} tokens, up to {@code maxTokens}.</li>
+ *   <li><b>Withdraw:</b> every unit of extra work (a retry, a hedge) takes one whole token,
+ *       or is refused if there is none.</li>
+ * </ul>
+ *
+ * <p>Once the initial balance is spent, extra work can only be paid for by regular work, so
+ * it stays below {@code ratio} of it no matter how many callers want it at once. For retries,
+ * successes dry up during a brown-out and so do retries: failing jobs fail fast instead of
+ * multiplying the load on a struggling dependency. The bucket starts full so that a burst
+ * of {@code maxTokens} is allowed right after startup or a quiet period.</p>
+ *
+ * <p>The balance is kept in thousandths of a token in a single {@link AtomicLong}, so both
+ * operations are a lock-free CAS loop.</p>
+ *
+ * @author gsk
+ */
+public class TokenBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * Creates a full budget.
+     *
+     * @param ratio     tokens earned per unit of regular work
+     * @param maxTokens bucket capacity in tokens
+     */
+    public TokenBudget(double ratio, int maxTokens) {
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = maxTokens * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Credits the budget for one unit of regular work.
+     */
+    public void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    /**
+     * Takes one token for a unit of extra work.
+     *
+     * @return true if the extra work may proceed, false if the budget is exhausted
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * Returns the current balance.
+     *
+     * @return tokens available, fractional
+     */
+    public double getTokens() {
+        return (double) balance.get() / SCALE;
+    }
+
+    /**
+     * Returns the bucket capacity.
+     *
+     * @return maximum number of tokens
+     */
+    public double getCapacity() {
+        return (double) capacity / SCALE;
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobengine.service;
+
+/**
+ * Counts primes by trial division of every candidate.
+ *
+ * <p>Time complexity: O(n·√n) over a range of n numbers. Deliberately naive - this is
+ * the reference workload the configured prime limits were calibrated against.</p>
+ *
+ * @author gsk
+ */
+public class TrialDivisionPrimeCounter implements PrimeCounter {
+
+    @Override
+    public long countPrimes(int from, int to) {
+        long count = 0;
+        for (int n = Math.max(from, 2); n <= to && n > 0; n++) {
+            if (isPrime(n)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a number is prime using trial division.
+     *
+     * <p>Time complexity: O(√n)</p>
+     *
+     * @param n the number to check
+     * @return true if n is prime, false otherwise
+     */
+    private boolean isPrime(int n) {
+        if (n < 2) return false;
+        if (n == 2) return true;
+        if (n % 2 == 0) return false;
+        for (int i = 3; (long) i * i <= n; i += 2) {
+            if (n % i == 0) return false;
+        }
+        return true;
+    }
+}
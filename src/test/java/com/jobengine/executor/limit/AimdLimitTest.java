@@ -0,0 +1,57 @@
+package com.jobengine.executor.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AimdLimit}.
+ *
+ * @author gsk
+ */
+class AimdLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void growsByOneWhileHalfTheLimitIsUsed() {
+        var limit = new AimdLimit(10, 1, 20, 100);
+
+        assertThat(limit.onSample(FAST, 5)).isEqualTo(11);
+        assertThat(limit.onSample(FAST, 6)).isEqualTo(12);
+        assertThat(limit.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    void doesNotGrowWhenMostlyIdle() {
+        var limit = new AimdLimit(10, 1, 20, 100);
+
+        assertThat(limit.onSample(FAST, 4)).isEqualTo(10);
+    }
+
+    @Test
+    void backsOffMultiplicativelyAboveTheThreshold() {
+        var limit = new AimdLimit(20, 1, 40, 100);
+
+        assertThat(limit.onSample(SLOW, 20)).isEqualTo(18);
+        assertThat(limit.onSample(SLOW, 1)).isEqualTo(16);
+    }
+
+    @Test
+    void staysWithinBounds() {
+        var limit = new AimdLimit(10, 5, 11, 100);
+
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(FAST, 11);
+        }
+        assertThat(limit.getLimit()).isEqualTo(11);
+
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(SLOW, 11);
+        }
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobengine.executor.limit;
+
+import com.jobengine.model.JobPriority;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConcurrencyLimiter}: how many tasks start, when queued ones follow and
+ * what happens to a task the executor refuses.
+ *
+ * @author gsk
+ */
+class ConcurrencyLimiterTest {
+
+    private static final long AGING_MS = 100;
+
+    private final List<Runnable> started = new ArrayList<>();
+
+    @Test
+    void startsUpToTheLimitAndQueuesTheRest() {
+        var limiter = limiter(new FixedLimit(2), started::add);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.submit(JobPriority.NORMAL, null, () -> { });
+        }
+
+        assertThat(started).hasSize(2);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getQueueSize()).isEqualTo(3);
+    }
+
+    @Test
+    void releaseStartsTheNextQueuedTask() {
+        var limiter = limiter(new FixedLimit(1), started::add);
+        limiter.submit(JobPriority.NORMAL, null, () -> { });
+        limiter.submit(JobPriority.NORMAL, null, () -> { });
+
+        limiter.release(1_000_000);
+
+        assertThat(started).hasSize(2);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueSize()).isZero();
+    }
+
+    @Test
+    void refusedTaskWaitsForTheNextRelease() {
+        var refusals = new AtomicInteger();
+        var limiter = limiter(new FixedLimit(2), refusingFirst(refusals, started::add));
+        limiter.submit(JobPriority.NORMAL, null, () -> { });
+        refusals.set(1);
+        limiter.submit(JobPriority.NORMAL, null, () -> { });
+
+        assertThat(started).hasSize(1);
+        assertThat(limiter.getQueueSize()).isEqualTo(1);
+
+        limiter.release(1_000_000);
+
+        assertThat(started).hasSize(2);
+        assertThat(limiter.getQueueSize()).isZero();
+    }
+
+    @Test
+    void refusedTaskIsRetriedWhenNothingIsInFlight() throws InterruptedException {
+        var ran = new CountDownLatch(1);
+        var refusals = new AtomicInteger(3);
+        var limiter = limiter(new FixedLimit(2), refusingFirst(refusals, Runnable::run));
+
+        limiter.submit(JobPriority.NORMAL, null, ran::countDown);
+
+        assertThat(ran.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(refusals).hasValue(0);
+        assertThat(limiter.getQueueSize()).isZero();
+    }
+
+    private static ConcurrencyLimiter limiter(LimitAlgorithm algorithm, Executor executor) {
+        return new ConcurrencyLimiter("test", algorithm, executor, AGING_MS, (priority, wait) -> { });
+    }
+
+    /**
+     * An executor that refuses as many tasks as {@code refusals} holds, then hands them on.
+     */
+    private static Executor refusingFirst(AtomicInteger refusals, Executor delegate) {
+        return task -> {
+            if (refusals.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new RejectedExecutionException("full");
+            }
+            delegate.execute(task);
+        };
+    }
+}
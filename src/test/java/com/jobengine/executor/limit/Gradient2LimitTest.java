@@ -0,0 +1,60 @@
+package com.jobengine.executor.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jobengine.executor.limit.LimitSamples.window;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Gradient2Limit}. Each window takes a second to close.
+ *
+ * @author gsk
+ */
+class Gradient2LimitTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void firstWindowOnlySetsTheLongTermRtt() throws InterruptedException {
+        var limit = new Gradient2Limit(100, 1, 200);
+
+        assertThat(window(limit, BASE_RTT, 100)).isEqualTo(100);
+    }
+
+    @Test
+    void growsBySmoothedSquareRootWhileLatencyIsStable() throws InterruptedException {
+        var limit = new Gradient2Limit(100, 1, 200);
+        window(limit, BASE_RTT, 100);
+
+        // 100 × 0.8 + (100 + √100) × 0.2 = 102
+        assertThat(window(limit, BASE_RTT, 100)).isEqualTo(102);
+    }
+
+    @Test
+    void shrinksAtMostByHalfWhenLatencyRises() throws InterruptedException {
+        var limit = new Gradient2Limit(100, 1, 200);
+        window(limit, BASE_RTT, 100);
+
+        // gradient clamped to 0.5: 100 × 0.8 + (50 + √100) × 0.2 = 92
+        assertThat(window(limit, BASE_RTT * 4, 100)).isEqualTo(92);
+    }
+
+    @Test
+    void doesNotMoveWhileMostlyIdle() throws InterruptedException {
+        var limit = new Gradient2Limit(100, 1, 200);
+        window(limit, BASE_RTT, 100);
+
+        assertThat(window(limit, BASE_RTT * 4, 10)).isEqualTo(100);
+    }
+
+    @Test
+    void staysWithinBounds() throws InterruptedException {
+        var limit = new Gradient2Limit(100, 98, 101);
+        window(limit, BASE_RTT, 100);
+
+        assertThat(window(limit, BASE_RTT, 100)).isEqualTo(101);
+        assertThat(window(limit, BASE_RTT * 4, 101)).isEqualTo(98);
+    }
+}
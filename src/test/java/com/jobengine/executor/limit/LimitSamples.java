@@ -0,0 +1,33 @@
+package com.jobengine.executor.limit;
+
+/**
+ * Feeds whole {@link SampleWindow}s to the windowed limit algorithms.
+ *
+ * @author gsk
+ */
+final class LimitSamples {
+
+    private static final int WINDOW_SAMPLES = 10;
+    private static final long WINDOW_MS = 1000;
+
+    private LimitSamples() {
+    }
+
+    /**
+     * Waits out the minimum window duration, then feeds enough identical samples to close
+     * one window.
+     *
+     * @param algorithm the algorithm
+     * @param rttNanos  latency of every sample
+     * @param inFlight  in-flight count of every sample
+     * @return the limit after the window closed
+     */
+    static int window(LimitAlgorithm algorithm, long rttNanos, int inFlight) throws InterruptedException {
+        Thread.sleep(WINDOW_MS);
+        int limit = algorithm.getLimit();
+        for (int i = 0; i < WINDOW_SAMPLES; i++) {
+            limit = algorithm.onSample(rttNanos, inFlight);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,97 @@
+package com.jobengine.executor.limit;
+
+import com.jobengine.model.JobPriority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PriorityTaskQueue}: class order, aging and earliest deadline first.
+ *
+ * @author gsk
+ */
+class PriorityTaskQueueTest {
+
+    private static final long AGING_MS = 100;
+
+    private final PriorityTaskQueue queue = new PriorityTaskQueue(AGING_MS);
+
+    @Test
+    void servesHigherClassesFirstAndFifoWithinAClass() {
+        Runnable low = () -> { };
+        Runnable normal1 = () -> { };
+        Runnable normal2 = () -> { };
+        Runnable high = () -> { };
+
+        queue.offer(JobPriority.LOW, null, low);
+        queue.offer(JobPriority.NORMAL, null, normal1);
+        queue.offer(JobPriority.NORMAL, null, normal2);
+        queue.offer(JobPriority.HIGH, null, high);
+
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.poll().task()).isSameAs(high);
+        assertThat(queue.poll().task()).isSameAs(normal1);
+        assertThat(queue.poll().task()).isSameAs(normal2);
+        assertThat(queue.poll().task()).isSameAs(low);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void agedEntryOvertakesAHigherClass() throws InterruptedException {
+        Runnable normal = () -> { };
+        Runnable high = () -> { };
+
+        queue.offer(JobPriority.NORMAL, null, normal);
+        Thread.sleep(AGING_MS + 50);
+        queue.offer(JobPriority.HIGH, null, high);
+
+        assertThat(queue.poll().task()).isSameAs(normal);
+        assertThat(queue.poll().task()).isSameAs(high);
+    }
+
+    @Test
+    void nearDeadlineOvertakesEarlierEntries() {
+        Runnable normal = () -> { };
+        Runnable urgent = () -> { };
+
+        queue.offer(JobPriority.NORMAL, null, normal);
+        queue.offer(JobPriority.LOW, Instant.now().plusMillis(10), urgent);
+
+        var first = queue.poll();
+        assertThat(first.task()).isSameAs(urgent);
+        assertThat(first.timed()).isTrue();
+        assertThat(queue.poll().task()).isSameAs(normal);
+    }
+
+    @Test
+    void farDeadlineNeverWaitsLongerThanItsClass() {
+        Runnable relaxed = () -> { };
+        Runnable low = () -> { };
+
+        queue.offer(JobPriority.HIGH, Instant.now().plus(Duration.ofHours(1)), relaxed);
+        queue.offer(JobPriority.LOW, null, low);
+
+        assertThat(queue.poll().task()).isSameAs(relaxed);
+        assertThat(queue.poll().task()).isSameAs(low);
+    }
+
+    @Test
+    void requeuedEntryGoesBackToTheHeadOfItsClass() {
+        Runnable first = () -> { };
+        Runnable second = () -> { };
+
+        queue.offer(JobPriority.NORMAL, null, first);
+        queue.offer(JobPriority.NORMAL, null, second);
+
+        var entry = queue.poll();
+        queue.requeue(entry);
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll().task()).isSameAs(first);
+        assertThat(queue.poll().task()).isSameAs(second);
+    }
+}
@@ -0,0 +1,60 @@
+package com.jobengine.executor.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jobengine.executor.limit.LimitSamples.window;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link VegasLimit}. Each window takes a second to close.
+ *
+ * @author gsk
+ */
+class VegasLimitTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void ignoresSamplesUntilAWindowCloses() {
+        var limit = new VegasLimit(20, 1, 100);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(limit.onSample(BASE_RTT * 10, 20)).isEqualTo(20);
+        }
+    }
+
+    @Test
+    void firstWindowOnlySetsTheNoLoadRtt() throws InterruptedException {
+        var limit = new VegasLimit(20, 1, 100);
+
+        assertThat(window(limit, BASE_RTT, 20)).isEqualTo(20);
+    }
+
+    @Test
+    void growsFastWhileNothingQueuesDownstream() throws InterruptedException {
+        var limit = new VegasLimit(20, 1, 100);
+        window(limit, BASE_RTT, 20);
+
+        // queue = 20 × (1 − 100/100) = 0 ≤ log10(20) → +6
+        assertThat(window(limit, BASE_RTT, 20)).isEqualTo(26);
+    }
+
+    @Test
+    void shrinksWhenLatencyShowsAQueue() throws InterruptedException {
+        var limit = new VegasLimit(20, 1, 100);
+        window(limit, BASE_RTT, 20);
+
+        // queue = 20 × (1 − 100/200) = 10 > 6 × log10(20) → −1
+        assertThat(window(limit, BASE_RTT * 2, 20)).isEqualTo(19);
+    }
+
+    @Test
+    void doesNotGrowWhileMostlyIdle() throws InterruptedException {
+        var limit = new VegasLimit(20, 1, 100);
+        window(limit, BASE_RTT, 20);
+
+        assertThat(window(limit, BASE_RTT, 9)).isEqualTo(20);
+    }
+}
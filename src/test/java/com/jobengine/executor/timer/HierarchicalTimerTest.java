@@ -0,0 +1,129 @@
+package com.jobengine.executor.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HierarchicalTimer}: firing time, cancellation and overflow wheels.
+ *
+ * @author gsk
+ */
+class HierarchicalTimerTest {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+    private static final int WHEEL_SIZE = 8;
+
+    private final HierarchicalTimer timer = new HierarchicalTimer("test-timer", TICK, WHEEL_SIZE, Runnable::run);
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdown();
+    }
+
+    @Test
+    void firesAfterDelayAndNeverEarly() throws InterruptedException {
+        var fired = new CountDownLatch(1);
+        var start = System.nanoTime();
+        var elapsed = new AtomicLong();
+
+        timer.schedule(Duration.ofMillis(50), () -> {
+            elapsed.set(System.nanoTime() - start);
+            fired.countDown();
+        });
+
+        assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(elapsed.get())).isGreaterThanOrEqualTo(50);
+        assertThat(timer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void runsZeroDelayWithinATick() throws InterruptedException {
+        var fired = new CountDownLatch(1);
+
+        timer.schedule(Duration.ZERO, fired::countDown);
+
+        assertThat(fired.await(TICK.toMillis() * 5, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(timer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void cancelPreventsFiring() throws InterruptedException {
+        var fired = new AtomicInteger();
+
+        var timeout = timer.schedule(Duration.ofMillis(30), fired::incrementAndGet);
+        assertThat(timer.getPendingCount()).isEqualTo(1);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(timer.getPendingCount()).isZero();
+
+        Thread.sleep(150);
+        assertThat(fired).hasValue(0);
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    void cancelAfterFiringHasNoEffect() throws InterruptedException {
+        var fired = new CountDownLatch(1);
+
+        var timeout = timer.schedule(Duration.ofMillis(10), fired::countDown);
+
+        assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(timeout.isCancelled()).isFalse();
+    }
+
+    @Test
+    void longDelaysOverflowToCoarserWheelsAndCascadeDown() throws InterruptedException {
+        var fired = new CountDownLatch(1);
+        var start = System.nanoTime();
+        var elapsed = new AtomicLong();
+
+        // The finest wheel spans 8 × 10ms = 80ms; 300ms needs a second level
+        timer.schedule(Duration.ofMillis(300), () -> {
+            elapsed.set(System.nanoTime() - start);
+            fired.countDown();
+        });
+        assertThat(timer.getLevels()).isGreaterThanOrEqualTo(2);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(elapsed.get())).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    void tasksInTheSameTickShareOneBucket() {
+        for (int i = 0; i < 100; i++) {
+            timer.schedule(Duration.ofMinutes(1), () -> { });
+        }
+
+        assertThat(timer.getPendingCount()).isEqualTo(100);
+        assertThat(timer.getOccupiedBuckets()).isEqualTo(1);
+    }
+
+    @Test
+    void firesEveryTaskOfABurstExactlyOnce() throws InterruptedException {
+        var tasks = 1000;
+        var fired = new CountDownLatch(tasks);
+        var runs = new AtomicInteger();
+
+        for (int i = 0; i < tasks; i++) {
+            timer.schedule(Duration.ofMillis(i % 200), () -> {
+                runs.incrementAndGet();
+                fired.countDown();
+            });
+        }
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        assertThat(runs).hasValue(tasks);
+        assertThat(timer.getPendingCount()).isZero();
+    }
+}
@@ -0,0 +1,111 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.exception.JobRejectedException;
+import com.jobengine.model.ExecutionMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link AdmissionController}: all-or-none admission, the rollback of a partial
+ * all-modes admission and the Retry-After estimated from the drain rate.
+ *
+ * @author gsk
+ */
+class AdmissionControllerTest {
+
+    private static final int MAX_PENDING = 100;
+    private static final int MAX_RETRY_AFTER = 30;
+
+    private final AdmissionController admission = new AdmissionController(mock(MetricsService.class),
+            new Binder(new MapConfigurationPropertySource(Map.of(
+                    "job-engine.admission.max-pending-per-mode", String.valueOf(MAX_PENDING),
+                    "job-engine.admission.max-retry-after-seconds", String.valueOf(MAX_RETRY_AFTER))))
+                    .bindOrCreate("job-engine", JobEngineProperties.class));
+
+    @Test
+    void admitsUpToTheCapacity() {
+        admission.admit(ExecutionMode.ASYNC, 60);
+        admission.admit(ExecutionMode.ASYNC, 40);
+
+        assertThat(admission.getPending(ExecutionMode.ASYNC)).isEqualTo(MAX_PENDING);
+        assertThat(admission.getPending(ExecutionMode.HYBRID)).isZero();
+    }
+
+    @Test
+    void refusesABatchThatDoesNotFitWithoutAdmittingPartOfIt() {
+        admission.admit(ExecutionMode.ASYNC, 90);
+
+        assertThatThrownBy(() -> admission.admit(ExecutionMode.ASYNC, 11))
+                .isInstanceOf(JobRejectedException.class);
+        assertThat(admission.getPending(ExecutionMode.ASYNC)).isEqualTo(90);
+
+        admission.admit(ExecutionMode.ASYNC, 10);
+        assertThat(admission.getPending(ExecutionMode.ASYNC)).isEqualTo(MAX_PENDING);
+    }
+
+    @Test
+    void refusesMoreThanTheCapacityAsAnInvalidRequest() {
+        assertThatThrownBy(() -> admission.admit(ExecutionMode.ASYNC, MAX_PENDING + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(admission.getPending(ExecutionMode.ASYNC)).isZero();
+    }
+
+    @Test
+    void rollsBackEveryModeWhenOneHasNoRoom() {
+        admission.admit(ExecutionMode.HYBRID, 95);
+
+        assertThatThrownBy(() -> admission.admitAllModes(10))
+                .isInstanceOf(JobRejectedException.class)
+                .extracting(e -> ((JobRejectedException) e).getMode())
+                .isEqualTo(ExecutionMode.HYBRID);
+
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            assertThat(admission.getPending(mode)).as(mode.name())
+                    .isEqualTo(mode == ExecutionMode.HYBRID ? 95 : 0);
+        }
+    }
+
+    @Test
+    void releaseFreesASlot() {
+        admission.admit(ExecutionMode.SEQUENTIAL, MAX_PENDING);
+        admission.release(ExecutionMode.SEQUENTIAL);
+
+        admission.admit(ExecutionMode.SEQUENTIAL, 1);
+        assertThat(admission.getPending(ExecutionMode.SEQUENTIAL)).isEqualTo(MAX_PENDING);
+    }
+
+    @Test
+    void retriesAfterTheMaximumWhileNothingDrains() {
+        admission.admit(ExecutionMode.FORK_JOIN, MAX_PENDING);
+
+        assertThatThrownBy(() -> admission.admit(ExecutionMode.FORK_JOIN, 1))
+                .isInstanceOf(JobRejectedException.class)
+                .extracting(e -> ((JobRejectedException) e).getRetryAfterSeconds())
+                .isEqualTo((long) MAX_RETRY_AFTER);
+    }
+
+    @Test
+    void retriesSoonerOnceTheModeDrains() throws InterruptedException {
+        admission.admit(ExecutionMode.THREAD_POOL, MAX_PENDING);
+        for (int i = 0; i < 50; i++) {
+            admission.release(ExecutionMode.THREAD_POOL);
+        }
+        // The drain rate is sampled at most once a second
+        Thread.sleep(1_100);
+        admission.release(ExecutionMode.THREAD_POOL);
+        admission.admit(ExecutionMode.THREAD_POOL, 51);
+
+        assertThatThrownBy(() -> admission.admit(ExecutionMode.THREAD_POOL, 10))
+                .isInstanceOf(JobRejectedException.class)
+                .extracting(e -> ((JobRejectedException) e).getRetryAfterSeconds())
+                .isEqualTo(1L);
+    }
+}
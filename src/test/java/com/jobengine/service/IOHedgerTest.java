@@ -0,0 +1,271 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.config.JobEngineProperties.HedgeConfig;
+import com.jobengine.executor.timer.HierarchicalTimer;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link IOHedger}: when a hedge is launched, which attempt wins, how the loser
+ * is cancelled and how the budget caps hedges.
+ *
+ * @author gsk
+ */
+class IOHedgerTest {
+
+    private static final int WARM_UP_CALLS = 100;
+    private static final long WARM_UP_LATENCY_MS = 20;
+    private static final long PERCENTILE_REFRESH_MS = 150;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ThreadPoolExecutor monitoredPool =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final MetricsService metricsService = new MetricsService(registry, monitoredPool);
+    private final HierarchicalTimer timer = new HierarchicalTimer("test-timer", Duration.ofMillis(1), 64, Runnable::run);
+    private final Job job = new Job(1L, "io", "payload", ExecutionMode.THREAD_POOL);
+    private final Thread caller = Thread.currentThread();
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdown();
+        monitoredPool.shutdownNow();
+    }
+
+    @Test
+    void doesNotHedgeBeforeEnoughLatenciesAreRecorded() {
+        var hedger = hedger(1.0, 10);
+        var calls = new AtomicInteger();
+
+        var value = hedger.callBlocking(job, () -> {
+            calls.incrementAndGet();
+            return sleep(50, "primary");
+        });
+
+        assertThat(value).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+        assertThat(count("job.hedge.launched")).isZero();
+    }
+
+    @Test
+    void doesNotHedgeAnAttemptFasterThanTheDelay() {
+        var hedger = warmedUp(hedger(1.0, 10));
+
+        assertThat(hedger.callBlocking(job, () -> "primary")).isEqualTo("primary");
+        assertThat(count("job.hedge.launched")).isZero();
+        assertThat(timer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void fastHedgeWinsAndInterruptsTheSlowPrimary() {
+        var hedger = warmedUp(hedger(1.0, 10));
+        var primaryInterrupted = new AtomicBoolean();
+        var start = System.nanoTime();
+
+        var value = hedger.callBlocking(job, () -> {
+            if (!isPrimary()) {
+                return "hedge";
+            }
+            try {
+                Thread.sleep(5_000);
+                return "primary";
+            } catch (InterruptedException e) {
+                primaryInterrupted.set(true);
+                throw new IllegalStateException("Interrupted", e);
+            }
+        });
+
+        assertThat(value).isEqualTo("hedge");
+        assertThat(primaryInterrupted).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+        assertThat(count("job.hedge.launched")).isEqualTo(1);
+        assertThat(count("job.hedge.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void waitsForTheHedgeWhenThePrimaryFails() {
+        var hedger = warmedUp(hedger(1.0, 10));
+        var calls = new AtomicInteger();
+
+        var value = hedger.callBlocking(job, () -> {
+            calls.incrementAndGet();
+            if (!isPrimary()) {
+                return sleep(150, "hedge");
+            }
+            sleep(80, "primary");
+            throw new IllegalStateException("primary failed");
+        });
+
+        assertThat(value).isEqualTo("hedge");
+        assertThat(calls).hasValue(2);
+        assertThat(count("job.hedge.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void primaryThatFinishesFirstCancelsTheHedge() throws InterruptedException {
+        var hedger = warmedUp(hedger(1.0, 10));
+        var hedgeInterrupted = new CountDownLatch(1);
+
+        var value = hedger.callBlocking(job, () -> {
+            if (!isPrimary()) {
+                try {
+                    Thread.sleep(5_000);
+                    return "hedge";
+                } catch (InterruptedException e) {
+                    hedgeInterrupted.countDown();
+                    throw new IllegalStateException("Interrupted", e);
+                }
+            }
+            return sleep(80, "primary");
+        });
+
+        assertThat(value).isEqualTo("primary");
+        assertThat(hedgeInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("job.hedge.wins")).isZero();
+    }
+
+    @Test
+    void deniesHedgesOnceTheBudgetIsSpent() {
+        // Starts with one token and earns none
+        var hedger = warmedUp(hedger(0.0, 1));
+        var calls = new AtomicInteger();
+
+        hedger.callBlocking(job, () -> {
+            calls.incrementAndGet();
+            return sleep(80, "first");
+        });
+        hedger.callBlocking(job, () -> {
+            calls.incrementAndGet();
+            return sleep(80, "second");
+        });
+
+        assertThat(count("job.hedge.launched")).isEqualTo(1);
+        assertThat(count("job.hedge.denied")).isEqualTo(1);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void nonBlockingHedgeWinsAndCancelsThePrimary() throws Exception {
+        var hedger = warmedUp(hedger(1.0, 10));
+        var primary = new CompletableFuture<String>();
+        var calls = new AtomicInteger();
+
+        var result = hedger.call(job, () -> calls.incrementAndGet() == 1
+                ? primary
+                : CompletableFuture.completedFuture("hedge"));
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+        // The hedge completes the result before it cancels the primary, on the timer thread
+        assertThat(primary).failsWithin(Duration.ofSeconds(1)).withThrowableOfType(CancellationException.class);
+        assertThat(count("job.hedge.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void nonBlockingFailureLeavesTheOutcomeToTheOtherAttempt() throws Exception {
+        var hedger = warmedUp(hedger(1.0, 10));
+        var primary = new CompletableFuture<String>();
+        var hedge = new CompletableFuture<String>();
+        var hedgeStarted = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+
+        var result = hedger.call(job, () -> {
+            if (calls.incrementAndGet() == 1) {
+                return primary;
+            }
+            hedgeStarted.countDown();
+            return hedge;
+        });
+
+        assertThat(hedgeStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        primary.completeExceptionally(new IllegalStateException("primary failed"));
+        assertThat(result.isDone()).isFalse();
+
+        hedge.complete("hedge");
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+    }
+
+    @Test
+    void cancellingTheResultCancelsBothAttempts() throws InterruptedException {
+        var hedger = warmedUp(hedger(1.0, 10));
+        var primary = new CompletableFuture<String>();
+        var hedge = new CompletableFuture<String>();
+        var hedgeStarted = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+
+        var result = hedger.call(job, () -> {
+            if (calls.incrementAndGet() == 1) {
+                return primary;
+            }
+            hedgeStarted.countDown();
+            return hedge;
+        });
+
+        assertThat(hedgeStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        result.cancel(true);
+
+        assertThat(primary.isCancelled()).isTrue();
+        // A hedge still being launched is cancelled by the timer thread once it sees the result done
+        assertThat(hedge).failsWithin(Duration.ofSeconds(1)).withThrowableOfType(CancellationException.class);
+    }
+
+    private IOHedger hedger(double budgetRatio, int maxTokens) {
+        var properties = new JobEngineProperties(null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, new HedgeConfig(true, 0.95, budgetRatio, maxTokens));
+        var hedger = new IOHedger(properties, timer, Executors.newVirtualThreadPerTaskExecutor(), metricsService);
+        hedger.registerGauges();
+        return hedger;
+    }
+
+    /**
+     * Records enough latencies for the hedge delay to settle slightly above
+     * {@value #WARM_UP_LATENCY_MS}ms, and waits for the percentile snapshot to pick them up.
+     * The calls run concurrently and are not hedged, as the snapshot is still empty.
+     */
+    private IOHedger warmedUp(IOHedger hedger) {
+        try (var warmUp = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < WARM_UP_CALLS; i++) {
+                warmUp.submit(() -> hedger.callBlocking(job, () -> sleep(WARM_UP_LATENCY_MS, "warm-up")));
+            }
+        }
+        sleep(PERCENTILE_REFRESH_MS, null);
+        return hedger;
+    }
+
+    /**
+     * Tells the primary of a blocking race from its hedge, which runs on another thread.
+     */
+    private boolean isPrimary() {
+        return Thread.currentThread() == caller;
+    }
+
+    private double count(String name) {
+        return registry.get(name).tag("mode", "thread_pool").counter().count();
+    }
+
+    private static String sleep(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+        return value;
+    }
+}
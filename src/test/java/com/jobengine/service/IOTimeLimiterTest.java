@@ -0,0 +1,177 @@
+package com.jobengine.service;
+
+import com.jobengine.exception.IOTimeoutException;
+import com.jobengine.executor.timer.HierarchicalTimer;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link IOTimeLimiter}: interrupting blocking attempts, the interrupt handshake
+ * and non-blocking timeouts.
+ *
+ * @author gsk
+ */
+class IOTimeLimiterTest {
+
+    private static final Duration ATTEMPT_TIMEOUT = Duration.ofMillis(100);
+
+    private final HierarchicalTimer timer = new HierarchicalTimer("test-timer", Duration.ofMillis(1), 64, Runnable::run);
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdown();
+    }
+
+    @Test
+    void returnsTheResultOfAFastAttempt() {
+        var limiter = limiter(ATTEMPT_TIMEOUT);
+
+        assertThat(limiter.callBlocking(job(), () -> "ok")).isEqualTo("ok");
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(timer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void propagatesTheAttemptsOwnFailure() {
+        var limiter = limiter(ATTEMPT_TIMEOUT);
+
+        assertThatThrownBy(() -> limiter.callBlocking(job(), () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(timer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void interruptsASlowBlockingAttempt() {
+        var limiter = limiter(ATTEMPT_TIMEOUT);
+        var start = System.nanoTime();
+
+        assertThatThrownBy(() -> limiter.callBlocking(job(), () -> sleep(5_000)))
+                .isInstanceOf(IOTimeoutException.class)
+                .hasMessageContaining("timed out after 100ms");
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void neverLeaksAnInterruptIntoTheNextTask() throws Exception {
+        var limiter = limiter(Duration.ofMillis(5));
+        var outcomes = new AtomicInteger();
+        var leaks = new AtomicInteger();
+
+        // One pooled thread running attempts that finish right around their time limit
+        try (var worker = Executors.newSingleThreadExecutor()) {
+            for (int i = 0; i < 300; i++) {
+                var sleepMs = ThreadLocalRandom.current().nextInt(2, 9);
+                worker.submit(() -> {
+                    try {
+                        limiter.callBlocking(job(), () -> sleep(sleepMs));
+                    } catch (IOTimeoutException e) {
+                        // expected for the slow ones
+                    }
+                    outcomes.incrementAndGet();
+                    if (Thread.currentThread().isInterrupted()) {
+                        leaks.incrementAndGet();
+                        Thread.interrupted();
+                    }
+                }).get(1, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(outcomes).hasValue(300);
+        assertThat(leaks).hasValue(0);
+    }
+
+    @Test
+    void limitsAnAttemptToTheJobsDeadline() {
+        var limiter = limiter(Duration.ofSeconds(10));
+        var job = job();
+        job.setDeadline(Instant.now().plusMillis(50));
+        var start = System.nanoTime();
+
+        assertThatThrownBy(() -> limiter.callBlocking(job, () -> sleep(5_000)))
+                .isInstanceOf(IOTimeoutException.class)
+                .hasMessageContaining("deadline reached during");
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+    }
+
+    @Test
+    void failsBeforeStartingWhenTheDeadlineHasPassed() {
+        var limiter = limiter(ATTEMPT_TIMEOUT);
+        var job = job();
+        job.setDeadline(Instant.now().minusMillis(1));
+        var started = new AtomicInteger();
+
+        assertThatThrownBy(() -> limiter.callBlocking(job, started::incrementAndGet))
+                .isInstanceOf(IOTimeoutException.class)
+                .hasMessageContaining("deadline reached before");
+        assertThat(started).hasValue(0);
+    }
+
+    @Test
+    void completesWithANonBlockingAttemptThatFinishesInTime() throws Exception {
+        var limiter = limiter(ATTEMPT_TIMEOUT);
+        var source = new CompletableFuture<String>();
+
+        var result = limiter.call(job(), () -> source);
+        source.complete("ok");
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(timer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void failsAndCancelsALateNonBlockingAttempt() {
+        var limiter = limiter(ATTEMPT_TIMEOUT);
+        var source = new CompletableFuture<String>();
+
+        var result = limiter.call(job(), () -> source);
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IOTimeoutException.class);
+        // The timer fails the result before it cancels the source
+        assertThat(source).failsWithin(Duration.ofSeconds(1)).withThrowableOfType(CancellationException.class);
+    }
+
+    private IOTimeLimiter limiter(Duration timeout) {
+        var config = TimeLimiterConfig.custom()
+                .timeoutDuration(timeout)
+                .cancelRunningFuture(true)
+                .build();
+        return new IOTimeLimiter(TimeLimiterRegistry.of(config), timer);
+    }
+
+    private static Job job() {
+        return new Job(1L, "io", "payload", ExecutionMode.THREAD_POOL);
+    }
+
+    private static String sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+        return "ok";
+    }
+}
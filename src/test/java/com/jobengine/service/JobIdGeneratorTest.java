@@ -0,0 +1,105 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JobIdGenerator}: keys strictly increase, never repeat across threads and
+ * carry the node id; ids follow the configured scheme.
+ *
+ * @author gsk
+ */
+class JobIdGeneratorTest {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long NODE_MASK = (1L << 10) - 1;
+
+    @Test
+    void keysStrictlyIncreaseAcrossSequenceOverflow() {
+        var generator = generator("SNOWFLAKE", 7);
+
+        // Far more than 4096 keys per millisecond, so the sequence overflows repeatedly
+        var previous = generator.nextKey();
+        for (int i = 0; i < 100_000; i++) {
+            var key = generator.nextKey();
+            assertThat(key).isGreaterThan(previous);
+            previous = key;
+        }
+    }
+
+    @Test
+    void keysAreUniqueAcrossThreads() throws Exception {
+        var generator = generator("SNOWFLAKE", 0);
+        var threads = 8;
+        var perThread = 20_000;
+
+        var tasks = new ArrayList<Callable<List<Long>>>();
+        for (int t = 0; t < threads; t++) {
+            tasks.add(() -> {
+                var keys = new ArrayList<Long>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    keys.add(generator.nextKey());
+                }
+                return keys;
+            });
+        }
+
+        var unique = new HashSet<Long>();
+        try (var pool = Executors.newFixedThreadPool(threads)) {
+            for (var result : pool.invokeAll(tasks)) {
+                var keys = result.get();
+                for (int i = 1; i < keys.size(); i++) {
+                    assertThat(keys.get(i)).isGreaterThan(keys.get(i - 1));
+                }
+                unique.addAll(keys);
+            }
+        }
+
+        assertThat(unique).hasSize(threads * perThread);
+    }
+
+    @Test
+    void keysCarryTheNodeId() {
+        var key = generator("SNOWFLAKE", 1023).nextKey();
+
+        assertThat((key >>> SEQUENCE_BITS) & NODE_MASK).isEqualTo(1023);
+        assertThat(key).isPositive();
+    }
+
+    @Test
+    void snowflakeIdsRoundTripToTheirKey() {
+        var job = generator("SNOWFLAKE", 3).newJob("job", "payload", ExecutionMode.ASYNC);
+
+        assertThat(job.hasExternalId()).isFalse();
+        assertThat(Job.parseKey(job.getId())).hasValue(job.getKey());
+    }
+
+    @Test
+    void uuidIdsAreExternal() {
+        var job = generator("UUID", 3).newJob("job", "payload", ExecutionMode.ASYNC);
+
+        assertThat(job.hasExternalId()).isTrue();
+        assertThat(job.getId()).hasSize(36);
+    }
+
+    private static JobIdGenerator generator(String scheme, int nodeId) {
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "job-engine.ids.scheme", scheme,
+                "job-engine.ids.node-id", String.valueOf(nodeId))))
+                .bindOrCreate("job-engine", JobEngineProperties.class);
+        return new JobIdGenerator(properties);
+    }
+}
@@ -0,0 +1,111 @@
+package com.jobengine.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link JobIngestionService}: per-record outcomes, the summary line and where a
+ * malformed record aborts the stream.
+ *
+ * @author gsk
+ */
+class JobIngestionServiceTest {
+
+    private static final String VALID = """
+            {"name":"job","payload":"data","executionMode":"THREAD_POOL"}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final JobService jobService = mock(JobService.class);
+    private final AtomicLong keys = new AtomicLong();
+    private JobIngestionService ingestion;
+
+    @BeforeEach
+    void setUp() {
+        when(jobService.submitJob(anyString(), anyString(), any(), any(), any(), any()))
+                .thenAnswer(call -> new Job(keys.incrementAndGet(), call.getArgument(0), call.getArgument(1),
+                        call.getArgument(2)));
+        when(jobService.getResultFuture(anyString())).thenReturn(Optional.empty());
+
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of()))
+                .bindOrCreate("job-engine", JobEngineProperties.class);
+        ingestion = new JobIngestionService(jobService, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), properties);
+    }
+
+    @Test
+    void acceptsEveryValidRecord() throws IOException {
+        var lines = ingest(VALID + "\n" + VALID + "\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).containsEntry("line", 1).containsKey("id");
+        assertThat(lines.get(1)).containsEntry("line", 2).containsKey("id");
+        assertThat(lines.get(2)).containsEntry("accepted", 2).containsEntry("rejected", 0);
+    }
+
+    @Test
+    void rejectsAnInvalidRecordAndGoesOn() throws IOException {
+        var lines = ingest(VALID + "\n{\"name\":\"job\",\"payload\":\"\",\"executionMode\":\"ASYNC\"}\n" + VALID);
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(1)).containsEntry("line", 2).containsKey("error");
+        assertThat(lines.get(2)).containsEntry("line", 3).containsKey("id");
+        assertThat(lines.get(3)).containsEntry("accepted", 2).containsEntry("rejected", 1);
+    }
+
+    @Test
+    void namesTheMalformedRecordThatAbortsTheStream() throws IOException {
+        var lines = ingest(VALID + "\nnot-json\n" + VALID + "\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).containsEntry("line", 1).containsKey("id");
+        assertThat(lines.get(1)).containsEntry("line", 2);
+        assertThat((String) lines.get(1).get("error")).startsWith("Malformed JSON, stream aborted");
+        assertThat(lines.get(2)).containsEntry("accepted", 1).containsEntry("rejected", 1);
+    }
+
+    @Test
+    void namesAMalformedRecordThatAbortsMidObject() throws IOException {
+        var lines = ingest(VALID + "\n{\"name\": oops}\n" + VALID + "\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(1)).containsEntry("line", 2).containsKey("error");
+        assertThat(lines.get(2)).containsEntry("accepted", 1).containsEntry("rejected", 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> ingest(String body) throws IOException {
+        var out = new ByteArrayOutputStream();
+        ingestion.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+        return out.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> {
+                    try {
+                        return (Map<String, Object>) objectMapper.readValue(line, Map.class);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,174 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.exception.JobRejectedException;
+import com.jobengine.executor.AsyncJobExecutor;
+import com.jobengine.executor.ForkJoinJobExecutor;
+import com.jobengine.executor.HybridJobExecutor;
+import com.jobengine.executor.JobExecutor;
+import com.jobengine.executor.ReactiveJobExecutor;
+import com.jobengine.executor.SequentialJobExecutor;
+import com.jobengine.executor.ThreadPoolJobExecutor;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobPriority;
+import com.jobengine.model.JobResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link JobService} with mocked stores and executors: which priorities each mode
+ * accepts, what batches default to, how a refused submission is rolled back and which thread
+ * timer-driven jobs start on. THREAD_POOL is the only mode ordering jobs by priority,
+ * SEQUENTIAL the only one running on the caller.
+ *
+ * @author gsk
+ */
+class JobServiceTest {
+
+    private final JobStore jobStore = mock(JobStore.class);
+    private final AdmissionController admission = mock(AdmissionController.class);
+    private final JobScheduler scheduler = mock(JobScheduler.class);
+    private final SequentialJobExecutor sequential = mock(SequentialJobExecutor.class);
+    private final ThreadPoolJobExecutor threadPool = mock(ThreadPoolJobExecutor.class);
+    private final AsyncJobExecutor async = mock(AsyncJobExecutor.class);
+    private final ForkJoinJobExecutor forkJoin = mock(ForkJoinJobExecutor.class);
+    private final HybridJobExecutor hybrid = mock(HybridJobExecutor.class);
+    private final ReactiveJobExecutor reactive = mock(ReactiveJobExecutor.class);
+    private final ExecutorService handOffExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        for (JobExecutor executor : List.of(sequential, threadPool, async, forkJoin, hybrid, reactive)) {
+            when(executor.execute(any())).thenReturn(new CompletableFuture<>());
+            when(executor.executeAll(any())).thenAnswer(call -> ((List<?>) call.getArgument(0)).stream()
+                    .map(job -> new CompletableFuture<JobResult>())
+                    .toList());
+        }
+        when(threadPool.ordersByPriority()).thenReturn(true);
+        when(sequential.runsOnCaller()).thenReturn(true);
+
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of()))
+                .bindOrCreate("job-engine", JobEngineProperties.class);
+        jobService = new JobService(jobStore, mock(BatchStore.class), admission, scheduler,
+                new JobIdGenerator(properties), sequential, threadPool, async, forkJoin, hybrid, reactive,
+                handOffExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        handOffExecutor.shutdownNow();
+    }
+
+    @Test
+    void refusesAPriorityTheModeWouldIgnore() {
+        assertThatThrownBy(() -> submit(ExecutionMode.SEQUENTIAL, JobPriority.HIGH))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no effect in SEQUENTIAL mode");
+
+        verifyNoInteractions(admission, jobStore);
+        verify(sequential, never()).execute(any());
+    }
+
+    @Test
+    void acceptsAnyPriorityWhereJobsAreOrdered() {
+        assertThat(submit(ExecutionMode.THREAD_POOL, JobPriority.HIGH).getPriority()).isEqualTo(JobPriority.HIGH);
+        assertThat(submit(ExecutionMode.THREAD_POOL, JobPriority.LOW).getPriority()).isEqualTo(JobPriority.LOW);
+    }
+
+    @Test
+    void acceptsNormalPriorityInEveryMode() {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            assertThat(submit(mode, JobPriority.NORMAL).getPriority()).isEqualTo(JobPriority.NORMAL);
+        }
+    }
+
+    @Test
+    void batchesDefaultToLowOnlyWhereJobsAreOrdered() {
+        assertThat(jobService.submitBatch(3, ExecutionMode.THREAD_POOL, null).getPriority())
+                .isEqualTo(JobPriority.LOW);
+        assertThat(jobService.submitBatch(3, ExecutionMode.FORK_JOIN, null).getPriority())
+                .isEqualTo(JobPriority.NORMAL);
+    }
+
+    @Test
+    void allModesBatchRefusesAnIgnoredPriorityBeforeAdmittingAnything() {
+        assertThatThrownBy(() -> jobService.submitBatchAllModes(1, JobPriority.LOW))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(admission, never()).admitAllModes(anyInt());
+    }
+
+    @Test
+    void rollsBackASubmissionItsExecutorRefuses() {
+        when(async.execute(any())).thenThrow(new RejectedExecutionException("full"));
+
+        assertThatThrownBy(() -> submit(ExecutionMode.ASYNC, JobPriority.NORMAL))
+                .isInstanceOf(JobRejectedException.class);
+
+        verify(admission).admit(ExecutionMode.ASYNC, 1);
+        verify(admission).recordShed(ExecutionMode.ASYNC);
+        verify(admission).release(ExecutionMode.ASYNC);
+        verify(jobStore).remove(any());
+    }
+
+    @Test
+    void startsADueSequentialJobOffTheTimerThread() throws Exception {
+        var dispatch = new CompletableFuture<Runnable>();
+        when(scheduler.schedule(any(), any())).thenAnswer(call -> {
+            dispatch.complete(call.getArgument(1));
+            return null;
+        });
+        var executedOn = new CompletableFuture<Thread>();
+        when(sequential.execute(any())).thenAnswer(call -> {
+            executedOn.complete(Thread.currentThread());
+            return new CompletableFuture<>();
+        });
+
+        jobService.submitJob("job", "payload", ExecutionMode.SEQUENTIAL, JobPriority.NORMAL, null,
+                Instant.now().plusSeconds(60));
+        dispatch.get(1, TimeUnit.SECONDS).run();
+
+        assertThat(executedOn.get(1, TimeUnit.SECONDS)).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void detachedSubmissionDoesNotRunASequentialJobOnTheCaller() throws Exception {
+        var executedOn = new CompletableFuture<Thread>();
+        when(sequential.execute(any())).thenAnswer(call -> {
+            executedOn.complete(Thread.currentThread());
+            return new CompletableFuture<>();
+        });
+
+        jobService.submitJobDetached("job", "payload", ExecutionMode.SEQUENTIAL, JobPriority.NORMAL, null);
+
+        assertThat(executedOn.get(1, TimeUnit.SECONDS)).isNotSameAs(Thread.currentThread());
+    }
+
+    private Job submit(ExecutionMode mode, JobPriority priority) {
+        return jobService.submitJob("job", "payload", mode, priority, null, null);
+    }
+}
@@ -0,0 +1,135 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobResult;
+import com.jobengine.model.JobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link JobStore}: the status, mode and creation indexes as jobs change status,
+ * finish, are evicted or are cleared while in flight.
+ *
+ * @author gsk
+ */
+class JobStoreTest {
+
+    private final AtomicLong keys = new AtomicLong();
+
+    @Test
+    void statusIndexFollowsTransitions() {
+        var store = store(100);
+        var job = save(store, ExecutionMode.THREAD_POOL);
+
+        assertThat(store.findByStatus(JobStatus.PENDING)).containsExactly(job);
+
+        job.setStatus(JobStatus.RUNNING);
+
+        assertThat(store.findByStatus(JobStatus.PENDING)).isEmpty();
+        assertThat(store.findByStatus(JobStatus.RUNNING)).containsExactly(job);
+        assertThat(store.findPage(JobStatus.RUNNING, null, null, 10)).containsExactly(job);
+        assertThat(store.findPage(JobStatus.PENDING, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void completedJobMovesToTheTerminalTierAndStaysIndexed() {
+        var store = store(100);
+        var job = save(store, ExecutionMode.ASYNC);
+
+        complete(store, job);
+
+        assertThat(store.activeSize()).isZero();
+        assertThat(store.terminalSize()).isEqualTo(1);
+        assertThat(store.findResult(job.getId())).isPresent();
+        assertThat(store.findByStatus(JobStatus.COMPLETED)).containsExactly(job);
+        assertThat(store.findByMode(ExecutionMode.ASYNC)).containsExactly(job);
+    }
+
+    @Test
+    void pagesFollowCreationOrder() {
+        var store = store(100);
+        var first = save(store, ExecutionMode.ASYNC);
+        var second = save(store, ExecutionMode.THREAD_POOL);
+        var third = save(store, ExecutionMode.ASYNC);
+
+        assertThat(store.findPage(null, null, null, 2)).containsExactly(first, second);
+        assertThat(store.findPage(null, null, second.getKey(), 2)).containsExactly(third);
+        assertThat(store.findPage(null, ExecutionMode.ASYNC, first.getKey(), 10)).containsExactly(third);
+    }
+
+    @Test
+    void evictedJobsLeaveEveryIndex() throws InterruptedException {
+        var store = store(1);
+        for (int i = 0; i < 20; i++) {
+            complete(store, save(store, ExecutionMode.SEQUENTIAL));
+        }
+
+        // Caffeine evicts and notifies asynchronously
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while ((store.terminalSize() > 1 || store.findByMode(ExecutionMode.SEQUENTIAL).size() > 1)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(store.terminalSize()).isEqualTo(1);
+        assertThat(store.findByMode(ExecutionMode.SEQUENTIAL)).hasSize(1);
+        assertThat(store.findByStatus(JobStatus.COMPLETED)).hasSize(1);
+        assertThat(store.findPage(null, null, null, 100)).hasSize(1);
+    }
+
+    @Test
+    void removedJobLeavesEveryIndex() {
+        var store = store(100);
+        var job = save(store, ExecutionMode.HYBRID);
+
+        store.remove(job);
+
+        assertThat(store.findJob(job.getId())).isEmpty();
+        assertThat(store.findByMode(ExecutionMode.HYBRID)).isEmpty();
+        assertThat(store.findByStatus(JobStatus.PENDING)).isEmpty();
+    }
+
+    @Test
+    void dropsTheResultOfAJobClearedWhileInFlight() {
+        var store = store(100);
+        var job = save(store, ExecutionMode.THREAD_POOL);
+        job.setStatus(JobStatus.RUNNING);
+
+        store.clear();
+        complete(store, job);
+
+        assertThat(store.terminalSize()).isZero();
+        assertThat(store.findJob(job.getId())).isEmpty();
+        assertThat(store.findResult(job.getId())).isEmpty();
+        assertThat(store.findByStatus(JobStatus.COMPLETED)).isEmpty();
+    }
+
+    private Job save(JobStore store, ExecutionMode mode) {
+        var job = new Job(keys.incrementAndGet(), "job", "payload", mode);
+        store.save(job);
+        return job;
+    }
+
+    private static void complete(JobStore store, Job job) {
+        job.setStatus(JobStatus.COMPLETED);
+        store.complete(JobResult.success(job, "done", Duration.ZERO));
+    }
+
+    private static JobStore store(int maxTerminalEntries) {
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "job-engine.storage.max-terminal-entries", String.valueOf(maxTerminalEntries),
+                "job-engine.storage.terminal-ttl-seconds", "600")))
+                .bindOrCreate("job-engine", JobEngineProperties.class);
+        return new JobStore(properties, mock(MetricsService.class));
+    }
+}
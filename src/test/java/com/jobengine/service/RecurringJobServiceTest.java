@@ -0,0 +1,112 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.executor.timer.Timeout;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import com.jobengine.model.JobPriority;
+import com.jobengine.model.JobStatus;
+import com.jobengine.model.OverlapPolicy;
+import com.jobengine.model.RecurringJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link RecurringJobService}: when the next fire is armed and how SKIP sees the
+ * previous instance. Fires are run by hand from the tasks handed to the scheduler.
+ *
+ * @author gsk
+ */
+class RecurringJobServiceTest {
+
+    private final JobService jobService = mock(JobService.class);
+    private final JobScheduler scheduler = mock(JobScheduler.class);
+    private final List<Runnable> fires = new ArrayList<>();
+    private final List<Job> submitted = new ArrayList<>();
+    private RecurringJobService service;
+
+    @BeforeEach
+    void setUp() {
+        when(scheduler.schedule(any(), any())).thenAnswer(call -> {
+            fires.add(call.getArgument(1));
+            return mock(Timeout.class);
+        });
+        when(jobService.submitJobDetached(anyString(), anyString(), any(), any(), any())).thenAnswer(call -> {
+            var job = new Job(submitted.size() + 1, call.getArgument(0), call.getArgument(1), call.getArgument(2));
+            submitted.add(job);
+            return job;
+        });
+
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of()))
+                .bindOrCreate("job-engine", JobEngineProperties.class);
+        service = new RecurringJobService(jobService, scheduler, new JobIdGenerator(properties),
+                mock(MetricsService.class), properties);
+    }
+
+    @Test
+    void armsTheNextFireBeforeSubmitting() {
+        var armedAtSubmission = new AtomicInteger();
+        when(jobService.submitJobDetached(anyString(), anyString(), any(), any(), any())).thenAnswer(call -> {
+            armedAtSubmission.set(fires.size());
+            return new Job(1, call.getArgument(0), call.getArgument(1), call.getArgument(2));
+        });
+        var definition = create(OverlapPolicy.ALLOW);
+        var firstFireAt = definition.getNextFireAt();
+
+        fires.getFirst().run();
+
+        assertThat(armedAtSubmission).hasValue(2);
+        assertThat(definition.getNextFireAt()).isEqualTo(firstFireAt.plusSeconds(1));
+        assertThat(definition.getSubmitted()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsAFireWhileThePreviousInstanceIsInFlight() {
+        var definition = create(OverlapPolicy.SKIP);
+
+        fires.get(0).run();
+        fires.get(1).run();
+
+        assertThat(definition.getSubmitted()).isEqualTo(1);
+        assertThat(definition.getSkipped()).isEqualTo(1);
+        assertThat(fires).hasSize(3);
+
+        submitted.getFirst().setStatus(JobStatus.COMPLETED);
+        fires.get(2).run();
+
+        assertThat(definition.getSubmitted()).isEqualTo(2);
+        verify(jobService, times(2)).submitJobDetached(anyString(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    void allowsOverlappingInstances() {
+        var definition = create(OverlapPolicy.ALLOW);
+
+        fires.get(0).run();
+        fires.get(1).run();
+
+        assertThat(definition.getSubmitted()).isEqualTo(2);
+        assertThat(definition.getSkipped()).isZero();
+    }
+
+    private RecurringJob create(OverlapPolicy overlapPolicy) {
+        return service.create("tick", "payload", ExecutionMode.SEQUENTIAL, JobPriority.NORMAL,
+                null, Duration.ofSeconds(1), overlapPolicy);
+    }
+}
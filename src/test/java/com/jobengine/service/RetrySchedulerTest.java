@@ -0,0 +1,185 @@
+package com.jobengine.service;
+
+import com.jobengine.config.JobEngineProperties;
+import com.jobengine.exception.CircuitOpenException;
+import com.jobengine.exception.IOSimulationException;
+import com.jobengine.exception.IOTimeoutException;
+import com.jobengine.executor.timer.Timeout;
+import com.jobengine.model.ExecutionMode;
+import com.jobengine.model.Job;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link RetryScheduler}: retries armed on the scheduler, and the three ways a
+ * retry is refused - an empty retry budget, a backoff past the job's deadline and an open
+ * circuit breaker. Backoffs expire as soon as they are armed.
+ *
+ * @author gsk
+ */
+class RetrySchedulerTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration BACKOFF = Duration.ofMillis(200);
+
+    private final JobScheduler scheduler = mock(JobScheduler.class);
+    private final MetricsService metricsService = mock(MetricsService.class);
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .build());
+    private final AtomicLong keys = new AtomicLong();
+
+    @Test
+    void retriesUntilAnAttemptSucceeds() throws Exception {
+        var retries = retryScheduler(true, 10);
+        var job = job();
+
+        var result = retries.call(job, Runnable::run, failing(new AtomicInteger(2)));
+
+        assertThat(result.get()).isEqualTo("ok");
+        assertThat(job.getAttempts()).isEqualTo(3);
+        verify(scheduler, times(2)).schedule(any(), any());
+    }
+
+    @Test
+    void givesUpOnceTheAttemptsAreExhausted() {
+        var retries = retryScheduler(false, 10);
+        var job = job();
+
+        var result = retries.call(job, Runnable::run, failing(new AtomicInteger(MAX_ATTEMPTS)));
+
+        assertThatThrownBy(result::get).hasCauseInstanceOf(IOSimulationException.class)
+                .hasMessageContaining("failed after 3 attempts");
+        assertThat(job.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void refusesARetryOnceTheBudgetIsEmpty() throws Exception {
+        var retries = retryScheduler(true, 1);
+
+        // The first job spends the only token on its retry
+        assertThat(retries.call(job(), Runnable::run, failing(new AtomicInteger(1))).get()).isEqualTo("ok");
+
+        var job = job();
+        var result = retries.call(job, Runnable::run, failing(new AtomicInteger(1)));
+
+        assertThatThrownBy(result::get).hasCauseInstanceOf(IOSimulationException.class)
+                .hasMessageContaining("Retry budget exhausted after 1 attempt");
+        assertThat(job.getAttempts()).isEqualTo(1);
+        verify(metricsService).recordRetryBudgetDenied(ExecutionMode.THREAD_POOL);
+        verify(scheduler, times(1)).schedule(any(), any());
+    }
+
+    @Test
+    void refusesARetryWhoseBackoffEndsPastTheDeadline() {
+        var retries = retryScheduler(true, 10);
+        var job = job();
+        job.setDeadline(Instant.now().plus(BACKOFF.dividedBy(2)));
+
+        var result = retries.call(job, Runnable::run, failing(new AtomicInteger(1)));
+
+        assertThatThrownBy(result::get).hasCauseInstanceOf(IOTimeoutException.class)
+                .hasMessageContaining("Job deadline reached after 1 attempt");
+        assertThat(job.getAttempts()).isEqualTo(1);
+        verify(scheduler, never()).schedule(any(), any());
+    }
+
+    @Test
+    void failsWithoutAnAttemptWhileTheCircuitIsOpen() {
+        var retries = retryScheduler(true, 10);
+        circuitBreakers.circuitBreaker("ioSimulator").transitionToOpenState();
+        var job = job();
+        var attempted = new AtomicInteger();
+
+        var result = retries.call(job, Runnable::run, () -> {
+            attempted.incrementAndGet();
+            return CompletableFuture.completedFuture("ok");
+        });
+
+        assertThatThrownBy(result::get).hasCauseInstanceOf(CircuitOpenException.class);
+        assertThat(attempted).hasValue(0);
+        assertThat(job.getAttempts()).isZero();
+        verify(metricsService).recordCircuitRejected(ExecutionMode.THREAD_POOL);
+    }
+
+    @Test
+    void stopsRetryingOnceFailuresOpenTheCircuit() {
+        var retries = retryScheduler(false, 10);
+        var job = job();
+
+        // Every attempt fails: after the fourth the failure rate opens the circuit
+        var result = retries.call(job, Runnable::run, failing(new AtomicInteger(Integer.MAX_VALUE)));
+        var second = job();
+        var secondResult = retries.call(second, Runnable::run, failing(new AtomicInteger(Integer.MAX_VALUE)));
+
+        assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class);
+        assertThatThrownBy(secondResult::get).hasCauseInstanceOf(CircuitOpenException.class)
+                .hasMessageContaining("Retry not attempted after 1 attempt");
+        assertThat(job.getAttempts() + second.getAttempts()).isEqualTo(4);
+    }
+
+    /**
+     * Attempts that fail while {@code failures} is positive, then succeed.
+     */
+    private static Supplier<CompletableFuture<String>> failing(AtomicInteger failures) {
+        return () -> failures.getAndDecrement() > 0
+                ? CompletableFuture.failedFuture(new IOSimulationException("down", null))
+                : CompletableFuture.completedFuture("ok");
+    }
+
+    private Job job() {
+        return new Job(keys.incrementAndGet(), "io", "payload", ExecutionMode.THREAD_POOL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RetryScheduler retryScheduler(boolean budget, int maxTokens) {
+        when(scheduler.schedule(any(), any())).thenAnswer(call -> {
+            ((Runnable) call.getArgument(1)).run();
+            return mock(Timeout.class);
+        });
+        var timeLimiter = mock(IOTimeLimiter.class);
+        when(timeLimiter.call(any(), any())).thenAnswer(call -> ((Supplier<?>) call.getArgument(1)).get());
+        var hedger = mock(IOHedger.class);
+        when(hedger.call(any(), any())).thenAnswer(call -> ((Supplier<?>) call.getArgument(1)).get());
+
+        var retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(MAX_ATTEMPTS)
+                .waitDuration(BACKOFF)
+                .retryExceptions(IOSimulationException.class)
+                .build());
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "job-engine.retry-budget.enabled", String.valueOf(budget),
+                "job-engine.retry-budget.ratio", "0",
+                "job-engine.retry-budget.max-tokens", String.valueOf(maxTokens))))
+                .bindOrCreate("job-engine", JobEngineProperties.class);
+        return new RetryScheduler(retryRegistry, circuitBreakers, scheduler, metricsService,
+                timeLimiter, hedger, properties);
+    }
+}
@@ -0,0 +1,80 @@
+package com.jobengine.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SegmentedSievePrimeCounter} against {@link TrialDivisionPrimeCounter} and
+ * known prime counts, on random ranges and on the edges: empty and reversed ranges, ranges
+ * around 2, segment boundaries and the top of the {@code int} range.
+ *
+ * @author gsk
+ */
+class SegmentedSievePrimeCounterTest {
+
+    /** Odd numbers covered by one segment. */
+    private static final int SEGMENT_SPAN = 2 * 32 * 1024 * 8;
+
+    private final PrimeCounter sieve = new SegmentedSievePrimeCounter();
+    private final PrimeCounter trialDivision = new TrialDivisionPrimeCounter();
+
+    @Test
+    void matchesKnownPrimeCounts() {
+        assertThat(sieve.countPrimes(0, 10)).isEqualTo(4);
+        assertThat(sieve.countPrimes(1, 1_000_000)).isEqualTo(78_498);
+        assertThat(sieve.countPrimes(2, 10_000_000)).isEqualTo(664_579);
+    }
+
+    @Test
+    void matchesTrialDivisionOnRandomRanges() {
+        var random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            var from = random.nextInt(2_000_000);
+            var to = from + random.nextInt(50_000);
+            assertThat(sieve.countPrimes(from, to)).as("[%d, %d]", from, to)
+                    .isEqualTo(trialDivision.countPrimes(from, to));
+        }
+    }
+
+    @Test
+    void matchesTrialDivisionOnSmallRanges() {
+        for (int from = -3; from <= 40; from++) {
+            for (int to = from - 1; to <= 60; to++) {
+                assertThat(sieve.countPrimes(from, to)).as("[%d, %d]", from, to)
+                        .isEqualTo(trialDivision.countPrimes(from, to));
+            }
+        }
+    }
+
+    @Test
+    void countsEmptyAndDegenerateRangesAsZero() {
+        assertThat(sieve.countPrimes(10, 5)).isZero();
+        assertThat(sieve.countPrimes(-100, 1)).isZero();
+        assertThat(sieve.countPrimes(24, 28)).isZero();
+        assertThat(sieve.countPrimes(2, 2)).isEqualTo(1);
+        assertThat(sieve.countPrimes(3, 3)).isEqualTo(1);
+    }
+
+    @Test
+    void matchesTrialDivisionAcrossSegmentBoundaries() {
+        for (int boundary : new int[] {3 + SEGMENT_SPAN, 3 + 2 * SEGMENT_SPAN}) {
+            for (int from : new int[] {boundary - 101, boundary - 1, boundary, boundary + 1}) {
+                var to = from + 200;
+                assertThat(sieve.countPrimes(from, to)).as("[%d, %d]", from, to)
+                        .isEqualTo(trialDivision.countPrimes(from, to));
+            }
+        }
+    }
+
+    @Test
+    void matchesTrialDivisionAtTheTopOfTheIntRange() {
+        var from = Integer.MAX_VALUE - 1_000;
+
+        assertThat(sieve.countPrimes(from, Integer.MAX_VALUE))
+                .isEqualTo(trialDivision.countPrimes(from, Integer.MAX_VALUE));
+        assertThat(sieve.countPrimes(Integer.MAX_VALUE, Integer.MAX_VALUE)).isEqualTo(1);
+    }
+}